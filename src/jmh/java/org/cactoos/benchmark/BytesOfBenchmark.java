@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TeeInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link BytesOf}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BytesOfBenchmark {
+
+    /**
+     * Size of the input, in bytes.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * The data.
+     */
+    private byte[] data;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        this.data = new byte[this.size];
+        new Random(0L).nextBytes(this.data);
+    }
+
+    /**
+     * Read the input with {@link BytesOf}.
+     * @return Bytes read
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] cactoos() throws Exception {
+        return new BytesOf(
+            new InputOf(new ByteArrayInputStream(this.data))
+        ).asBytes();
+    }
+
+    /**
+     * Read the input with {@link BytesOf}, when its size is unknown.
+     * @return Bytes read
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] cactoosUnsized() throws Exception {
+        return new BytesOf(
+            new InputOf(
+                Channels.newInputStream(
+                    Channels.newChannel(new ByteArrayInputStream(this.data))
+                )
+            )
+        ).asBytes();
+    }
+
+    /**
+     * Read the input the way {@link BytesOf} used to, copying it with
+     * {@link TeeInput} into a growing {@link ByteArrayOutputStream}.
+     * @return Bytes read
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream();
+            InputStream input = new TeeInput(
+                new InputOf(new ByteArrayInputStream(this.data)),
+                new OutputTo(output)
+            ).stream()) {
+            final byte[] buf = new byte[16 << 10];
+            while (true) {
+                if (input.read(buf) < 0) {
+                    break;
+                }
+            }
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * Read the input with plain JDK streams.
+     * @return Bytes read
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] baseline() throws Exception {
+        try (InputStream input = new ByteArrayInputStream(this.data);
+            ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            final byte[] buf = new byte[16 << 10];
+            while (true) {
+                final int len = input.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                output.write(buf, 0, len);
+            }
+            return output.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.cactoos.bytes.HexOf;
+import org.cactoos.io.BytesOf;
+import org.cactoos.io.DeadOutputStream;
+import org.cactoos.io.HexInput;
+import org.cactoos.io.HexOutput;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TeeInput;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link HexOf}, {@link org.cactoos.text.HexOf},
+ * {@link HexInput} and {@link HexOutput}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HexBenchmark {
+
+    /**
+     * Amount of bytes in the payload.
+     */
+    @Param({"1024", "104857600"})
+    public int size;
+
+    /**
+     * The payload.
+     */
+    private byte[] bytes;
+
+    /**
+     * The payload in hexadecimal digits.
+     */
+    private String digits;
+
+    /**
+     * Prepare the data.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.bytes = new byte[this.size];
+        new Random(0L).nextBytes(this.bytes);
+        this.digits = new org.cactoos.text.HexOf(
+            new BytesOf(this.bytes)
+        ).asString();
+    }
+
+    /**
+     * Decode with {@link HexOf}.
+     * @return Number of bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public int decode() throws Exception {
+        final String hex = this.digits;
+        final Text text = () -> hex;
+        return new HexOf(text).asBytes().length;
+    }
+
+    /**
+     * Decode with {@link HexInput}.
+     * @return Number of bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long decodeStream() throws Exception {
+        return new LengthOf(
+            new HexInput(
+                new InputOf(this.digits.getBytes(StandardCharsets.US_ASCII))
+            )
+        ).longValue();
+    }
+
+    /**
+     * Decode the way {@link HexOf} did before, boxing every digit.
+     * @return Number of bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public int decodeBaseline() throws Exception {
+        final String hex = this.digits;
+        final Iterator<Integer> iter = new Mapped<>(
+            c -> {
+                final int result = Character.digit(c, 16);
+                if (result == -1) {
+                    throw new IOException("Unexpected character");
+                }
+                return result;
+            },
+            hex.chars().mapToObj(c -> (char) c).iterator()
+        );
+        final byte[] result = new byte[hex.length() / 2];
+        int index = 0;
+        while (index < hex.length()) {
+            final int most = iter.next();
+            final int less = iter.next();
+            result[index >>> 1] = (byte) ((most << 4) + less);
+            index += 2;
+        }
+        return result.length;
+    }
+
+    /**
+     * Encode with {@link org.cactoos.text.HexOf}.
+     * @return Number of digits
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public int encode() throws Exception {
+        return new org.cactoos.text.HexOf(new BytesOf(this.bytes))
+            .asString().length();
+    }
+
+    /**
+     * Encode with {@link HexOutput}.
+     * @return Number of bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long encodeStream() throws Exception {
+        return new LengthOf(
+            new TeeInput(
+                new InputOf(this.bytes),
+                new HexOutput(new OutputTo(new DeadOutputStream()))
+            )
+        ).longValue();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@link Mapped}, {@link Filtered} and {@link Joined}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IterablesBenchmark {
+
+    /**
+     * Amount of elements.
+     */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /**
+     * The data.
+     */
+    private List<Integer> data;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        this.data = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.data.add(idx);
+        }
+    }
+
+    /**
+     * Iterate {@link Mapped}.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void mapped(final Blackhole hole) {
+        for (final Integer item : new Mapped<>(i -> i * 2, this.data)) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate a mapped list with a plain loop.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void mappedBaseline(final Blackhole hole) {
+        for (final Integer item : this.data) {
+            hole.consume(item * 2);
+        }
+    }
+
+    /**
+     * Iterate {@link Filtered}.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void filtered(final Blackhole hole) {
+        for (final Integer item : new Filtered<>(i -> i % 2 == 0, this.data)) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate a filtered list with a plain loop.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void filteredBaseline(final Blackhole hole) {
+        for (final Integer item : this.data) {
+            if (item % 2 == 0) {
+                hole.consume(item);
+            }
+        }
+    }
+
+    /**
+     * Iterate {@link Joined}.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void joined(final Blackhole hole) {
+        for (final Integer item : new Joined<>(this.data, this.data)) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Iterate two lists with plain loops.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void joinedBaseline(final Blackhole hole) {
+        for (final Integer item : this.data) {
+            hole.consume(item);
+        }
+        for (final Integer item : this.data) {
+            hole.consume(item);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.cactoos.list.Sticky;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link ListOf}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListOfBenchmark {
+
+    /**
+     * Amount of elements.
+     */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /**
+     * The data.
+     */
+    private Integer[] data;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        this.data = new Integer[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.data[idx] = idx;
+        }
+    }
+
+    /**
+     * Build a {@link ListOf} and read it.
+     * @return Sum of the elements
+     */
+    @Benchmark
+    public long cactoos() {
+        return ListOfBenchmark.sum(new ListOf<>(this.data));
+    }
+
+    /**
+     * Build an {@link ArrayList} and read it.
+     * @return Sum of the elements
+     */
+    @Benchmark
+    public long baseline() {
+        final List<Integer> list = new ArrayList<>(this.data.length);
+        for (final Integer item : this.data) {
+            list.add(item);
+        }
+        return ListOfBenchmark.sum(list);
+    }
+
+    /**
+     * Build a {@link Sticky} list and read it by index.
+     *
+     * <p>{@link Sticky} materializes into array-backed storage once, so
+     * every {@link List#get(int)} takes constant time. A plain
+     * {@link ListOf} would read its source again on every call.</p>
+     *
+     * @return Sum of the elements
+     */
+    @Benchmark
+    public long cactoosIndexed() {
+        return ListOfBenchmark.indexed(new Sticky<>(this.data));
+    }
+
+    /**
+     * Build an {@link ArrayList} and read it by index.
+     * @return Sum of the elements
+     */
+    @Benchmark
+    public long baselineIndexed() {
+        final List<Integer> list = new ArrayList<>(this.data.length);
+        for (final Integer item : this.data) {
+            list.add(item);
+        }
+        return ListOfBenchmark.indexed(list);
+    }
+
+    /**
+     * Sum all elements of the list, reading them by index.
+     * @param list The list
+     * @return The sum
+     */
+    private static long indexed(final List<Integer> list) {
+        long sum = 0L;
+        final int size = list.size();
+        for (int idx = 0; idx < size; ++idx) {
+            sum += list.get(idx);
+        }
+        return sum;
+    }
+
+    /**
+     * Sum all elements of the list, iterating it.
+     * @param list The list
+     * @return The sum
+     */
+    private static long sum(final List<Integer> list) {
+        long sum = 0L;
+        for (final Integer item : list) {
+            sum += item;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.cactoos.text.Replaced;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link Replaced}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReplacedBenchmark {
+
+    /**
+     * Amount of words in the text.
+     */
+    @Param({"16", "65536"})
+    public int size;
+
+    /**
+     * The text.
+     */
+    private String text;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder txt = new StringBuilder(this.size * 6);
+        for (int idx = 0; idx < this.size; ++idx) {
+            if (idx % 2 == 0) {
+                txt.append("hello ");
+            } else {
+                txt.append("world ");
+            }
+        }
+        this.text = txt.toString();
+    }
+
+    /**
+     * Replace with {@link Replaced}.
+     * @return The text
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String cactoos() throws Exception {
+        return new Replaced(
+            new TextOf(this.text), "world", "cactoos"
+        ).asString();
+    }
+
+    /**
+     * Replace many literals at once with {@link Replaced}.
+     * @return The text
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String cactoosMany() throws Exception {
+        return new Replaced(
+            new TextOf(this.text),
+            new MapOf<String, String>(
+                new MapEntry<>("hello", "hi"),
+                new MapEntry<>("world", "cactoos")
+            )
+        ).asString();
+    }
+
+    /**
+     * Replace many literals with chained
+     * {@link String#replaceAll(String, String)}.
+     * @return The text
+     */
+    @Benchmark
+    public String baselineMany() {
+        return this.text.replaceAll("hello", "hi")
+            .replaceAll("world", "cactoos");
+    }
+
+    /**
+     * Replace with {@link String#replaceAll(String, String)}.
+     * @return The text
+     */
+    @Benchmark
+    public String baseline() {
+        return this.text.replaceAll("world", "cactoos");
+    }
+}
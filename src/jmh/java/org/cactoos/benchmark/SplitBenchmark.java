@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.cactoos.text.Split;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link Split}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SplitBenchmark {
+
+    /**
+     * Amount of words in the text.
+     */
+    @Param({"16", "65536"})
+    public int size;
+
+    /**
+     * The text.
+     */
+    private String text;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder txt = new StringBuilder(this.size * 6);
+        for (int idx = 0; idx < this.size; ++idx) {
+            txt.append("word").append(idx % 10).append(',');
+        }
+        this.text = txt.toString();
+    }
+
+    /**
+     * Split all the words with {@link Split}.
+     * @return Number of words
+     */
+    @Benchmark
+    public int cactoos() {
+        int count = 0;
+        for (final Text word : new Split(new TextOf(this.text), ",")) {
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Take the first word with {@link Split}.
+     * @return The word
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String cactoosFirst() throws Exception {
+        return new Split(new TextOf(this.text), ",")
+            .iterator().next().asString();
+    }
+
+    /**
+     * Split all the words with {@link String#split(String)}.
+     * @return Number of words
+     */
+    @Benchmark
+    public int baseline() {
+        return this.text.split(",").length;
+    }
+
+    /**
+     * Take the first word with {@link String#split(String)}.
+     * @return The word
+     */
+    @Benchmark
+    public String baselineFirst() {
+        return this.text.split(",")[0];
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.func.StickyFunc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for {@link StickyFunc}.
+ *
+ * <p>Every invocation looks up all the keys, which were cached
+ * during the setup.</p>
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StickyFuncBenchmark {
+
+    /**
+     * Amount of cached keys.
+     */
+    @Param({"16", "65536"})
+    public int size;
+
+    /**
+     * The func.
+     */
+    private Func<Integer, Integer> func;
+
+    /**
+     * The map.
+     */
+    private Map<Integer, Integer> map;
+
+    /**
+     * Prepare the caches.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.func = new StickyFunc<>(i -> i * 2);
+        this.map = new HashMap<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.func.apply(idx);
+            this.map.computeIfAbsent(idx, i -> i * 2);
+        }
+    }
+
+    /**
+     * Look up with {@link StickyFunc}.
+     * @param hole Black hole
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public void cactoos(final Blackhole hole) throws Exception {
+        for (int idx = 0; idx < this.size; ++idx) {
+            hole.consume(this.func.apply(idx));
+        }
+    }
+
+    /**
+     * Look up with {@link Map#computeIfAbsent(Object, java.util.function.Function)}.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void baseline(final Blackhole hole) {
+        for (int idx = 0; idx < this.size; ++idx) {
+            hole.consume(this.map.computeIfAbsent(idx, i -> i * 2));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.SumOf;
+import org.cactoos.scalar.SumOfInThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link SumOf}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SumOfBenchmark {
+
+    /**
+     * Amount of numbers.
+     */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /**
+     * The numbers.
+     */
+    private List<Long> data;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        this.data = new ArrayList<>(this.size);
+        for (long idx = 0L; idx < this.size; ++idx) {
+            this.data.add(idx);
+        }
+    }
+
+    /**
+     * Sum with {@link SumOf}.
+     * @return The sum
+     */
+    @Benchmark
+    public long cactoos() {
+        return new SumOf(this.data).longValue();
+    }
+
+    /**
+     * Sum with {@link SumOf} in {@link java.math.BigDecimal}.
+     * @return The sum
+     */
+    @Benchmark
+    public long exact() {
+        return new SumOf(MathContext.DECIMAL128, this.data).longValue();
+    }
+
+    /**
+     * Sum with {@link SumOfInThreads}.
+     * @return The sum
+     */
+    @Benchmark
+    public long parallel() {
+        return new SumOfInThreads(this.data).longValue();
+    }
+
+    /**
+     * Sum with a plain loop.
+     * @return The sum
+     */
+    @Benchmark
+    public long baseline() {
+        long sum = 0L;
+        for (final Long item : this.data) {
+            sum += item;
+        }
+        return sum;
+    }
+}
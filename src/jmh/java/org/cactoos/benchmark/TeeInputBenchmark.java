@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TeeInput;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for {@link TeeInput}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TeeInputBenchmark {
+
+    /**
+     * Size of the input, in bytes.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * The data.
+     */
+    private byte[] data;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setup() {
+        this.data = new byte[this.size];
+        new Random(0L).nextBytes(this.data);
+    }
+
+    /**
+     * Copy the input with {@link TeeInput} and {@link LengthOf}.
+     * @return Bytes copied
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long cactoos() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        return new LengthOf(
+            new TeeInput(
+                new InputOf(new ByteArrayInputStream(this.data)),
+                new OutputTo(output)
+            )
+        ).longValue();
+    }
+
+    /**
+     * Copy the input with plain JDK streams.
+     * @return Bytes copied
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long baseline() throws Exception {
+        long total = 0L;
+        try (InputStream input = new ByteArrayInputStream(this.data);
+            ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            final byte[] buf = new byte[16 << 10];
+            while (true) {
+                final int len = input.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                output.write(buf, 0, len);
+                total += len;
+            }
+        }
+        return total;
+    }
+}
@@ -30,6 +30,10 @@ import org.cactoos.Bytes;
 /**
  * Decodes all origin bytes using the Base64 encoding scheme.
  *
+ * <p>The origin bytes and the result are held in memory. Use
+ * {@link org.cactoos.io.Base64Input} to decode a large payload as it
+ * is read.</p>
+ *
  * @since 0.20.2
  */
 public final class Base64Bytes implements Bytes {
@@ -30,6 +30,10 @@ import org.cactoos.Bytes;
 /**
  * Encodes all origin bytes using the Base64 encoding scheme.
  *
+ * <p>The origin bytes and the result are held in memory. Use
+ * {@link org.cactoos.io.Base64Output} to encode a large payload as it
+ * is written.</p>
+ *
  * @since 0.20.2
  */
 public final class BytesBase64 implements Bytes {
@@ -25,16 +25,17 @@
 package org.cactoos.bytes;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.Iterator;
 import org.cactoos.Bytes;
 import org.cactoos.Text;
-import org.cactoos.iterator.Mapped;
 import org.cactoos.text.FormattedText;
 
 /**
  * Decodes origin {@link Text} using the hexadecimal encoding scheme.
  *
+ * <p>The text is decoded in a single pass over its characters, without
+ * boxing or intermediate iterators. Use {@link org.cactoos.io.HexInput}
+ * to decode a stream that doesn't fit in memory.</p>
+ *
  * @since 0.30
  * @checkstyle MagicNumberCheck (500 lines)
  */
@@ -59,32 +60,31 @@ public final class HexOf implements Bytes {
         if ((hex.length() & 1) == 1) {
             throw new IOException("Length of hexadecimal text is odd");
         }
-        final Iterator<Integer> iter = new Mapped<>(
-            c -> {
-                final int result = Character.digit(c, 16);
-                if (result == -1) {
-                    throw new IOException(
-                        new FormattedText(
-                            "Unexpected character '%c'",
-                            c
-                        ).asString()
-                    );
-                }
-                return result;
-            },
-            hex.chars().mapToObj(c -> (char) c).iterator()
-        );
         final byte[] result = new byte[hex.length() / 2];
-        int index = 0;
-        while (index < hex.length()) {
-            try {
-                final int most = iter.next();
-                final int less = iter.next();
-                result[index >>> 1] = (byte) ((most << 4) + less);
-                index += 2;
-            } catch (final UncheckedIOException ex) {
-                throw ex.getCause();
-            }
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) (
+                this.digit(hex.charAt(index << 1)) << 4
+                    | this.digit(hex.charAt((index << 1) + 1))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Value of a hexadecimal digit.
+     * @param chr The digit
+     * @return The value
+     * @throws IOException If it's not a hexadecimal digit
+     */
+    private int digit(final char chr) throws IOException {
+        final int result = Character.digit(chr, 16);
+        if (result == -1) {
+            throw new IOException(
+                new FormattedText(
+                    "Unexpected character '%c'",
+                    chr
+                ).asString()
+            );
         }
         return result;
     }
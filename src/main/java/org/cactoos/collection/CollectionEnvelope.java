@@ -25,6 +25,7 @@ package org.cactoos.collection;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
 import org.cactoos.Scalar;
 import org.cactoos.iterator.Immutable;
 import org.cactoos.scalar.And;
@@ -36,6 +37,9 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Base collection.
  *
+ * <p>Its {@link #spliterator()} is the one of the encapsulated collection,
+ * so streams over it can be split as good as the source can.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  * @param <X> Element type
  * @since 0.23
@@ -77,6 +81,11 @@ public abstract class CollectionEnvelope<X> implements Collection<X> {
         return new Immutable<>(this.col.value().iterator());
     }
 
+    @Override
+    public final Spliterator<X> spliterator() {
+        return this.col.value().spliterator();
+    }
+
     @Override
     public final boolean contains(final Object object) {
         return this.col.value().contains(object);
@@ -24,8 +24,8 @@
 package org.cactoos.collection;
 
 import java.util.Collection;
-import java.util.LinkedList;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.Materialized;
 
 /**
  * Iterable as {@link Collection}.
@@ -60,13 +60,7 @@ public final class CollectionOf<T> extends CollectionEnvelope<T> {
      * @param src An {@link Iterable}
      */
     public CollectionOf(final Iterable<T> src) {
-        super(() -> {
-            final Collection<T> list = new LinkedList<>();
-            for (final T item : src) {
-                list.add(item);
-            }
-            return list;
-        });
+        super(() -> new Materialized<>(src).value());
     }
 
 }
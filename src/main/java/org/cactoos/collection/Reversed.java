@@ -25,9 +25,9 @@ package org.cactoos.collection;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.Materialized;
 
 /**
  * Reversed collection.
@@ -69,8 +69,7 @@ public final class Reversed<X> extends CollectionEnvelope<X> {
      */
     public Reversed(final Collection<X> src) {
         super(() -> {
-            final List<X> items = new LinkedList<>();
-            items.addAll(src);
+            final List<X> items = new Materialized<>(src).value();
             Collections.reverse(items);
             return items;
         });
@@ -62,7 +62,7 @@ public final class Solid<T> extends CollectionEnvelope<T> {
     public Solid(final Collection<T> src) {
         super(
             new org.cactoos.scalar.Solid<Collection<T>>(
-                () -> new Synced<T>(new Sticky<>(src))
+                () -> new Sticky<>(src)
             )
         );
     }
@@ -31,7 +31,8 @@ import org.cactoos.iterable.IterableOf;
 /**
  * Collection decorator that goes through the list only once.
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread-safe, the origin is read
+ * only once, by the first thread that needs it.</p>
  *
  * @param <E> Type of item
  * @since 0.16
@@ -25,8 +25,8 @@ package org.cactoos.collection;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.Materialized;
 
 /**
  * Iterable as {@link Collection}.
@@ -70,11 +70,9 @@ public final class Synced<T> extends CollectionEnvelope<T> {
     public Synced(final Collection<T> src) {
         super(
             new org.cactoos.scalar.Synced<>(
-                () -> {
-                    final Collection<T> temp = new LinkedList<>();
-                    temp.addAll(src);
-                    return Collections.synchronizedCollection(temp);
-                }
+                () -> Collections.synchronizedCollection(
+                    new Materialized<>(src).value()
+                )
             )
         );
     }
@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Results of tasks executed concurrently, in the order they complete.
+ *
+ * <p>Unlike {@link Threads}, which returns the results in the order
+ * of the tasks, this iterable returns every result as soon as its task
+ * is done, so the fastest tasks are never held back by the slowest
+ * one. Each iteration runs the tasks again.</p>
+ *
+ * <p>The iteration stops, cancelling the tasks still running, once
+ * {@code limit} results have been returned or the {@code deadline}
+ * has passed since the iteration started. A task that fails, or runs
+ * longer than the {@code timeout} since its submission, makes
+ * {@link Iterator#next()} throw
+ * {@link java.util.concurrent.CompletionException} with the cause,
+ * which is a {@link java.util.concurrent.TimeoutException} for a task
+ * that timed out; the tasks still running are cancelled then too.</p>
+ *
+ * <p>The iterator is {@link AutoCloseable}. Close it to stop early: the
+ * tasks still running are cancelled with interruption and the rest are
+ * never submitted.</p>
+ *
+ * <pre>{@code
+ * final Iterator<String> results = new Completed<>(4, tasks).iterator();
+ * try {
+ *     final String first = results.next();
+ * } finally {
+ *     ((AutoCloseable) results).close();
+ * }
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item.
+ * @since 1.0
+ */
+public final class Completed<T> implements Iterable<T> {
+
+    /**
+     * No timeout.
+     */
+    private static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The maximum number of tasks in flight.
+     */
+    private final int bound;
+
+    /**
+     * The maximum number of results.
+     */
+    private final int limit;
+
+    /**
+     * The timeout of a task.
+     */
+    private final Duration timeout;
+
+    /**
+     * The time given to the whole iteration.
+     */
+    private final Duration deadline;
+
+    /**
+     * The tasks.
+     */
+    private final Iterable<Scalar<T>> tasks;
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Completed(final ExecutorService exc, final Scalar<T>... tasks) {
+        this(exc, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Completed(final ExecutorService exc,
+        final Iterable<Scalar<T>> tasks) {
+        this(
+            exc, Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Completed.FOREVER, Completed.FOREVER, tasks
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks executed at the same time.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Completed(final int bnd, final Scalar<T>... tasks) {
+        this(bnd, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks executed at the same time.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Completed(final int bnd, final Iterable<Scalar<T>> tasks) {
+        this(bnd, Integer.MAX_VALUE, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks executed at the same time.
+     * @param lmt The number of the fastest results to return.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Completed(final int bnd, final int lmt,
+        final Iterable<Scalar<T>> tasks) {
+        this(
+            Scope.SHARED, bnd, lmt,
+            Completed.FOREVER, Completed.FOREVER, tasks
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks executed at the same time.
+     * @param tmt The timeout of a task.
+     * @param ddl The time given to the whole iteration.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Completed(final int bnd, final Duration tmt, final Duration ddl,
+        final Iterable<Scalar<T>> tasks) {
+        this(Scope.SHARED, bnd, Integer.MAX_VALUE, tmt, ddl, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param bnd The maximum number of tasks executed at the same time.
+     * @param lmt The number of the fastest results to return.
+     * @param tmt The timeout of a task.
+     * @param ddl The time given to the whole iteration.
+     * @param tasks The tasks to be executed concurrently.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Completed(final ExecutorService exc, final int bnd,
+        final int lmt, final Duration tmt, final Duration ddl,
+        final Iterable<Scalar<T>> tasks) {
+        this.executor = exc;
+        this.bound = bnd;
+        this.limit = lmt;
+        this.timeout = tmt;
+        this.deadline = ddl;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (this.bound < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("Bound %d is not positive", this.bound)
+                ).asString()
+            );
+        }
+        return new CompletionIterator<>(
+            new ExecutorCompletionService<>(this.executor),
+            this.tasks.iterator(),
+            this.bound,
+            this.limit,
+            this.timeout.toNanos(),
+            System.nanoTime() + this.deadline.toNanos()
+        );
+    }
+
+}
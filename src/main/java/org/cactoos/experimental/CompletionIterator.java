@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Iterator over the results of tasks, in the order they complete.
+ *
+ * <p>Tasks are submitted lazily, so that no more than {@code bound}
+ * of them are in flight. Once {@code limit} results have been
+ * returned, the deadline has passed or a task has failed, the tasks
+ * still running are cancelled and the rest are never submitted.
+ * {@link #close()} does the same when the consumer stops early.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item.
+ * @since 1.0
+ */
+final class CompletionIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The completion service.
+     */
+    private final CompletionService<T> service;
+
+    /**
+     * The tasks not submitted yet.
+     */
+    private final Iterator<Scalar<T>> pending;
+
+    /**
+     * The tasks in flight, in submission order, with their expiry times.
+     */
+    private final Map<Future<T>, Long> running;
+
+    /**
+     * The maximum number of tasks in flight.
+     */
+    private final int bound;
+
+    /**
+     * The timeout of a task, in nanoseconds.
+     */
+    private final long timeout;
+
+    /**
+     * The deadline of the iteration, as {@link System#nanoTime()}.
+     */
+    private final long deadline;
+
+    /**
+     * The number of results still to return.
+     */
+    private int remaining;
+
+    /**
+     * The completed task to return next, or {@code null}.
+     */
+    private Future<T> ready;
+
+    /**
+     * Ctor.
+     * @param svc The completion service
+     * @param tasks The tasks
+     * @param bnd The maximum number of tasks in flight
+     * @param lmt The maximum number of results
+     * @param tmt The timeout of a task, in nanoseconds
+     * @param ddl The deadline of the iteration, as {@link System#nanoTime()}
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    CompletionIterator(final CompletionService<T> svc,
+        final Iterator<Scalar<T>> tasks, final int bnd, final int lmt,
+        final long tmt, final long ddl) {
+        this.service = svc;
+        this.pending = tasks;
+        this.running = new LinkedHashMap<>();
+        this.bound = bnd;
+        this.remaining = lmt;
+        this.timeout = tmt;
+        this.deadline = ddl;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.ready == null && this.remaining > 0) {
+            this.ready = this.completed();
+            if (this.ready == null) {
+                this.stop();
+            } else {
+                --this.remaining;
+                if (this.remaining == 0) {
+                    this.stop();
+                }
+            }
+        }
+        return this.ready != null;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more results");
+        }
+        final Future<T> future = this.ready;
+        this.ready = null;
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            this.stop();
+            throw new CompletionException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            this.stop();
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Cancel the tasks in flight and return no more results.
+     */
+    @Override
+    public void close() {
+        this.stop();
+        this.ready = null;
+    }
+
+    /**
+     * Wait for the next task to complete or to time out.
+     * @return The completed task or {@code null} if there is none
+     *  before the deadline
+     */
+    private Future<T> completed() {
+        this.submit();
+        Future<T> done = null;
+        while (done == null && !this.running.isEmpty()) {
+            final long now = System.nanoTime();
+            if (now - this.deadline >= 0L) {
+                break;
+            }
+            final Map.Entry<Future<T>, Long> oldest =
+                this.running.entrySet().iterator().next();
+            try {
+                done = this.service.poll(
+                    Math.min(this.deadline - now, oldest.getValue() - now),
+                    TimeUnit.NANOSECONDS
+                );
+            } catch (final InterruptedException ex) {
+                this.stop();
+                Thread.currentThread().interrupt();
+                throw new CompletionException(ex);
+            }
+            if (done == null) {
+                done = this.expired(oldest);
+            } else if (this.running.remove(done) == null) {
+                done = null;
+            }
+        }
+        this.submit();
+        return done;
+    }
+
+    /**
+     * Cancel the task if it is past its timeout.
+     * @param task The task and its expiry time
+     * @return The failure of the task or {@code null} if it's on time
+     */
+    private Future<T> expired(final Map.Entry<Future<T>, Long> task) {
+        final CompletableFuture<T> failed;
+        if (System.nanoTime() - task.getValue() >= 0L) {
+            final Future<T> future = task.getKey();
+            this.running.remove(future);
+            future.cancel(true);
+            failed = new CompletableFuture<>();
+            failed.completeExceptionally(
+                new TimeoutException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "The task timed out after %d ms",
+                            TimeUnit.NANOSECONDS.toMillis(this.timeout)
+                        )
+                    ).asString()
+                )
+            );
+        } else {
+            failed = null;
+        }
+        return failed;
+    }
+
+    /**
+     * Submit tasks while there is room for them.
+     */
+    private void submit() {
+        while (this.running.size() < this.bound && this.pending.hasNext()) {
+            final Scalar<T> task = this.pending.next();
+            this.running.put(
+                this.service.submit(task::value),
+                System.nanoTime() + this.timeout
+            );
+        }
+    }
+
+    /**
+     * Cancel the tasks in flight and submit no more.
+     */
+    private void stop() {
+        for (final Future<T> future : this.running.keySet()) {
+            future.cancel(true);
+        }
+        this.running.clear();
+        this.remaining = 0;
+    }
+
+}
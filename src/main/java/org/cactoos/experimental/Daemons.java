@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Factory of numbered daemon threads.
+ *
+ * <p>Daemon threads don't keep the JVM alive, so an executor built on
+ * them may be shared for the whole life of the application without
+ * ever being shut down.</p>
+ *
+ * <p>Objects of this class are thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Daemons implements ThreadFactory {
+
+    /**
+     * The prefix of thread names.
+     */
+    private final String prefix;
+
+    /**
+     * The number of threads created so far.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Ctor.
+     * @param name The prefix of thread names
+     */
+    Daemons(final String name) {
+        this.prefix = name;
+        this.count = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(
+            runnable,
+            new UncheckedText(
+                new FormattedText(
+                    "%s-%d", this.prefix, this.count.incrementAndGet()
+                )
+            ).asString()
+        );
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
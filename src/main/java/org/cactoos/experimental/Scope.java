@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Runs the tasks concurrently and waits for all of them, failing fast.
+ *
+ * <p>At most {@code bound} tasks run at the same time: the next task is
+ * submitted only when a permit of the semaphore is free. When a task
+ * fails, the tasks still running are cancelled, no more tasks are
+ * submitted and {@link #value()} throws the exception of that first
+ * failure. Otherwise the results are returned in the order of the
+ * tasks.</p>
+ *
+ * <p>Unless an executor is given, the tasks run on a cached pool of
+ * daemon threads, which is shared by all scopes. Idle threads are
+ * reused instead of a new pool being built and shut down on every
+ * call.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item.
+ * @since 1.0
+ */
+public final class Scope<T> implements Scalar<List<T>> {
+
+    /**
+     * The executor shared by all scopes.
+     */
+    static final ExecutorService SHARED =
+        Executors.newCachedThreadPool(new Daemons("cactoos-scope"));
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The maximum number of tasks in flight.
+     */
+    private final int bound;
+
+    /**
+     * The tasks.
+     */
+    private final Iterable<Scalar<T>> tasks;
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks in flight.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Scope(final int bnd, final Scalar<T>... tasks) {
+        this(bnd, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param bnd The maximum number of tasks in flight.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Scope(final int bnd, final Iterable<Scalar<T>> tasks) {
+        this(Scope.SHARED, bnd, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param bnd The maximum number of tasks in flight.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Scope(final ExecutorService exc, final int bnd,
+        final Iterable<Scalar<T>> tasks) {
+        this.executor = exc;
+        this.bound = bnd;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public List<T> value() throws Exception {
+        if (this.bound < 1) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Bound %d is not positive", this.bound
+                ).asString()
+            );
+        }
+        final Semaphore permits = new Semaphore(this.bound);
+        final Queue<Future<T>> running = new ConcurrentLinkedQueue<>();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final List<Future<T>> futures = new ArrayList<>();
+        boolean done = false;
+        try {
+            for (final Scalar<T> task : this.tasks) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    break;
+                }
+                final Future<T> future = this.executor.submit(
+                    () -> this.guarded(task, permits, running, failure)
+                );
+                futures.add(future);
+                running.add(future);
+                if (failure.get() != null) {
+                    this.cancel(running);
+                }
+            }
+            final List<T> results = this.results(futures, failure);
+            done = true;
+            return results;
+        } finally {
+            if (!done) {
+                this.cancel(running);
+            }
+        }
+    }
+
+    /**
+     * Run the task, cancelling its siblings if it fails.
+     *
+     * <p>The permit is released in any case, which is enough to wake
+     * up the submitter: it checks the failure after every acquire.</p>
+     * @param task The task
+     * @param permits The permits of tasks in flight
+     * @param running The futures of the tasks submitted so far
+     * @param failure The first failure
+     * @return The result of the task
+     * @throws Exception If the task fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private T guarded(final Scalar<T> task, final Semaphore permits,
+        final Queue<Future<T>> running,
+        final AtomicReference<Exception> failure) throws Exception {
+        try {
+            return task.value();
+        } catch (final Exception ex) {
+            if (failure.compareAndSet(null, ex)) {
+                this.cancel(running);
+            }
+            throw ex;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Wait for the results, in the order of the tasks.
+     * @param futures The futures
+     * @param failure The first failure
+     * @return The results
+     * @throws Exception The first failure, if any
+     */
+    private List<T> results(final List<Future<T>> futures,
+        final AtomicReference<Exception> failure) throws Exception {
+        final List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (final CancellationException | ExecutionException ex) {
+            if (failure.get() == null) {
+                throw ex;
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return results;
+    }
+
+    /**
+     * Cancel the futures.
+     * @param futures The futures
+     */
+    private void cancel(final Iterable<Future<T>> futures) {
+        for (final Future<T> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+}
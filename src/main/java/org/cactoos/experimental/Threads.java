@@ -27,7 +27,6 @@ import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
@@ -67,10 +66,9 @@ public final class Threads<T> extends IterableEnvelope<T> {
 
     /**
      * Ctor.
-     * @param threads The quantity of threads which will be used within the
-     *  {@link ExecutorService}.
+     * @param threads The maximum number of tasks executed at the same time.
      * @param tasks The tasks to be executed concurrently.
-     * @see Executors#newFixedThreadPool(int)
+     * @see Scope
      */
     @SafeVarargs
     public Threads(final int threads, final Scalar<T>... tasks) {
@@ -79,44 +77,46 @@ public final class Threads<T> extends IterableEnvelope<T> {
 
     /**
      * Ctor.
-     * @param threads The quantity of threads which will be used within the
-     *  {@link ExecutorService}.
+     *
+     * <p>The tasks run on the executor shared by all {@link Scope}s,
+     * at most {@code threads} of them at the same time. When one of
+     * them fails, the others are cancelled.</p>
+     *
+     * @param threads The maximum number of tasks executed at the same time.
      * @param tasks The tasks to be executed concurrently.
-     * @checkstyle IndentationCheck (20 lines)
+     * @see Scope
      */
     public Threads(final int threads, final Iterable<Scalar<T>> tasks) {
-        this(
-            todo -> {
-                final ExecutorService executor = Executors.newFixedThreadPool(
-                    threads
-                );
-                try {
-                    return executor.invokeAll(todo);
-                } finally {
-                    executor.shutdown();
-                }
-            },
-            tasks
-        );
+        this(new Scope<>(threads, tasks));
     }
 
     /**
      * Ctor.
      * @param fnc The function to map each task into {@link Future}.
      * @param tasks The tasks to be executed concurrently.
-     * @checkstyle IllegalCatchCheck (20 lines)
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private Threads(
         final Func<Collection<Callable<T>>, Collection<Future<T>>> fnc,
         final Iterable<Scalar<T>> tasks
     ) {
+        this(
+            () -> new Mapped<>(
+                Future::get,
+                fnc.apply(new Mapped<>(task -> task::value, tasks))
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param results The results of the tasks.
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Threads(final Scalar<? extends Iterable<T>> results) {
         super(() -> {
             try {
-                return new Mapped<>(
-                    Future::get,
-                    fnc.apply(new Mapped<>(task -> task::value, tasks))
-                );
+                return results.value();
             } catch (final Exception exp) {
                 throw new CompletionException(exp);
             }
@@ -0,0 +1,193 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Concurrent in-memory cache, split into independently locked segments.
+ *
+ * <p>A key is calculated only once, even if many threads ask for it
+ * at the same time: the first thread calculates the value, the others
+ * wait for it. Calculations of different keys never block each other,
+ * because they run outside of segment locks.</p>
+ *
+ * <p>The cache is bounded by total weight of its values, which is
+ * split evenly among segments. Entries expire when they are older
+ * than their time to live. Failed calculations are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see LruCache
+ * @see LfuCache
+ * @see CachedFunc
+ * @since 1.0
+ */
+public abstract class CacheEnvelope<K, V> {
+
+    /**
+     * Default amount of segments.
+     */
+    static final int STRIPES = 16;
+
+    /**
+     * Segments.
+     */
+    private final CacheSegment<K, V>[] segments;
+
+    /**
+     * Bits to shift the hash, to find the segment.
+     */
+    private final int shift;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Weight of a value.
+     */
+    private final Func<V, Integer> weigher;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
+    /**
+     * Ctor.
+     * @param max Maximum total weight of values
+     * @param ttl Time to live of every value
+     * @param weigher Weight of a value
+     * @param stripes Amount of segments, the actual amount is a power
+     *  of two, not larger than it and not larger than {@code max}
+     * @param admission Use TinyLFU admission?
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CacheEnvelope(final long max, final Duration ttl,
+        final Func<V, Integer> weigher, final int stripes,
+        final boolean admission) {
+        if (max < 1L) {
+            throw new IllegalArgumentException(
+                String.format("Maximum weight %d must be positive", max)
+            );
+        }
+        if (stripes < 1) {
+            throw new IllegalArgumentException(
+                String.format("Amount of segments %d must be positive", stripes)
+            );
+        }
+        final int count = Integer.highestOneBit(
+            (int) Math.min(max, (long) stripes)
+        );
+        this.segments = new CacheSegment[count];
+        for (int idx = 0; idx < count; ++idx) {
+            this.segments[idx] = new CacheSegment<>(max / count, admission);
+        }
+        this.shift = Integer.numberOfLeadingZeros(count) + 1;
+        this.ttl = ttl.toNanos();
+        this.weigher = weigher;
+        this.stats = new CacheStats();
+    }
+
+    /**
+     * Get the value from the cache or calculate it.
+     * @param key The key
+     * @param func Calculates the value, if it is absent
+     * @return The value
+     * @throws Exception If the calculation fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public final V value(final K key, final Func<K, V> func)
+        throws Exception {
+        final int hash = key.hashCode();
+        final CacheSegment<K, V> segment = this.segment(hash);
+        final long now = System.nanoTime();
+        CacheNode<V> node = segment.find(key, hash, now, this.ttl, this.stats);
+        if (node == null) {
+            final CacheNode<V> created = new CacheNode<>();
+            node = segment.offer(key, created);
+            if (node == created) {
+                final V value;
+                try {
+                    value = func.apply(key);
+                    created.complete(
+                        value, this.weigher.apply(value), System.nanoTime()
+                    );
+                } catch (final Throwable ex) {
+                    segment.discard(key, created);
+                    created.fail(ex);
+                    throw ex;
+                }
+                segment.admit(key, hash, created, this.stats);
+                return value;
+            }
+        }
+        return node.value();
+    }
+
+    /**
+     * How many times the value was found in the cache.
+     * @return Amount of hits
+     */
+    public final long hits() {
+        return this.stats.hits();
+    }
+
+    /**
+     * How many times the value had to be calculated.
+     * @return Amount of misses
+     */
+    public final long misses() {
+        return this.stats.misses();
+    }
+
+    /**
+     * How many values were evicted, expired or not admitted.
+     * @return Amount of evictions
+     */
+    public final long evictions() {
+        return this.stats.evictions();
+    }
+
+    /**
+     * Find the segment of the key.
+     * @param hash Hash of the key
+     * @return The segment
+     */
+    private CacheSegment<K, V> segment(final int hash) {
+        final int idx;
+        if (this.segments.length == 1) {
+            idx = 0;
+        } else {
+            idx = (hash * 0x9e3779b9) >>> this.shift;
+        }
+        return this.segments[idx];
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Entry of {@link CacheEnvelope}.
+ *
+ * <p>The node is created before the value is calculated, so concurrent
+ * readers of the same key wait for the first calculation instead of
+ * repeating it.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <V> Type of value
+ * @since 1.0
+ */
+final class CacheNode<V> {
+
+    /**
+     * The value, when it is calculated.
+     */
+    private final CompletableFuture<V> future;
+
+    /**
+     * Time of calculation, in nanoseconds, set once in
+     * {@link #complete(Object, long, long)}.
+     */
+    private volatile long completed;
+
+    /**
+     * Weight of the value, set once in
+     * {@link #complete(Object, long, long)}, outside of the segment lock.
+     */
+    private volatile long wgt;
+
+    /**
+     * Is the weight accounted in the segment? Guarded by the segment lock.
+     */
+    private boolean counted;
+
+    /**
+     * Ctor.
+     */
+    CacheNode() {
+        this.future = new CompletableFuture<>();
+    }
+
+    /**
+     * Is it expired?
+     * @param now Current time, in nanoseconds
+     * @param ttl Time to live, in nanoseconds
+     * @return TRUE if the value is too old
+     */
+    boolean expired(final long now, final long ttl) {
+        return now - this.completed >= ttl;
+    }
+
+    /**
+     * Is the value already calculated?
+     * @return TRUE if calculated
+     */
+    boolean ready() {
+        return this.future.isDone() && !this.future.isCompletedExceptionally();
+    }
+
+    /**
+     * Weight of the value.
+     * @return Weight, zero until the value is calculated
+     */
+    long weight() {
+        return this.wgt;
+    }
+
+    /**
+     * Is the weight accounted in the segment?
+     * @return TRUE if admitted
+     */
+    boolean admitted() {
+        return this.counted;
+    }
+
+    /**
+     * Mark the weight as accounted in the segment.
+     */
+    void admit() {
+        this.counted = true;
+    }
+
+    /**
+     * Complete the node.
+     * @param value The value
+     * @param weight Its weight
+     * @param time Time of calculation, in nanoseconds
+     */
+    void complete(final V value, final long weight, final long time) {
+        this.wgt = weight;
+        this.completed = time;
+        this.future.complete(value);
+    }
+
+    /**
+     * Fail the node, all waiting readers will get this exception.
+     * @param error The error
+     */
+    void fail(final Throwable error) {
+        this.future.completeExceptionally(error);
+    }
+
+    /**
+     * Wait for the value.
+     * @return The value
+     * @throws Exception If the calculation failed
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    V value() throws Exception {
+        try {
+            return this.future.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One stripe of {@link CacheEnvelope}.
+ *
+ * <p>Entries are kept in a {@link LinkedHashMap} in access order, so
+ * the least recently used entry is always the eldest one and both
+ * lookup and eviction are O(1). When the segment has a
+ * {@link FrequencySketch}, a new entry is admitted only if it is
+ * more popular than the entry it would evict (TinyLFU).</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+final class CacheSegment<K, V> {
+
+    /**
+     * The lock.
+     */
+    private final Lock lock;
+
+    /**
+     * Entries, in access order.
+     */
+    private final Map<K, CacheNode<V>> map;
+
+    /**
+     * Frequency sketch, NULL for pure LRU.
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * Maximum total weight.
+     */
+    private final long capacity;
+
+    /**
+     * Current total weight.
+     */
+    private long total;
+
+    /**
+     * Ctor.
+     * @param max Maximum total weight
+     * @param admission Use TinyLFU admission?
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    CacheSegment(final long max, final boolean admission) {
+        this.lock = new ReentrantLock();
+        // @checkstyle MagicNumber (1 line)
+        this.map = new LinkedHashMap<>(16, 0.75f, true);
+        if (admission) {
+            this.sketch = new FrequencySketch(max);
+        } else {
+            this.sketch = null;
+        }
+        this.capacity = max;
+    }
+
+    /**
+     * Find the node.
+     * @param key The key
+     * @param hash Hash of the key
+     * @param now Current time, in nanoseconds
+     * @param ttl Time to live, in nanoseconds
+     * @param stats Statistics to update
+     * @return The node or NULL if it is absent or expired; a node
+     *  which is still being calculated never expires
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    CacheNode<V> find(final K key, final int hash, final long now,
+        final long ttl, final CacheStats stats) {
+        this.lock.lock();
+        try {
+            if (this.sketch != null) {
+                this.sketch.increment(hash);
+            }
+            CacheNode<V> node = this.map.get(key);
+            if (node != null && node.ready() && node.expired(now, ttl)) {
+                this.map.remove(key);
+                if (node.admitted()) {
+                    this.total -= node.weight();
+                }
+                stats.evicted(1L);
+                node = null;
+            }
+            if (node == null) {
+                stats.missed();
+            } else {
+                stats.hit();
+            }
+            return node;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Put the node, unless some other thread did it first.
+     * @param key The key
+     * @param node The node
+     * @return The node which is in the segment now
+     */
+    CacheNode<V> offer(final K key, final CacheNode<V> node) {
+        this.lock.lock();
+        try {
+            final CacheNode<V> existing = this.map.putIfAbsent(key, node);
+            final CacheNode<V> actual;
+            if (existing == null) {
+                actual = node;
+            } else {
+                actual = existing;
+            }
+            return actual;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Account the weight of the calculated node and evict
+     * entries that don't fit anymore.
+     * @param key The key
+     * @param hash Hash of the key
+     * @param node The node
+     * @param stats Statistics to update
+     */
+    void admit(final K key, final int hash, final CacheNode<V> node,
+        final CacheStats stats) {
+        this.lock.lock();
+        try {
+            if (this.map.get(key) != node) {
+                return;
+            }
+            this.total += node.weight();
+            node.admit();
+            long evicted = 0L;
+            final Iterator<Map.Entry<K, CacheNode<V>>> eldest =
+                this.map.entrySet().iterator();
+            while (this.total > this.capacity && eldest.hasNext()) {
+                final Map.Entry<K, CacheNode<V>> victim = eldest.next();
+                final CacheNode<V> candidate = victim.getValue();
+                if (candidate == node || !candidate.admitted()) {
+                    continue;
+                }
+                if (this.sketch != null && this.sketch.frequency(hash)
+                    <= this.sketch.frequency(victim.getKey().hashCode())) {
+                    break;
+                }
+                eldest.remove();
+                this.total -= candidate.weight();
+                ++evicted;
+            }
+            if (this.total > this.capacity) {
+                this.map.remove(key);
+                this.total -= node.weight();
+                ++evicted;
+            }
+            stats.evicted(evicted);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Forget the node, since its calculation failed.
+     * @param key The key
+     * @param node The node
+     */
+    void discard(final K key, final CacheNode<V> node) {
+        this.lock.lock();
+        try {
+            if (this.map.get(key) == node) {
+                this.map.remove(key);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
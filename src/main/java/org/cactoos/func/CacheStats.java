@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of {@link CacheEnvelope}.
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class CacheStats {
+
+    /**
+     * Hits.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Misses.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Evictions.
+     */
+    private final LongAdder evictions;
+
+    /**
+     * Ctor.
+     */
+    CacheStats() {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Count a hit.
+     */
+    void hit() {
+        this.hits.increment();
+    }
+
+    /**
+     * Count a miss.
+     */
+    void missed() {
+        this.misses.increment();
+    }
+
+    /**
+     * Count evictions.
+     * @param count How many entries were evicted
+     */
+    void evicted(final long count) {
+        if (count > 0L) {
+            this.evictions.add(count);
+        }
+    }
+
+    /**
+     * Amount of hits.
+     * @return Hits
+     */
+    long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Amount of misses.
+     * @return Misses
+     */
+    long misses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Amount of evictions.
+     * @return Evictions
+     */
+    long evictions() {
+        return this.evictions.sum();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func that caches previously calculated values in a concurrent,
+ * optionally bounded cache.
+ *
+ * <p>Unlike {@link StickyFunc} it doesn't need to be synchronized:
+ * calculations of different inputs run in parallel, while concurrent
+ * calls with the same input wait for the single calculation.</p>
+ *
+ * <pre>{@code
+ * final LfuCache<String, User> cache = new LfuCache<>(
+ *     10_000, Duration.ofMinutes(5L)
+ * );
+ * final Func<String, User> users = new CachedFunc<>(
+ *     name -> database.user(name), cache
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see LruCache
+ * @see LfuCache
+ * @since 1.0
+ */
+public final class CachedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final CacheEnvelope<X, Y> cache;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     */
+    public CachedFunc(final Func<X, Y> fnc) {
+        this(fnc, new LruCache<>());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum cache size
+     */
+    public CachedFunc(final Func<X, Y> fnc, final long max) {
+        this(fnc, new LruCache<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param cache The cache
+     */
+    public CachedFunc(final Func<X, Y> fnc, final CacheEnvelope<X, Y> cache) {
+        this.func = fnc;
+        this.cache = cache;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.cache.value(input, this.func);
+    }
+}
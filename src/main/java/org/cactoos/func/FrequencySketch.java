@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+/**
+ * Approximate frequency of keys, a Count-Min sketch
+ * used by TinyLFU admission of {@link LfuCache}.
+ *
+ * <p>Every key is counted in four rows of small saturating counters,
+ * its frequency is the minimum of them. When the amount of increments
+ * reaches ten times the width of the sketch, all counters are halved,
+ * so old popularity fades out.</p>
+ *
+ * <p>There is no thread-safety guarantee, the sketch is guarded
+ * by the lock of its segment.</p>
+ *
+ * @since 1.0
+ */
+final class FrequencySketch {
+
+    /**
+     * Depth of the sketch.
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * Maximum value of a counter.
+     */
+    private static final int MAX = 15;
+
+    /**
+     * Seeds of the rows.
+     */
+    private static final int[] SEEDS = {
+        0x97cb3127, 0x5e5a3d1b, 0x3c6ef372, 0xa54ff53a,
+    };
+
+    /**
+     * Counters, row by row.
+     */
+    private final byte[] counters;
+
+    /**
+     * Mask of the width.
+     */
+    private final int mask;
+
+    /**
+     * Amount of increments before aging.
+     */
+    private final int period;
+
+    /**
+     * Increments since the last aging.
+     */
+    private int additions;
+
+    /**
+     * Ctor.
+     * @param capacity Expected amount of distinct keys
+     */
+    FrequencySketch(final long capacity) {
+        final int width = Integer.highestOneBit(
+            (int) Math.max(
+                // @checkstyle MagicNumber (1 line)
+                256L, Math.min(capacity, 1L << 22)
+            ) * 2 - 1
+        );
+        this.counters = new byte[width * FrequencySketch.DEPTH];
+        this.mask = width - 1;
+        // @checkstyle MagicNumber (1 line)
+        this.period = width * 10;
+    }
+
+    /**
+     * Count one more occurrence of the key.
+     * @param hash Hash of the key
+     */
+    void increment(final int hash) {
+        boolean added = false;
+        for (int row = 0; row < FrequencySketch.DEPTH; ++row) {
+            final int idx = this.index(hash, row);
+            if (this.counters[idx] < FrequencySketch.MAX) {
+                ++this.counters[idx];
+                added = true;
+            }
+        }
+        if (added) {
+            ++this.additions;
+            if (this.additions >= this.period) {
+                this.age();
+            }
+        }
+    }
+
+    /**
+     * Estimated frequency of the key.
+     * @param hash Hash of the key
+     * @return Frequency
+     */
+    int frequency(final int hash) {
+        int min = FrequencySketch.MAX;
+        for (int row = 0; row < FrequencySketch.DEPTH; ++row) {
+            min = Math.min(min, this.counters[this.index(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Halve all counters.
+     */
+    private void age() {
+        for (int idx = 0; idx < this.counters.length; ++idx) {
+            this.counters[idx] = (byte) (this.counters[idx] >>> 1);
+        }
+        this.additions = this.additions >>> 1;
+    }
+
+    /**
+     * Position of the counter.
+     * @param hash Hash of the key
+     * @param row Row of the sketch
+     * @return Index in the array of counters
+     */
+    private int index(final int hash, final int row) {
+        int mixed = (hash + FrequencySketch.SEEDS[row]) * 0x9e3779b9;
+        // @checkstyle MagicNumber (1 line)
+        mixed ^= mixed >>> 16;
+        return row * (this.mask + 1) + (mixed & this.mask);
+    }
+}
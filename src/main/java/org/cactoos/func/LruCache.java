@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Concurrent cache, which evicts the least recently used values.
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see CachedFunc
+ * @see CachedBiFunc
+ * @since 1.0
+ */
+public final class LruCache<K, V> extends CacheEnvelope<K, V> {
+
+    /**
+     * Ctor.
+     * <p>The cache is unbounded.</p>
+     */
+    public LruCache() {
+        this(Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum amount of values
+     */
+    public LruCache(final long max) {
+        this(max, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum amount of values
+     * @param ttl Time to live of every value
+     */
+    public LruCache(final long max, final Duration ttl) {
+        this(max, ttl, value -> 1);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum total weight of values
+     * @param ttl Time to live of every value
+     * @param weigher Weight of a value
+     */
+    public LruCache(final long max, final Duration ttl,
+        final Func<V, Integer> weigher) {
+        this(max, ttl, weigher, CacheEnvelope.STRIPES);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum total weight of values
+     * @param ttl Time to live of every value
+     * @param weigher Weight of a value
+     * @param stripes Amount of independently locked segments
+     */
+    public LruCache(final long max, final Duration ttl,
+        final Func<V, Integer> weigher, final int stripes) {
+        super(max, ttl, weigher, stripes, false);
+    }
+}
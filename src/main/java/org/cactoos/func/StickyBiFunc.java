@@ -34,7 +34,8 @@ import org.cactoos.scalar.Sticky;
  * and doesn't recalculate again.
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncBiFunc}.</p>
+ * recommended to always decorate it with {@link SyncBiFunc}, or to use
+ * concurrent {@link CachedBiFunc} instead.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
  * cache.</p>
@@ -44,6 +45,7 @@ import org.cactoos.scalar.Sticky;
  * @param <Y> Type of input
  * @param <Z> Type of output
  * @see Sticky
+ * @see CachedBiFunc
  * @since 0.13
  */
 public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
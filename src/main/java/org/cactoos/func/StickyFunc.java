@@ -35,13 +35,15 @@ import org.cactoos.scalar.Sticky;
  * cache.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncFunc}.</p>
+ * recommended to always decorate it with {@link SyncFunc}, or to use
+ * concurrent {@link CachedFunc} instead.</p>
  *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
  * @param <Y> Type of output
  * @see Sticky
+ * @see CachedFunc
  * @since 0.1
  */
 public final class StickyFunc<X, Y> implements Func<X, Y> {
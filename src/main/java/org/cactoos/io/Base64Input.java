@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import org.cactoos.Input;
+
+/**
+ * Input decoded from Base64.
+ *
+ * <p>Unlike {@link org.cactoos.bytes.Base64Bytes}, the input is decoded
+ * as it is read, through {@link Base64.Decoder#wrap(InputStream)}, so
+ * an attachment of any size is decoded in constant memory. Use
+ * {@link Base64#getMimeDecoder()} to decode input split into lines, for
+ * example by {@link Base64Output#Base64Output(org.cactoos.Output, int)}.
+ * Reading fails with {@link java.io.IOException} on malformed
+ * input.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Base64Input implements Input {
+
+    /**
+     * The encoded input.
+     */
+    private final Input origin;
+
+    /**
+     * The decoder.
+     */
+    private final Base64.Decoder decoder;
+
+    /**
+     * Size of the buffer in front of the input.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param input The encoded input
+     */
+    public Base64Input(final Input input) {
+        this(input, Base64.getDecoder());
+    }
+
+    /**
+     * Ctor.
+     * @param input The encoded input
+     * @param url Use the URL and filename safe alphabet
+     */
+    public Base64Input(final Input input, final boolean url) {
+        this(input, url ? Base64.getUrlDecoder() : Base64.getDecoder());
+    }
+
+    /**
+     * Ctor.
+     * @param input The encoded input
+     * @param dec The decoder
+     */
+    public Base64Input(final Input input, final Base64.Decoder dec) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(input, dec, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The encoded input
+     * @param dec The decoder
+     * @param max Size of the buffer in front of the input
+     */
+    public Base64Input(final Input input, final Base64.Decoder dec,
+        final int max) {
+        this.origin = input;
+        this.decoder = dec;
+        this.size = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return this.decoder.wrap(
+            new BufferedInputStream(this.origin.stream(), this.size)
+        );
+    }
+}
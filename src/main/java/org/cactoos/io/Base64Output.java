@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.cactoos.Output;
+
+/**
+ * Output that receives the Base64 encoding of the bytes written.
+ *
+ * <p>Unlike {@link org.cactoos.bytes.BytesBase64}, the bytes are encoded
+ * as they are written, through {@link Base64.Encoder#wrap(OutputStream)},
+ * so an attachment of any size flows from its source to the output in
+ * constant memory:</p>
+ *
+ * <pre>{@code
+ * try (OutputStream out = new Base64Output(
+ *     new OutputTo(socket.getOutputStream()), 76
+ * ).stream()) {
+ *     Files.copy(attachment, out);
+ * }
+ * }</pre>
+ *
+ * <p>The last group and its padding are written when the stream is
+ * closed, flushing is not enough. The JDK supports
+ * line wrapping for the basic alphabet only, so the URL-safe variant is
+ * never wrapped.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Base64Output implements Output {
+
+    /**
+     * Where the encoded bytes go.
+     */
+    private final Output origin;
+
+    /**
+     * The encoder.
+     */
+    private final Base64.Encoder encoder;
+
+    /**
+     * Size of the buffer in front of the output.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param output Where the encoded bytes go
+     */
+    public Base64Output(final Output output) {
+        this(output, Base64.getEncoder());
+    }
+
+    /**
+     * Ctor.
+     * @param output Where the encoded bytes go
+     * @param url Use the URL and filename safe alphabet
+     */
+    public Base64Output(final Output output, final boolean url) {
+        this(output, url ? Base64.getUrlEncoder() : Base64.getEncoder());
+    }
+
+    /**
+     * Ctor.
+     * @param output Where the encoded bytes go
+     * @param line Maximum length of a line, lines are separated by CRLF
+     */
+    public Base64Output(final Output output, final int line) {
+        this(
+            output,
+            Base64.getMimeEncoder(
+                line, "\r\n".getBytes(StandardCharsets.US_ASCII)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output Where the encoded bytes go
+     * @param enc The encoder
+     */
+    public Base64Output(final Output output, final Base64.Encoder enc) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, enc, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output Where the encoded bytes go
+     * @param enc The encoder
+     * @param max Size of the buffer in front of the output
+     */
+    public Base64Output(final Output output, final Base64.Encoder enc,
+        final int max) {
+        this.origin = output;
+        this.encoder = enc;
+        this.size = max;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return this.encoder.wrap(
+            new BufferedOutputStream(this.origin.stream(), this.size)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * Input stream that reads byte buffers one after another.
+ *
+ * <p>This class is for internal use only. Use {@link MappedInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class BuffersInputStream extends InputStream {
+
+    /**
+     * The buffers.
+     */
+    private final Iterator<ByteBuffer> buffers;
+
+    /**
+     * The buffer being read.
+     */
+    private ByteBuffer current;
+
+    /**
+     * Ctor.
+     * @param bufs The buffers
+     */
+    BuffersInputStream(final Iterator<ByteBuffer> bufs) {
+        super();
+        this.buffers = bufs;
+        this.current = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public int read() {
+        final int next;
+        if (this.advance()) {
+            // @checkstyle MagicNumber (1 line)
+            next = this.current.get() & 0xFF;
+        } else {
+            next = -1;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len) {
+        final int count;
+        if (len == 0) {
+            count = 0;
+        } else if (this.advance()) {
+            count = Math.min(len, this.current.remaining());
+            this.current.get(buf, off, count);
+        } else {
+            count = -1;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long num) {
+        long skipped = 0L;
+        while (skipped < num && this.advance()) {
+            final int step = (int) Math.min(
+                num - skipped, this.current.remaining()
+            );
+            this.current.position(this.current.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.current.remaining();
+    }
+
+    /**
+     * Move to the next buffer with bytes remaining, if needed.
+     * @return TRUE if there are bytes to read
+     */
+    private boolean advance() {
+        while (!this.current.hasRemaining() && this.buffers.hasNext()) {
+            this.current = this.buffers.next();
+        }
+        return this.current.hasRemaining();
+    }
+
+}
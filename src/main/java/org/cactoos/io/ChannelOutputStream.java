@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Output stream that writes into a {@link WritableByteChannel}.
+ *
+ * <p>The channel is exposed, so that {@link TeeInputStream} can
+ * transfer a file into it without copying the bytes to the heap.</p>
+ *
+ * <p>This class is for internal use only. Use {@link OutputTo}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ChannelOutputStream extends OutputStream {
+
+    /**
+     * The channel.
+     */
+    private final WritableByteChannel target;
+
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    ChannelOutputStream(final WritableByteChannel channel) {
+        super();
+        this.target = channel;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(buf, off, len);
+        while (buffer.hasRemaining()) {
+            this.target.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.target.close();
+    }
+
+    /**
+     * The channel.
+     * @return The channel to write into
+     */
+    public WritableByteChannel channel() {
+        return this.target;
+    }
+
+}
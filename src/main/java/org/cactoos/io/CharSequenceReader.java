@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Reader;
+
+/**
+ * Reader of a {@link CharSequence}, without copying it upfront.
+ *
+ * <p>Unlike {@link java.io.StringReader}, this reader doesn't turn the
+ * whole sequence into a {@link String}: every read copies only the
+ * characters asked for, through
+ * {@link CharSequence#subSequence(int, int)}, so a
+ * {@link org.cactoos.text.Rope} is read slice by slice and never
+ * flattened.</p>
+ *
+ * <p>This class is for internal use only. Use {@link EncodedChars}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class CharSequenceReader extends Reader {
+
+    /**
+     * The characters.
+     */
+    private final CharSequence chars;
+
+    /**
+     * Position of the next character to read.
+     */
+    private int pos;
+
+    /**
+     * Ctor.
+     * @param src The characters
+     */
+    CharSequenceReader(final CharSequence src) {
+        super();
+        this.chars = src;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) {
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else if (this.pos >= this.chars.length()) {
+            done = -1;
+        } else {
+            final int end = Math.min(this.chars.length(), this.pos + len);
+            this.chars.subSequence(this.pos, end).toString()
+                .getChars(0, end - this.pos, cbuf, off);
+            done = end - this.pos;
+            this.pos = end;
+        }
+        return done;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+}
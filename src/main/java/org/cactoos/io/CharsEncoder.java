@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Characters of a reader encoded chunk by chunk.
+ *
+ * <p>The encoder, the char buffer and the byte buffer are allocated once
+ * and reused for every chunk, so a reader of any size is encoded in
+ * constant memory. Malformed and unmappable characters are replaced,
+ * the same way {@link String#getBytes(Charset)} does.</p>
+ *
+ * <p>This class is for internal use only. Use {@link InputOf} or
+ * {@link EncodedChars} instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class CharsEncoder {
+
+    /**
+     * Smallest char buffer, big enough for a surrogate pair.
+     */
+    private static final int MIN = 16;
+
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+
+    /**
+     * The encoder.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Characters read but not encoded yet.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Encoded bytes.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * The reader is exhausted.
+     */
+    private boolean eof;
+
+    /**
+     * All characters are encoded.
+     */
+    private boolean ended;
+
+    /**
+     * The encoder is flushed.
+     */
+    private boolean flushed;
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param charset The charset
+     * @param max Number of characters to read at once
+     */
+    CharsEncoder(final Reader rdr, final Charset charset, final int max) {
+        this(
+            rdr,
+            charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE),
+            Math.max(max, CharsEncoder.MIN)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param ecr The encoder
+     * @param max Number of characters to read at once
+     */
+    private CharsEncoder(final Reader rdr, final CharsetEncoder ecr,
+        final int max) {
+        this.reader = rdr;
+        this.encoder = ecr;
+        this.chars = CharBuffer.allocate(max);
+        this.bytes = ByteBuffer.allocate(
+            (int) Math.ceil(max * (double) ecr.maxBytesPerChar())
+        );
+    }
+
+    /**
+     * Encode the next chunk.
+     *
+     * <p>The buffer returned is reused by the next call, it has to be
+     * drained before.</p>
+     *
+     * @return Encoded bytes, empty when there are no more
+     * @throws IOException If fails
+     */
+    ByteBuffer next() throws IOException {
+        this.bytes.clear();
+        while (this.bytes.position() == 0 && !this.flushed) {
+            if (this.ended) {
+                this.flushed = this.encoder.flush(this.bytes).isUnderflow();
+            } else {
+                this.fill();
+                this.chars.flip();
+                final CoderResult result = this.encoder.encode(
+                    this.chars, this.bytes, this.eof
+                );
+                this.chars.compact();
+                this.ended = this.eof && result.isUnderflow();
+            }
+        }
+        this.bytes.flip();
+        return this.bytes;
+    }
+
+    /**
+     * Read as many characters as the char buffer takes.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        if (!this.eof && this.chars.hasRemaining()) {
+            final int done = this.reader.read(
+                this.chars.array(), this.chars.position(),
+                this.chars.remaining()
+            );
+            if (done < 0) {
+                this.eof = true;
+            } else {
+                this.chars.position(this.chars.position() + done);
+            }
+        }
+    }
+}
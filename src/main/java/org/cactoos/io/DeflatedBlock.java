@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.Callable;
+import java.util.zip.Deflater;
+
+/**
+ * A block of data deflated into raw deflate format.
+ *
+ * <p>The block is primed with the tail of the block before it, up to
+ * the 32 KB window of deflate, so
+ * back-references can cross the boundary as they would in a single
+ * stream. Every block but the last one ends with a sync flush, so the
+ * compressed blocks can be concatenated into one deflate stream.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ParallelGzipOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class DeflatedBlock implements Callable<byte[]> {
+
+    /**
+     * The tail of the block before this one, or an empty array.
+     */
+    private final byte[] dictionary;
+
+    /**
+     * The block.
+     */
+    private final byte[] block;
+
+    /**
+     * The number of bytes in the block.
+     */
+    private final int length;
+
+    /**
+     * The compression level.
+     */
+    private final int level;
+
+    /**
+     * Whether this block ends the stream.
+     */
+    private final boolean last;
+
+    /**
+     * Ctor.
+     * @param dict The tail of the block before this one, or an empty array
+     * @param data The block
+     * @param len The number of bytes in the block
+     * @param lvl The compression level
+     * @param fin Whether this block ends the stream
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    DeflatedBlock(final byte[] dict, final byte[] data, final int len,
+        final int lvl, final boolean fin) {
+        this.dictionary = dict;
+        this.block = data;
+        this.length = len;
+        this.level = lvl;
+        this.last = fin;
+    }
+
+    @Override
+    public byte[] call() {
+        final Deflater deflater = new Deflater(this.level, true);
+        try {
+            if (this.dictionary.length > 0) {
+                deflater.setDictionary(this.dictionary);
+            }
+            deflater.setInput(this.block, 0, this.length);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(
+                this.length / 2
+            );
+            // @checkstyle MagicNumber (1 line)
+            final byte[] buf = new byte[Math.max(this.length, 64)];
+            if (this.last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    out.write(buf, 0, deflater.deflate(buf));
+                }
+            } else {
+                int len = buf.length;
+                while (len == buf.length) {
+                    len = deflater.deflate(
+                        buf, 0, buf.length, Deflater.SYNC_FLUSH
+                    );
+                    out.write(buf, 0, len);
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+}
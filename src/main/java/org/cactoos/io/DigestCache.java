@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Cache of file digests, keyed by path, size and modification time.
+ *
+ * <p>A file is hashed again only when its size or modification time
+ * changes. Files modified less than two seconds before they were
+ * hashed are not cached, since a later change within the
+ * same timestamp tick would go unnoticed.</p>
+ *
+ * <p>The cache may be persisted to a local file, which is loaded on
+ * first use and written by {@link #save()}.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class DigestCache {
+
+    /**
+     * How recently modified files are not cached, in milliseconds.
+     */
+    private static final long RACY = 2_000L;
+
+    /**
+     * The entries, loaded on first use.
+     */
+    private final Unchecked<Properties> entries;
+
+    /**
+     * Saves the entries.
+     */
+    private final Proc<Properties> saver;
+
+    /**
+     * Ctor.
+     *
+     * <p>The cache lives in memory only.</p>
+     */
+    public DigestCache() {
+        this(Properties::new, props -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param file Where the cache is persisted
+     */
+    public DigestCache(final Path file) {
+        this(
+            () -> {
+                final Properties props = new Properties();
+                if (Files.exists(file)) {
+                    try (InputStream input = Files.newInputStream(file)) {
+                        props.load(input);
+                    }
+                }
+                return props;
+            },
+            props -> {
+                final Path temp = Files.createTempFile(
+                    file.toAbsolutePath().getParent(), "digests", ".tmp"
+                );
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    props.store(output, "algorithm:path=size mtime digest");
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param load Loads the entries
+     * @param save Saves the entries
+     */
+    private DigestCache(final Scalar<Properties> load,
+        final Proc<Properties> save) {
+        this.entries = new Unchecked<>(new Sticky<>(load));
+        this.saver = save;
+    }
+
+    /**
+     * Digest of a file, hashing it only if it changed.
+     * @param path The file
+     * @param algorithm The algorithm
+     * @return The digest
+     * @throws Exception If fails
+     */
+    public byte[] digest(final Path path, final String algorithm)
+        throws Exception {
+        final String key = new FormattedText(
+            "%s:%s", algorithm, path.toAbsolutePath().normalize()
+        ).asString();
+        final long start = System.currentTimeMillis();
+        final String stamp = this.stamp(path);
+        final String cached = this.entries.value().getProperty(key, "");
+        final byte[] digest;
+        if (cached.startsWith(stamp)) {
+            digest = Base64.getDecoder().decode(
+                cached.substring(stamp.length())
+            );
+        } else {
+            digest = new DigestsOf(new InputOf(path), algorithm)
+                .value().get(algorithm);
+            final long mtime = Files.getLastModifiedTime(path).toMillis();
+            if (mtime < start - DigestCache.RACY
+                && stamp.equals(this.stamp(path))) {
+                this.entries.value().setProperty(
+                    key,
+                    stamp.concat(Base64.getEncoder().encodeToString(digest))
+                );
+            }
+        }
+        return digest;
+    }
+
+    /**
+     * Persist the cache.
+     * @throws Exception If fails
+     */
+    public void save() throws Exception {
+        this.saver.exec(this.entries.value());
+    }
+
+    /**
+     * Size and modification time of a file.
+     * @param path The file
+     * @return The stamp, ending with a space
+     * @throws IOException If fails
+     */
+    private String stamp(final Path path) throws IOException {
+        final BasicFileAttributes attrs = Files.readAttributes(
+            path, BasicFileAttributes.class
+        );
+        return new UncheckedText(
+            new FormattedText(
+                "%d %d ",
+                attrs.size(),
+                attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+            )
+        ).asString();
+    }
+
+}
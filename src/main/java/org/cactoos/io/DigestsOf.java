@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Several digests of an input, computed in a single pass.
+ *
+ * <p>The input is read once and every chunk is fed to all the
+ * algorithms, so asking for MD5 and SHA-256 of a file costs one read
+ * instead of two. The digests are keyed by the algorithm names, in the
+ * order they were given.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class DigestsOf implements Scalar<Map<String, byte[]>> {
+
+    /**
+     * The input.
+     */
+    private final Input source;
+
+    /**
+     * The buffer size.
+     */
+    private final int size;
+
+    /**
+     * The algorithms.
+     */
+    private final Iterable<String> algorithms;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final String... algrthms) {
+        this(input, new IterableOf<>(algrthms));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final Iterable<String> algrthms) {
+        // @checkstyle MagicNumber (1 line)
+        this(input, 16 << 10, algrthms);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param algrthms The algorithms
+     */
+    public DigestsOf(final Input input, final int max,
+        final Iterable<String> algrthms) {
+        this.source = input;
+        this.size = max;
+        this.algorithms = algrthms;
+    }
+
+    @Override
+    public Map<String, byte[]> value() throws Exception {
+        final List<MessageDigest> digests = new ArrayList<>(0);
+        try {
+            for (final String algorithm : this.algorithms) {
+                digests.add(MessageDigest.getInstance(algorithm));
+            }
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+        try (final InputStream stream = this.source.stream()) {
+            final byte[] buf = new byte[this.size];
+            for (int len = stream.read(buf); len >= 0;
+                len = stream.read(buf)) {
+                for (final MessageDigest digest : digests) {
+                    digest.update(buf, 0, len);
+                }
+            }
+        }
+        final Map<String, byte[]> result = new LinkedHashMap<>(0);
+        for (final MessageDigest digest : digests) {
+            result.put(digest.getAlgorithm(), digest.digest());
+        }
+        return result;
+    }
+
+}
@@ -24,16 +24,34 @@
 package org.cactoos.io;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.cactoos.Func;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The tree is walked lazily, depth first, with the directory itself
+ * coming first. Only one open directory per level is held at a time, so
+ * the first path is available right away and memory does not grow with
+ * the size of the tree. Subtrees rejected by the descend filter or
+ * lying deeper than the maximum depth are never opened. Use
+ * {@link ParallelDirectory} to walk subdirectories concurrently.</p>
+ *
+ * <p>Directories are closed once iterated to the end or when the walk
+ * fails. The iterator is {@link AutoCloseable}: close it when you stop
+ * iterating half-way, otherwise the directories it holds open are never
+ * closed:</p>
+ *
+ * <pre>{@code
+ * final Iterator<Path> paths = new Directory(dir).iterator();
+ * try {
+ *     final Path first = paths.next();
+ * } finally {
+ *     ((AutoCloseable) paths).close();
+ * }
+ * }</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
@@ -45,6 +63,21 @@ public final class Directory implements Iterable<Path> {
      */
     private final Path dir;
 
+    /**
+     * Maximum depth to descend to.
+     */
+    private final int depth;
+
+    /**
+     * Which directories to descend into.
+     */
+    private final Func<Path, Boolean> descend;
+
+    /**
+     * Which paths to yield.
+     */
+    private final Func<Path, Boolean> accept;
+
     /**
      * Ctor.
      * @param file File as a path to directory.
@@ -58,16 +91,51 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, zero for the directory itself only
+     * @since 1.0
+     */
+    public Directory(final Path path, final int max) {
+        this(path, max, dir -> true, file -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param glob Glob the paths, relative to the dir, have to match
+     * @since 1.0
+     */
+    public Directory(final Path path, final String glob) {
+        this(path, Integer.MAX_VALUE, dir -> true, new Glob(path, glob));
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, zero for the directory itself only
+     * @param dirs Which directories to descend into
+     * @param files Which paths to yield
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Directory(final Path path, final int max,
+        final Func<Path, Boolean> dirs, final Func<Path, Boolean> files) {
         this.dir = path;
+        this.depth = max;
+        this.descend = dirs;
+        this.accept = files;
     }
 
     @Override
     public Iterator<Path> iterator() {
-        try (final Stream<Path> files = Files.walk(this.dir)) {
-            return files.collect(Collectors.toList()).iterator();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return new WalkIterator(
+            this.dir, this.depth, this.descend, this.accept
+        );
     }
 
 }
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Output;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.text.Rope;
+
+/**
+ * Characters encoded straight to an {@link Output}.
+ *
+ * <p>Copying text to an output through {@link TeeInput} or
+ * {@link BytesOf} encodes all of it into a {@code byte[]} first. This
+ * scalar pumps the characters through a single reusable
+ * {@link java.nio.charset.CharsetEncoder} and a pair of buffers
+ * instead, so a reader of any size is written in constant memory:</p>
+ *
+ * <pre>{@code
+ * final long bytes = new EncodedChars(
+ *     new FileReader("export.csv"),
+ *     new OutputTo(socket.getOutputStream())
+ * ).value();
+ * }</pre>
+ *
+ * <p>A {@link CharSequence} is read slice by slice, without being copied
+ * into a {@link String} first, so a {@link org.cactoos.text.Rope} is
+ * never flattened.</p>
+ *
+ * <p>Both the reader and the stream of the output are closed at the end.
+ * The value is the number of bytes written. Malformed and unmappable
+ * characters are replaced, the same way
+ * {@link String#getBytes(Charset)} does.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class EncodedChars implements Scalar<Long> {
+
+    /**
+     * The reader.
+     */
+    private final Scalar<Reader> reader;
+
+    /**
+     * The output.
+     */
+    private final Output output;
+
+    /**
+     * The charset.
+     */
+    private final Charset charset;
+
+    /**
+     * Number of characters to encode at once.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param out The output
+     */
+    public EncodedChars(final Text text, final Output out) {
+        this(text, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param out The output
+     * @param cset The charset
+     */
+    public EncodedChars(final Text text, final Output out,
+        final Charset cset) {
+        // @checkstyle MagicNumber (1 line)
+        this(() -> new StringReader(text.asString()), out, cset, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param chars The characters
+     * @param out The output
+     */
+    public EncodedChars(final CharSequence chars, final Output out) {
+        this(chars, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param chars The characters
+     * @param out The output
+     * @param cset The charset
+     */
+    public EncodedChars(final CharSequence chars, final Output out,
+        final Charset cset) {
+        this(
+            () -> new CharSequenceReader(chars), out, cset,
+            // @checkstyle MagicNumber (1 line)
+            Math.min(chars.length(), 16 << 10)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param rope The rope, read without flattening it
+     * @param out The output
+     */
+    public EncodedChars(final Rope rope, final Output out) {
+        this(rope, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param rope The rope, read without flattening it
+     * @param out The output
+     * @param cset The charset
+     */
+    public EncodedChars(final Rope rope, final Output out,
+        final Charset cset) {
+        this((CharSequence) rope, out, cset);
+    }
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param out The output
+     */
+    public EncodedChars(final Reader rdr, final Output out) {
+        this(rdr, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param out The output
+     * @param cset The charset
+     */
+    public EncodedChars(final Reader rdr, final Output out,
+        final Charset cset) {
+        // @checkstyle MagicNumber (1 line)
+        this(rdr, out, cset, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param out The output
+     * @param cset The charset
+     * @param max Number of characters to encode at once
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public EncodedChars(final Reader rdr, final Output out,
+        final Charset cset, final int max) {
+        this(() -> rdr, out, cset, max);
+    }
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param out The output
+     * @param cset The charset
+     * @param max Number of characters to encode at once
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private EncodedChars(final Scalar<Reader> rdr, final Output out,
+        final Charset cset, final int max) {
+        this.reader = rdr;
+        this.output = out;
+        this.charset = cset;
+        this.size = max;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        long total = 0L;
+        try (Reader rdr = this.reader.value();
+            OutputStream stream = this.output.stream()) {
+            final CharsEncoder encoder = new CharsEncoder(
+                rdr, this.charset, this.size
+            );
+            for (ByteBuffer buf = encoder.next(); buf.hasRemaining();
+                buf = encoder.next()) {
+                stream.write(buf.array(), buf.position(), buf.remaining());
+                total += buf.remaining();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import org.cactoos.Func;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Glob matching paths relative to a directory.
+ *
+ * <p>The pattern is compiled once, on first use.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class Glob implements Func<Path, Boolean> {
+
+    /**
+     * The directory paths are relative to.
+     */
+    private final Path root;
+
+    /**
+     * The compiled pattern.
+     */
+    private final Unchecked<PathMatcher> matcher;
+
+    /**
+     * Ctor.
+     * @param dir The directory paths are relative to
+     * @param glob The glob
+     */
+    Glob(final Path dir, final String glob) {
+        this.root = dir;
+        this.matcher = new Unchecked<>(
+            new Sticky<>(
+                () -> dir.getFileSystem().getPathMatcher(
+                    "glob:".concat(glob)
+                )
+            )
+        );
+    }
+
+    @Override
+    public Boolean apply(final Path path) {
+        return this.matcher.value().matches(this.root.relativize(path));
+    }
+
+}
@@ -73,6 +73,23 @@ public final class HeadInputStream extends InputStream {
         return adjusted;
     }
 
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int adjusted;
+        if (this.processed >= this.length) {
+            adjusted = -1;
+        } else {
+            adjusted = this.origin.read(
+                buf, off, (int) Math.min(len, this.length - this.processed)
+            );
+            if (adjusted > 0) {
+                this.processed = this.processed + adjusted;
+            }
+        }
+        return adjusted;
+    }
+
     @Override
     public long skip(final long skip) throws IOException {
         final long adjusted;
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import org.cactoos.Input;
+
+/**
+ * Input decoded from hexadecimal digits.
+ *
+ * <p>Unlike {@link org.cactoos.bytes.HexOf}, the digits are decoded a
+ * buffer at a time, as the stream is read, so inputs of any size are
+ * decoded in constant memory. Both lower and upper case digits are
+ * accepted. Reading fails with {@link java.io.IOException} on a
+ * character that is not a digit or on an odd number of digits.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class HexInput implements Input {
+
+    /**
+     * The hexadecimal digits.
+     */
+    private final Input origin;
+
+    /**
+     * Number of bytes to decode at once.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param input The hexadecimal digits
+     */
+    public HexInput(final Input input) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(input, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param input The hexadecimal digits
+     * @param max Number of bytes to decode at once
+     */
+    public HexInput(final Input input, final int max) {
+        this.origin = input;
+        this.size = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        return new HexInputStream(this.origin.stream(), this.size);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Stream of bytes decoded from a stream of hexadecimal digits.
+ *
+ * <p>This class is for internal use only. Use {@link HexInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HexInputStream extends InputStream {
+
+    /**
+     * The hexadecimal digits.
+     */
+    private final InputStream origin;
+
+    /**
+     * Digits read but not decoded yet.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Ctor.
+     * @param stream The hexadecimal digits
+     * @param max Number of bytes to decode at once
+     */
+    HexInputStream(final InputStream stream, final int max) {
+        super();
+        this.origin = stream;
+        this.buffer = new byte[Math.max(max, 1) << 1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int result;
+        if (this.fill(2) == 0) {
+            result = -1;
+        } else {
+            result = this.digit(this.buffer[0]) << 4
+                | this.digit(this.buffer[1]);
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else {
+            final int digits = this.fill(
+                Math.min(len << 1, this.buffer.length)
+            );
+            if (digits == 0) {
+                done = -1;
+            } else {
+                done = digits >> 1;
+                for (int idx = 0; idx < done; ++idx) {
+                    buf[off + idx] = (byte) (
+                        this.digit(this.buffer[idx << 1]) << 4
+                            | this.digit(this.buffer[(idx << 1) + 1])
+                    );
+                }
+            }
+        }
+        return done;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available() >> 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Read an even number of digits into the buffer.
+     * @param max Maximum number of digits to read
+     * @return Number of digits read, zero at the end of the stream
+     * @throws IOException If fails or the number of digits is odd
+     */
+    private int fill(final int max) throws IOException {
+        int digits = this.origin.read(this.buffer, 0, max);
+        if (digits < 0) {
+            digits = 0;
+        }
+        if ((digits & 1) == 1) {
+            final int next = this.origin.read();
+            if (next < 0) {
+                throw new IOException("Length of hexadecimal text is odd");
+            }
+            this.buffer[digits] = (byte) next;
+            ++digits;
+        }
+        return digits;
+    }
+
+    /**
+     * Value of a hexadecimal digit.
+     * @param chr The digit
+     * @return The value
+     * @throws IOException If it's not a hexadecimal digit
+     */
+    private int digit(final byte chr) throws IOException {
+        final int result = Character.digit((char) (chr & 0xFF), 16);
+        if (result == -1) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Unexpected character '%c'", (char) (chr & 0xFF)
+                    )
+                ).asString()
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import org.cactoos.Output;
+
+/**
+ * Output that receives hexadecimal digits of the bytes written.
+ *
+ * <p>Unlike {@link org.cactoos.text.HexOf}, the bytes are encoded a
+ * buffer at a time, as they are written, so payloads of any size are
+ * encoded in constant memory. The digits are lower case.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class HexOutput implements Output {
+
+    /**
+     * Where the digits go.
+     */
+    private final Output origin;
+
+    /**
+     * Number of bytes to encode at once.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param output Where the digits go
+     */
+    public HexOutput(final Output output) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output Where the digits go
+     * @param max Number of bytes to encode at once
+     */
+    public HexOutput(final Output output, final int max) {
+        this.origin = output;
+        this.size = max;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return new HexOutputStream(this.origin.stream(), this.size);
+    }
+}
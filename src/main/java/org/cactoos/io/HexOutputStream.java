@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stream that writes hexadecimal digits of the bytes written to it.
+ *
+ * <p>This class is for internal use only. Use {@link HexOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HexOutputStream extends OutputStream {
+
+    /**
+     * The hexadecimal digits.
+     */
+    private static final byte[] DIGITS = {
+        '0', '1', '2', '3', '4', '5', '6', '7',
+        '8', '9', 'a', 'b', 'c', 'd', 'e', 'f',
+    };
+
+    /**
+     * Where the digits go.
+     */
+    private final OutputStream origin;
+
+    /**
+     * Digits encoded but not written yet.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Ctor.
+     * @param stream Where the digits go
+     * @param max Number of bytes to encode at once
+     */
+    HexOutputStream(final OutputStream stream, final int max) {
+        super();
+        this.origin = stream;
+        this.buffer = new byte[Math.max(max, 1) << 1];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.buffer[0] = HexOutputStream.DIGITS[(data >>> 4) & 0x0F];
+        this.buffer[1] = HexOutputStream.DIGITS[data & 0x0F];
+        this.origin.write(this.buffer, 0, 2);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int start = off;
+        final int end = off + len;
+        while (start < end) {
+            final int chunk = Math.min(end - start, this.buffer.length >> 1);
+            for (int idx = 0; idx < chunk; ++idx) {
+                final int value = buf[start + idx] & 0xFF;
+                this.buffer[idx << 1] = HexOutputStream.DIGITS[value >>> 4];
+                this.buffer[(idx << 1) + 1] =
+                    HexOutputStream.DIGITS[value & 0x0F];
+            }
+            this.origin.write(this.buffer, 0, chunk << 1);
+            start += chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -23,14 +23,25 @@
  */
 package org.cactoos.io;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.text.FormattedText;
 
 /**
  * Input as Byte Array.
  *
+ * <p>The bytes are copied only once. The size of the content is taken
+ * from {@link InputStream#available()}, which is exact for files and
+ * byte arrays, and the content is read straight into an array of that
+ * size. When the stream has more bytes than that, the rest is read
+ * into a list of chunks, which are joined together only at the
+ * end.</p>
+ *
  * <p>This class is for internal use only. Use {@link BytesOf} instead.</p>
  *
  * <p>There is no thread-safety guarantee.
@@ -39,13 +50,18 @@ import org.cactoos.Input;
  */
 final class InputAsBytes implements Bytes {
 
+    /**
+     * The largest array the JVM can allocate.
+     */
+    private static final int MAX = Integer.MAX_VALUE - 8;
+
     /**
      * The input.
      */
     private final Input source;
 
     /**
-     * The buffer size.
+     * The size of a chunk, when the size of the content is unknown.
      */
     private final int size;
 
@@ -70,17 +86,85 @@ final class InputAsBytes implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final InputStream stream = new TeeInput(
-                this.source, new OutputTo(baos)
-            ).stream()) {
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                if (stream.read(buf) < 0) {
-                    break;
+        try (final InputStream stream = this.source.stream()) {
+            final byte[] head = new byte[
+                Math.min(Math.max(stream.available(), 0), InputAsBytes.MAX)
+            ];
+            final int read = this.fill(stream, head, 0);
+            final byte[] bytes;
+            if (read < head.length) {
+                bytes = Arrays.copyOf(head, read);
+            } else {
+                final int next = stream.read();
+                if (next < 0) {
+                    bytes = head;
+                } else {
+                    bytes = this.rest(stream, head, (byte) next);
                 }
             }
-            return baos.toByteArray();
+            return bytes;
+        }
+    }
+
+    /**
+     * Read the rest of the stream in chunks and join them.
+     * @param stream The stream
+     * @param head The bytes read so far
+     * @param next The byte read after them
+     * @return All the bytes
+     * @throws IOException If fails
+     */
+    private byte[] rest(final InputStream stream, final byte[] head,
+        final byte next) throws IOException {
+        final List<byte[]> chunks = new ArrayList<>();
+        chunks.add(head);
+        long total = head.length;
+        byte[] chunk = new byte[Math.max(this.size, 1)];
+        chunk[0] = next;
+        int filled = this.fill(stream, chunk, 1);
+        while (filled == chunk.length) {
+            chunks.add(chunk);
+            total += filled;
+            chunk = new byte[chunk.length];
+            filled = this.fill(stream, chunk, 0);
+        }
+        chunks.add(Arrays.copyOf(chunk, filled));
+        total += filled;
+        if (total > InputAsBytes.MAX) {
+            throw new IOException(
+                new FormattedText(
+                    "Can't fit %d bytes into an array", total
+                ).asString()
+            );
+        }
+        final byte[] bytes = new byte[(int) total];
+        int offset = 0;
+        for (final byte[] part : chunks) {
+            System.arraycopy(part, 0, bytes, offset, part.length);
+            offset += part.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Read from the stream until the array is full or the stream ends.
+     * @param stream The stream
+     * @param array The array
+     * @param from The position to start from
+     * @return The number of bytes in the array
+     * @throws IOException If fails
+     */
+    private int fill(final InputStream stream, final byte[] array,
+        final int from) throws IOException {
+        int filled = from;
+        while (filled < array.length) {
+            final int len = stream.read(array, filled, array.length - filled);
+            if (len < 0) {
+                break;
+            }
+            filled += len;
         }
+        return filled;
     }
+
 }
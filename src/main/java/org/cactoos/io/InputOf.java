@@ -31,6 +31,7 @@ import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
@@ -109,7 +110,7 @@ public final class InputOf implements Input {
      * @param rdr Reader
      */
     public InputOf(final Reader rdr) {
-        this(new BytesOf(rdr));
+        this(rdr, StandardCharsets.UTF_8);
     }
 
     /**
@@ -118,7 +119,8 @@ public final class InputOf implements Input {
      * @param charset Charset
      */
     public InputOf(final Reader rdr, final Charset charset) {
-        this(new BytesOf(rdr, charset));
+        // @checkstyle MagicNumber (1 line)
+        this(rdr, charset, 16 << 10);
     }
 
     /**
@@ -127,7 +129,8 @@ public final class InputOf implements Input {
      * @param charset Charset
      */
     public InputOf(final Reader rdr, final CharSequence charset) {
-        this(new BytesOf(rdr, charset));
+        // @checkstyle MagicNumber (1 line)
+        this(rdr, charset, 16 << 10);
     }
 
     /**
@@ -137,7 +140,7 @@ public final class InputOf implements Input {
      * @since 0.13.3
      */
     public InputOf(final Reader rdr, final int max) {
-        this(new BytesOf(rdr, max));
+        this(rdr, StandardCharsets.UTF_8, max);
     }
 
     /**
@@ -147,7 +150,7 @@ public final class InputOf implements Input {
      * @param max Buffer size
      */
     public InputOf(final Reader rdr, final Charset charset, final int max) {
-        this(new BytesOf(rdr, charset, max));
+        this(() -> new ReaderAsInputStream(rdr, charset, max));
     }
 
     /**
@@ -158,7 +161,11 @@ public final class InputOf implements Input {
      */
     public InputOf(final Reader rdr, final CharSequence charset,
         final int max) {
-        this(new BytesOf(rdr, charset, max));
+        this(
+            () -> new ReaderAsInputStream(
+                rdr, Charset.forName(charset.toString()), max
+            )
+        );
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.Charset;
+import org.cactoos.Input;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.text.TextOf;
+
+/**
+ * Lines of an input, streamed one by one.
+ *
+ * <p>The input is never loaded as a whole, see {@link RecordViews} for
+ * the details of splitting. Every line is copied into its own
+ * {@link Text}, so they can be kept; iterate {@link RecordViews}
+ * directly to avoid the copies.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LinesOf extends IterableEnvelope<Text> {
+
+    /**
+     * Ctor.
+     * @param input The input, in UTF-8
+     */
+    public LinesOf(final Input input) {
+        this(new RecordViews(input));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param charset The charset
+     */
+    public LinesOf(final Input input, final Charset charset) {
+        this(new RecordViews(input, charset));
+    }
+
+    /**
+     * Ctor.
+     * @param records The records to copy
+     */
+    public LinesOf(final Iterable<CharSequence> records) {
+        super(() -> new Mapped<>(rec -> new TextOf(rec.toString()), records));
+    }
+
+}
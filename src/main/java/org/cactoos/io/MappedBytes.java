@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import org.cactoos.Bytes;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Content of a file as a byte array, copied from memory-mapped windows.
+ *
+ * <p>The array is allocated once, with the size of the file, and the
+ * windows are copied straight into it: there is no intermediate
+ * buffer and no array growth.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedBytes implements Bytes {
+
+    /**
+     * The largest array the JVM can allocate.
+     */
+    private static final long MAX = Integer.MAX_VALUE - 8;
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * The maximum size of a window.
+     */
+    private final int window;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedBytes(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedBytes(final Path file) {
+        // @checkstyle MagicNumber (1 line)
+        this(file, 1 << 30);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param max The maximum size of a window
+     */
+    public MappedBytes(final Path file, final int max) {
+        this.path = file;
+        this.window = max;
+    }
+
+    @Override
+    public byte[] asBytes() throws IOException {
+        final long size = Files.size(this.path);
+        if (size > MappedBytes.MAX) {
+            throw new IOException(
+                new FormattedText(
+                    "File %s of %d bytes doesn't fit into an array",
+                    this.path, size
+                ).asString()
+            );
+        }
+        final byte[] bytes = new byte[(int) size];
+        final Iterator<ByteBuffer> windows = new WindowsIterator(
+            this.path, size, this.window
+        );
+        int offset = 0;
+        while (windows.hasNext()) {
+            final ByteBuffer next = windows.next();
+            final int length = next.remaining();
+            next.get(bytes, offset, length);
+            offset += length;
+        }
+        return bytes;
+    }
+
+}
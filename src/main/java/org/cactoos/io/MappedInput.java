@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import org.cactoos.Input;
+
+/**
+ * Content of a file, read through read-only memory-mapped windows.
+ *
+ * <p>Unlike {@link InputOf} of a file, the stream doesn't go through
+ * a {@link java.io.FileInputStream}: its bytes come straight from the
+ * mapped {@link MappedWindows}, one window at a time, so files larger
+ * than 2 GB can be read too.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedInput implements Input {
+
+    /**
+     * The windows.
+     */
+    private final Iterable<ByteBuffer> windows;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final File file) {
+        this(new MappedWindows(file));
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final Path file) {
+        this(new MappedWindows(file));
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param max The maximum size of a window
+     */
+    public MappedInput(final Path file, final int max) {
+        this(new MappedWindows(file, max));
+    }
+
+    /**
+     * Ctor.
+     * @param wnds The windows
+     */
+    private MappedInput(final MappedWindows wnds) {
+        this.windows = wnds;
+    }
+
+    @Override
+    public InputStream stream() {
+        return new BuffersInputStream(this.windows.iterator());
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Content of a file as read-only memory-mapped windows.
+ *
+ * <p>Each window is a {@link java.nio.MappedByteBuffer} of at most
+ * {@code window} bytes, mapped only when the iteration reaches it,
+ * so files larger than 2 GB are streamed window by window. Reading
+ * a window doesn't copy the file to the heap.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedWindows implements Iterable<ByteBuffer> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * The maximum size of a window.
+     */
+    private final int window;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedWindows(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedWindows(final Path file) {
+        // @checkstyle MagicNumber (1 line)
+        this(file, 1 << 30);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param max The maximum size of a window
+     */
+    public MappedWindows(final Path file, final int max) {
+        this.path = file;
+        this.window = max;
+    }
+
+    @Override
+    public Iterator<ByteBuffer> iterator() {
+        return new WindowsIterator(
+            this.path,
+            new Unchecked<>(() -> Files.size(this.path)).value(),
+            this.window
+        );
+    }
+
+}
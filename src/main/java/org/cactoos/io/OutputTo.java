@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.file.Path;
@@ -174,6 +175,19 @@ public final class OutputTo implements Output {
         this(() -> stream);
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>When a file is copied into this output through {@link TeeInput},
+     * its bytes are transferred into the channel directly.</p>
+     *
+     * @param channel The channel
+     * @since 1.0
+     */
+    public OutputTo(final WritableByteChannel channel) {
+        this(() -> new ChannelOutputStream(channel));
+    }
+
     /**
      * Ctor.
      * @param output The output
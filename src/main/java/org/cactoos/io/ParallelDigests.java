@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.Scope;
+
+/**
+ * Digests of many files, hashed concurrently.
+ *
+ * <p>Every file is hashed by a separate task, at most the given number
+ * at a time, through a {@link DigestCache}, so unchanged files are not
+ * read again. The digests are keyed by the paths, in the order they
+ * were given. The first failure cancels the remaining tasks and is
+ * rethrown.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ParallelDigests implements Scalar<Map<Path, byte[]>> {
+
+    /**
+     * Runs the hashing tasks.
+     */
+    private final Func<Iterable<Scalar<byte[]>>, Scalar<List<byte[]>>> scope;
+
+    /**
+     * The files.
+     */
+    private final Iterable<Path> files;
+
+    /**
+     * The algorithm.
+     */
+    private final String algorithm;
+
+    /**
+     * The cache.
+     */
+    private final DigestCache cache;
+
+    /**
+     * Ctor.
+     * @param paths The files
+     * @param algrthm The algorithm
+     */
+    public ParallelDigests(final Iterable<Path> paths, final String algrthm) {
+        this(
+            Runtime.getRuntime().availableProcessors(),
+            paths, algrthm, new DigestCache()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param threads How many files to hash at a time
+     * @param paths The files
+     * @param algrthm The algorithm
+     * @param cch The cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelDigests(final int threads, final Iterable<Path> paths,
+        final String algrthm, final DigestCache cch) {
+        this(tasks -> new Scope<>(threads, tasks), paths, algrthm, cch);
+    }
+
+    /**
+     * Ctor.
+     * @param exc Executor to hash on
+     * @param threads How many files to hash at a time
+     * @param paths The files
+     * @param algrthm The algorithm
+     * @param cch The cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelDigests(final ExecutorService exc, final int threads,
+        final Iterable<Path> paths, final String algrthm,
+        final DigestCache cch) {
+        this(tasks -> new Scope<>(exc, threads, tasks), paths, algrthm, cch);
+    }
+
+    /**
+     * Ctor.
+     * @param scp Runs the hashing tasks
+     * @param paths The files
+     * @param algrthm The algorithm
+     * @param cch The cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private ParallelDigests(
+        final Func<Iterable<Scalar<byte[]>>, Scalar<List<byte[]>>> scp,
+        final Iterable<Path> paths, final String algrthm,
+        final DigestCache cch) {
+        this.scope = scp;
+        this.files = paths;
+        this.algorithm = algrthm;
+        this.cache = cch;
+    }
+
+    @Override
+    public Map<Path, byte[]> value() throws Exception {
+        final List<Path> paths = new ArrayList<>(0);
+        final List<Scalar<byte[]>> tasks = new ArrayList<>(0);
+        for (final Path path : this.files) {
+            paths.add(path);
+            tasks.add(() -> this.cache.digest(path, this.algorithm));
+        }
+        final Iterator<byte[]> digests =
+            this.scope.apply(tasks).value().iterator();
+        final Map<Path, byte[]> result = new LinkedHashMap<>(paths.size());
+        for (final Path path : paths) {
+            result.put(path, digests.next());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+
+/**
+ * Files and folders in a directory, walked by several threads.
+ *
+ * <p>Every directory is listed by a separate task on the executor, so
+ * sibling subtrees are walked concurrently. Paths are handed over
+ * through a queue of the given capacity: when it is full the walkers
+ * wait for the consumer, so memory stays bounded whatever the size of
+ * the tree. The order of the paths is not defined.</p>
+ *
+ * <p>The iterator is {@link AutoCloseable}. Close it when you stop
+ * iterating before the end, so the walkers give up at once instead of
+ * waiting for the queue to drain:</p>
+ *
+ * <pre>{@code
+ * final Iterator<Path> paths = new ParallelDirectory(pool, dir).iterator();
+ * try {
+ *     final Path first = paths.next();
+ * } finally {
+ *     ((AutoCloseable) paths).close();
+ * }
+ * }</pre>
+ *
+ * <p>Walkers also give up when their thread is interrupted, for example
+ * by {@link ExecutorService#shutdownNow()}.</p>
+ *
+ * <p>If the walk fails, the paths found so far are still yielded and
+ * the failure is thrown at the end, wrapped into
+ * {@link java.io.UncheckedIOException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ParallelDirectory implements Iterable<Path> {
+
+    /**
+     * Executor to walk on.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Path of the directory.
+     */
+    private final Path dir;
+
+    /**
+     * Capacity of the queue.
+     */
+    private final int capacity;
+
+    /**
+     * Maximum depth to descend to.
+     */
+    private final int depth;
+
+    /**
+     * Which directories to descend into.
+     */
+    private final Func<Path, Boolean> descend;
+
+    /**
+     * Which paths to yield.
+     */
+    private final Func<Path, Boolean> accept;
+
+    /**
+     * Ctor.
+     * @param exc Executor to walk on
+     * @param path Path of the dir
+     */
+    public ParallelDirectory(final ExecutorService exc, final Path path) {
+        // @checkstyle MagicNumber (1 line)
+        this(exc, path, 1024);
+    }
+
+    /**
+     * Ctor.
+     * @param exc Executor to walk on
+     * @param path Path of the dir
+     * @param cap Capacity of the queue
+     */
+    public ParallelDirectory(final ExecutorService exc, final Path path,
+        final int cap) {
+        this(exc, path, cap, Integer.MAX_VALUE, dir -> true, file -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param exc Executor to walk on
+     * @param path Path of the dir
+     * @param cap Capacity of the queue
+     * @param glob Glob the paths, relative to the dir, have to match
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelDirectory(final ExecutorService exc, final Path path,
+        final int cap, final String glob) {
+        this(
+            exc, path, cap, Integer.MAX_VALUE,
+            dir -> true, new Glob(path, glob)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param exc Executor to walk on
+     * @param path Path of the dir
+     * @param cap Capacity of the queue
+     * @param max Maximum depth, zero for the directory itself only
+     * @param dirs Which directories to descend into
+     * @param files Which paths to yield
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelDirectory(final ExecutorService exc, final Path path,
+        final int cap, final int max, final Func<Path, Boolean> dirs,
+        final Func<Path, Boolean> files) {
+        this.executor = exc;
+        this.dir = path;
+        this.capacity = cap;
+        this.depth = max;
+        this.descend = dirs;
+        this.accept = files;
+    }
+
+    @Override
+    public Iterator<Path> iterator() {
+        return new ParallelWalkIterator(
+            this.executor, this.dir, this.capacity,
+            this.depth, this.descend, this.accept
+        );
+    }
+
+}
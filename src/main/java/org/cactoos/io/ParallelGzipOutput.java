@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+import org.cactoos.Output;
+
+/**
+ * Output that writes compressed data in the GZIP file format, deflating
+ * blocks of it in parallel.
+ *
+ * <p>Like pigz, it cuts the data into blocks, deflates them on the
+ * executor, each one primed with the last 32 KB of the block before it,
+ * and joins them into a single standard GZIP member, which
+ * {@link GzipInput} and any other GZIP reader can decompress. The data
+ * must be complete when the stream is closed: the trailer is written
+ * then.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see GzipOutput
+ * @since 1.0
+ */
+public final class ParallelGzipOutput implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The size of a block.
+     */
+    private final int size;
+
+    /**
+     * The compression level.
+     */
+    private final int level;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public ParallelGzipOutput(final Output output) {
+        this(output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exec The executor to deflate blocks on
+     */
+    public ParallelGzipOutput(final Output output, final ExecutorService exec) {
+        // @checkstyle MagicNumber (1 line)
+        this(output, exec, 128 << 10, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exec The executor to deflate blocks on
+     * @param block The size of a block
+     * @param lvl The compression level
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelGzipOutput(final Output output, final ExecutorService exec,
+        final int block, final int lvl) {
+        this.origin = output;
+        this.executor = exec;
+        this.size = block;
+        this.level = lvl;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        return new ParallelGzipStream(
+            this.origin.stream(),
+            this.executor,
+            this.size,
+            this.level,
+            2 * Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * Output stream that deflates blocks of data in parallel into a single
+ * GZIP member.
+ *
+ * <p>The data is cut into blocks, which are deflated concurrently as
+ * {@link DeflatedBlock}s and written in their original order. At most
+ * {@code ahead} blocks are in flight at once. The checksum is computed
+ * as the data is written. When a block fails to deflate, the blocks
+ * still in flight are cancelled. Closing the stream more than once has
+ * no effect.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ParallelGzipOutput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ParallelGzipStream extends OutputStream {
+
+    /**
+     * The GZIP header: magic, deflate, no flags, no time, unknown OS.
+     * @checkstyle MagicNumber (3 lines)
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * The size of the deflate window.
+     */
+    private static final int WINDOW = 32 << 10;
+
+    /**
+     * The stream to write into.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The compression level.
+     */
+    private final int level;
+
+    /**
+     * The maximum number of blocks in flight.
+     */
+    private final int ahead;
+
+    /**
+     * The blocks in flight, in order.
+     */
+    private final Queue<Future<byte[]>> pending;
+
+    /**
+     * The checksum of the data.
+     */
+    private final CRC32 crc;
+
+    /**
+     * The block being filled.
+     */
+    private byte[] block;
+
+    /**
+     * The number of bytes in the block being filled.
+     */
+    private int filled;
+
+    /**
+     * The tail of the last block sent for deflating.
+     */
+    private byte[] dictionary;
+
+    /**
+     * The number of bytes written so far.
+     */
+    private long total;
+
+    /**
+     * Whether the header is written.
+     */
+    private boolean started;
+
+    /**
+     * Whether the stream is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param out The stream to write into
+     * @param exec The executor
+     * @param size The size of a block
+     * @param lvl The compression level
+     * @param max The maximum number of blocks in flight
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ParallelGzipStream(final OutputStream out, final ExecutorService exec,
+        final int size, final int lvl, final int max) {
+        super();
+        this.origin = out;
+        this.executor = exec;
+        this.level = lvl;
+        this.ahead = max;
+        this.pending = new ArrayDeque<>(max);
+        this.crc = new CRC32();
+        this.block = new byte[size];
+        this.dictionary = new byte[0];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        this.crc.update(buf, off, len);
+        this.total += (long) len;
+        int offset = off;
+        int rest = len;
+        while (rest > 0) {
+            final int step = Math.min(rest, this.block.length - this.filled);
+            System.arraycopy(buf, offset, this.block, this.filled, step);
+            this.filled += step;
+            offset += step;
+            rest -= step;
+            if (this.filled == this.block.length) {
+                this.submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.filled > 0) {
+            this.submit(false);
+        }
+        while (!this.pending.isEmpty()) {
+            this.drain();
+        }
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                this.submit(true);
+                while (!this.pending.isEmpty()) {
+                    this.drain();
+                }
+                final long sum = this.crc.getValue();
+                // @checkstyle MagicNumber (1 line)
+                final byte[] trailer = new byte[8];
+                for (int idx = 0; idx < Integer.BYTES; ++idx) {
+                    // @checkstyle MagicNumber (2 lines)
+                    trailer[idx] = (byte) (sum >>> (idx * 8));
+                    trailer[idx + 4] = (byte) (this.total >>> (idx * 8));
+                }
+                this.origin.write(trailer);
+            } finally {
+                this.origin.close();
+            }
+        }
+    }
+
+    /**
+     * Send the block being filled for deflating.
+     * @param last Whether it ends the stream
+     * @throws IOException If fails
+     */
+    private void submit(final boolean last) throws IOException {
+        if (!this.started) {
+            this.origin.write(ParallelGzipStream.HEADER);
+            this.started = true;
+        }
+        if (this.pending.size() >= this.ahead) {
+            this.drain();
+        }
+        this.pending.add(
+            this.executor.submit(
+                new DeflatedBlock(
+                    this.dictionary, this.block, this.filled, this.level, last
+                )
+            )
+        );
+        this.dictionary = Arrays.copyOfRange(
+            this.block,
+            Math.max(0, this.filled - ParallelGzipStream.WINDOW),
+            this.filled
+        );
+        this.block = new byte[this.block.length];
+        this.filled = 0;
+    }
+
+    /**
+     * Write the oldest block in flight, once it's deflated.
+     * @throws IOException If fails
+     */
+    private void drain() throws IOException {
+        try {
+            this.origin.write(this.pending.remove().get());
+        } catch (final ExecutionException ex) {
+            this.cancel();
+            throw new IOException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            this.cancel();
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Cancel the blocks in flight.
+     */
+    private void cancel() {
+        for (final Future<byte[]> future : this.pending) {
+            future.cancel(true);
+        }
+        this.pending.clear();
+    }
+
+}
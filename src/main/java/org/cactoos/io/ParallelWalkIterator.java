@@ -0,0 +1,329 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator that walks a directory tree with a task per directory.
+ *
+ * <p>This class is for internal use only. Use {@link ParallelDirectory}
+ * instead.</p>
+ *
+ * <p>Walkers wait for room in the queue in short slices and give up as
+ * soon as the iterator is closed or their thread is interrupted, so an
+ * abandoned walk never pins a thread of the executor.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class ParallelWalkIterator implements Iterator<Path>, AutoCloseable {
+
+    /**
+     * Milliseconds to wait on the queue before checking the flags again.
+     */
+    private static final long PATIENCE = 100L;
+
+    /**
+     * Executor to walk on.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The directory to walk.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth to descend to.
+     */
+    private final int depth;
+
+    /**
+     * Which directories to descend into.
+     */
+    private final UncheckedFunc<Path, Boolean> descend;
+
+    /**
+     * Which paths to yield.
+     */
+    private final UncheckedFunc<Path, Boolean> accept;
+
+    /**
+     * Paths found by the walkers.
+     */
+    private final BlockingQueue<Path> queue;
+
+    /**
+     * Directories being walked.
+     */
+    private final AtomicInteger pending;
+
+    /**
+     * The first failure of a walker.
+     */
+    private final AtomicReference<Exception> failure;
+
+    /**
+     * Marker put into the queue when the walk is over.
+     */
+    private final Path end;
+
+    /**
+     * Whether the iterator is closed.
+     */
+    private final AtomicBoolean stopped;
+
+    /**
+     * The path to yield next, or NULL.
+     */
+    private Path path;
+
+    /**
+     * Whether the walk has started.
+     */
+    private boolean started;
+
+    /**
+     * Whether the walk is over.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param exc Executor to walk on
+     * @param dir The directory to walk
+     * @param cap Capacity of the queue
+     * @param max Maximum depth
+     * @param dirs Which directories to descend into
+     * @param files Which paths to yield
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ParallelWalkIterator(final ExecutorService exc, final Path dir,
+        final int cap, final int max, final Func<Path, Boolean> dirs,
+        final Func<Path, Boolean> files) {
+        this.executor = exc;
+        this.root = dir;
+        this.depth = max;
+        this.descend = new UncheckedFunc<>(dirs);
+        this.accept = new UncheckedFunc<>(files);
+        this.queue = new ArrayBlockingQueue<>(cap);
+        this.pending = new AtomicInteger();
+        this.failure = new AtomicReference<>();
+        this.end = Paths.get("");
+        this.stopped = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.path == null && !this.done) {
+            final Path taken = new Unchecked<>(this::take).value();
+            if (taken == this.end) {
+                this.done = true;
+                final Exception error = this.failure.get();
+                if (error != null) {
+                    new Unchecked<>(
+                        () -> {
+                            throw error;
+                        }
+                    ).value();
+                }
+            } else {
+                this.path = taken;
+            }
+        }
+        return this.path != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more paths in the tree");
+        }
+        final Path next = this.path;
+        this.path = null;
+        return next;
+    }
+
+    /**
+     * Stop the walk: walkers give up and the iterator yields nothing
+     * more.
+     */
+    @Override
+    public void close() {
+        this.stopped.set(true);
+        this.done = true;
+        this.path = null;
+        this.queue.clear();
+    }
+
+    /**
+     * Take the next path from the queue, starting the walk first
+     * if needed.
+     * @return The path or the end marker
+     * @throws Exception If fails
+     */
+    private Path take() throws Exception {
+        if (!this.started) {
+            this.started = true;
+            if (Files.notExists(this.root)) {
+                throw new NoSuchFileException(this.root.toString());
+            }
+            this.spawn(this.root, 0);
+        }
+        Path taken = null;
+        while (taken == null) {
+            taken = this.queue.poll(
+                ParallelWalkIterator.PATIENCE, TimeUnit.MILLISECONDS
+            );
+            if (taken == null && this.pending.get() == 0) {
+                taken = this.queue.poll();
+                if (taken == null) {
+                    taken = this.end;
+                }
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Walk a directory in a new task.
+     * @param dir The directory
+     * @param level Its depth
+     */
+    private void spawn(final Path dir, final int level) {
+        this.pending.incrementAndGet();
+        try {
+            this.executor.execute(() -> this.visit(dir, level));
+        } catch (final RuntimeException ex) {
+            this.pending.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    /**
+     * Walk a directory, recording the failure and signalling the end
+     * of the walk when it is the last one.
+     * @param dir The directory
+     * @param level Its depth
+     */
+    private void visit(final Path dir, final int level) {
+        try {
+            if (this.failure.get() == null && !this.stopped.get()) {
+                this.walk(dir, level);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.failure.compareAndSet(null, ex);
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.failure.compareAndSet(null, ex);
+        } finally {
+            if (this.pending.decrementAndGet() == 0) {
+                this.finish();
+            }
+        }
+    }
+
+    /**
+     * Yield the directory and its files, spawning tasks
+     * for its subdirectories.
+     * @param dir The directory
+     * @param level Its depth
+     * @throws IOException If fails
+     * @throws InterruptedException If interrupted
+     */
+    private void walk(final Path dir, final int level)
+        throws IOException, InterruptedException {
+        if (this.accept.apply(dir)) {
+            this.put(dir);
+        }
+        if (level < this.depth
+            && Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)
+            && this.descend.apply(dir)) {
+            try (DirectoryStream<Path> entries =
+                Files.newDirectoryStream(dir)) {
+                for (final Path entry : entries) {
+                    if (this.failure.get() != null || this.stopped.get()) {
+                        break;
+                    }
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        this.spawn(entry, level + 1);
+                    } else if (this.accept.apply(entry)) {
+                        this.put(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Put a path into the queue, unless the iterator gets closed first.
+     * @param found The path
+     * @throws InterruptedException If interrupted
+     */
+    private void put(final Path found) throws InterruptedException {
+        boolean queued = false;
+        while (!queued && !this.stopped.get()) {
+            queued = this.queue.offer(
+                found, ParallelWalkIterator.PATIENCE, TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    /**
+     * Put the end marker. If the thread is interrupted the marker is
+     * dropped: the consumer notices the end on its own once no
+     * directory is pending.
+     */
+    private void finish() {
+        try {
+            this.put(this.end);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Lines of a file, split into parts of about the same size.
+ *
+ * <p>Every part covers an adjacent range of bytes and yields the lines
+ * starting in it, see {@link RecordViews}, so the parts can be iterated
+ * in parallel and together yield every line exactly once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class PartitionedLines implements Iterable<Iterable<Text>> {
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Number of parts.
+     */
+    private final int parts;
+
+    /**
+     * The charset.
+     */
+    private final Charset charset;
+
+    /**
+     * Ctor.
+     * @param path The file, in UTF-8
+     * @param count Number of parts
+     */
+    public PartitionedLines(final Path path, final int count) {
+        this(path, count, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param count Number of parts
+     * @param cset The charset
+     */
+    public PartitionedLines(final Path path, final int count,
+        final Charset cset) {
+        this.file = path;
+        this.parts = count;
+        this.charset = cset;
+    }
+
+    @Override
+    public Iterator<Iterable<Text>> iterator() {
+        final long size = new Unchecked<>(() -> Files.size(this.file)).value();
+        final long part = Math.max(1L, (size + this.parts - 1) / this.parts);
+        final List<Iterable<Text>> result = new ArrayList<>(this.parts);
+        for (long start = 0L; start < size; start += part) {
+            result.add(
+                new LinesOf(
+                    new RecordViews(
+                        new InputOf(this.file), start,
+                        Math.min(start + part, size), this.charset
+                    )
+                )
+            );
+        }
+        return result.iterator();
+    }
+
+}
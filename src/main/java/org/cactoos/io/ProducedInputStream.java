@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import org.cactoos.Proc;
+
+/**
+ * Input stream of the bytes a producer writes in a background thread.
+ *
+ * <p>The producer starts on the first read and writes into a pipe of
+ * a fixed size, so it never runs ahead of the reader by more than that
+ * size. When the producer fails, the reader gets its exception at the
+ * end of the stream. Closing the stream stops the producer.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ProducedInputStream extends InputStream {
+
+    /**
+     * The producer.
+     */
+    private final Proc<OutputStream> producer;
+
+    /**
+     * The pipe.
+     */
+    private final PipedInputStream pipe;
+
+    /**
+     * The running producer, or NULL if it's not started yet.
+     */
+    private FutureTask<Boolean> task;
+
+    /**
+     * Ctor.
+     * @param prod The producer
+     * @param size The size of the pipe
+     */
+    ProducedInputStream(final Proc<OutputStream> prod, final int size) {
+        super();
+        this.producer = prod;
+        this.pipe = new PipedInputStream(size);
+    }
+
+    @Override
+    public int read() throws IOException {
+        this.start();
+        final int data = this.pipe.read();
+        if (data < 0) {
+            this.check();
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        this.start();
+        final int count = this.pipe.read(buf, off, len);
+        if (count < 0) {
+            this.check();
+        }
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        this.start();
+        return this.pipe.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.pipe.close();
+        if (this.task != null) {
+            this.task.cancel(true);
+        }
+    }
+
+    /**
+     * Start the producer, unless it's started already.
+     * @throws IOException If fails
+     */
+    private void start() throws IOException {
+        if (this.task == null) {
+            final PipedOutputStream sink = new PipedOutputStream(this.pipe);
+            this.task = new FutureTask<>(
+                () -> {
+                    try (final OutputStream output = sink) {
+                        this.producer.exec(output);
+                    }
+                    return true;
+                }
+            );
+            final Thread thread = new Thread(this.task, "cactoos-producer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Rethrow the failure of the producer, if any.
+     * @throws IOException If the producer failed
+     */
+    private void check() throws IOException {
+        try {
+            this.task.get();
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+
+}
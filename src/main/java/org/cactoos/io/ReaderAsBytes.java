@@ -23,6 +23,7 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -122,17 +123,12 @@ final class ReaderAsBytes implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        final char[] buffer = new char[this.size];
-        final StringBuilder builder = new StringBuilder(this.size);
-        while (true) {
-            final int done = this.reader.read(buffer, 0, buffer.length);
-            if (done < 0) {
-                break;
-            }
-            builder.append(buffer, 0, done);
-        }
-        this.reader.close();
-        return builder.toString().getBytes(this.charset.toString());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(this.size);
+        new EncodedChars(
+            this.reader, new OutputTo(out),
+            Charset.forName(this.charset.toString()), this.size
+        ).value();
+        return out.toByteArray();
     }
 
 }
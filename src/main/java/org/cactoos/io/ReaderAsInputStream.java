@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Reader as {@link InputStream}, encoded lazily.
+ *
+ * <p>Characters are read and encoded one buffer at a time, when the
+ * stream is read, so the whole content is never held in memory.</p>
+ *
+ * <p>This class is for internal use only. Use {@link InputStreamOf}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ReaderAsInputStream extends InputStream {
+
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+
+    /**
+     * The encoder.
+     */
+    private final CharsEncoder encoder;
+
+    /**
+     * Encoded bytes not read yet.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param charset The charset
+     * @param max Number of characters to read at once
+     */
+    ReaderAsInputStream(final Reader rdr, final Charset charset,
+        final int max) {
+        super();
+        this.reader = rdr;
+        this.encoder = new CharsEncoder(rdr, charset, max);
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.fill()) {
+            data = this.buffer.get() & 0xFF;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else if (this.fill()) {
+            done = Math.min(len, this.buffer.remaining());
+            this.buffer.get(buf, off, done);
+        } else {
+            done = -1;
+        }
+        return done;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (this.reader.ready()) {
+            this.fill();
+        }
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Encode the next chunk if everything encoded so far was read.
+     * @return TRUE if there are bytes to read
+     * @throws IOException If fails
+     */
+    private boolean fill() throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.buffer = this.encoder.next();
+        }
+        return this.buffer.hasRemaining();
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Input;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator over the delimited records of an input.
+ *
+ * <p>This class is for internal use only. Use {@link RecordViews}
+ * instead.</p>
+ *
+ * <p>The input is read through a reusable buffer and every record is
+ * decoded into the same {@link CharBuffer}, which is returned by
+ * {@link #next()} and stays valid only until the next call.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class RecordIterator implements Iterator<CharSequence> {
+
+    /**
+     * The input.
+     */
+    private final Input input;
+
+    /**
+     * Offset records have to start at or after, rounded up to a code
+     * unit boundary, so ranges cut at arbitrary bytes never overlap.
+     */
+    private final long from;
+
+    /**
+     * Offset records have to start before, rounded up to a code unit
+     * boundary.
+     */
+    private final long to;
+
+    /**
+     * The decoder.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * The delimiter.
+     */
+    private final byte[] delimiter;
+
+    /**
+     * Bytes to drop from the end of every record.
+     */
+    private final byte[] strip;
+
+    /**
+     * Code unit of the charset: delimiters only match at its multiples.
+     */
+    private final int unit;
+
+    /**
+     * The read buffer.
+     */
+    private final byte[] buffer;
+
+    /**
+     * The stream, or NULL until opened.
+     */
+    private InputStream stream;
+
+    /**
+     * Offset of the first byte in the buffer.
+     */
+    private long base;
+
+    /**
+     * Position of the next unread byte in the buffer.
+     */
+    private int pos;
+
+    /**
+     * Number of bytes in the buffer.
+     */
+    private int lim;
+
+    /**
+     * Bytes of the current record.
+     */
+    private byte[] record;
+
+    /**
+     * The decoded record.
+     */
+    private CharBuffer chars;
+
+    /**
+     * Whether the record is decoded and waits to be returned.
+     */
+    private boolean ready;
+
+    /**
+     * Whether there are no more records.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param src The input
+     * @param start Offset of the first record to yield
+     * @param end Offset records have to start before
+     * @param charset The charset
+     * @param delim The delimiter
+     * @param tail Bytes to drop from the end of every record
+     * @param align Code unit of the charset
+     * @param max Size of the read buffer
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    RecordIterator(final Input src, final long start, final long end,
+        final Charset charset, final byte[] delim, final byte[] tail,
+        final int align, final int max) {
+        this.input = src;
+        this.from = start + (align - start % align) % align;
+        final long last = Math.min(end, Long.MAX_VALUE - align);
+        this.to = last + (align - last % align) % align;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.delimiter = delim.clone();
+        this.strip = tail.clone();
+        this.unit = align;
+        this.buffer = new byte[max];
+        this.record = new byte[max];
+        this.chars = CharBuffer.allocate(max);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.ready && !this.done) {
+            this.ready = new Unchecked<>(this::fetch).value();
+        }
+        return this.ready;
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more records");
+        }
+        this.ready = false;
+        return this.chars;
+    }
+
+    /**
+     * Read and decode the next record.
+     * @return Whether there is one
+     * @throws Exception If fails
+     */
+    private boolean fetch() throws Exception {
+        if (this.stream == null) {
+            this.open();
+        }
+        final long start = this.base + this.pos;
+        int len = -1;
+        if (start < this.to) {
+            len = this.read();
+        }
+        if (len < 0) {
+            this.done = true;
+            this.stream.close();
+        } else {
+            this.decode(len);
+        }
+        return !this.done;
+    }
+
+    /**
+     * Open the stream and skip to the first record of the range.
+     * @throws Exception If fails
+     */
+    private void open() throws Exception {
+        this.stream = this.input.stream();
+        if (this.from > 0L) {
+            long skip = Math.max(0L, this.from - this.delimiter.length);
+            while (skip > 0L) {
+                final long skipped = this.stream.skip(skip);
+                if (skipped <= 0L) {
+                    break;
+                }
+                skip -= skipped;
+                this.base += skipped;
+            }
+            this.read();
+        }
+    }
+
+    /**
+     * Read the bytes of a record, without its delimiter.
+     * @return Length of the record or -1 at the end of the input
+     * @throws IOException If fails
+     */
+    private int read() throws IOException {
+        final byte last = this.delimiter[this.delimiter.length - 1];
+        int len = 0;
+        boolean found = false;
+        while (!found) {
+            if (this.pos == this.lim) {
+                this.base += this.lim;
+                this.pos = 0;
+                this.lim = Math.max(0, this.stream.read(this.buffer));
+                if (this.lim == 0) {
+                    break;
+                }
+            }
+            int idx = this.pos;
+            while (idx < this.lim && this.buffer[idx] != last) {
+                ++idx;
+            }
+            if (idx < this.lim) {
+                ++idx;
+            }
+            len = this.append(len, idx);
+            found = this.buffer[idx - 1] == last
+                && this.ends(len, this.delimiter);
+        }
+        final int result;
+        if (found) {
+            result = this.trim(len - this.delimiter.length);
+        } else if (len > 0) {
+            result = this.trim(len);
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * Move bytes from the buffer to the record.
+     * @param len Length of the record so far
+     * @param idx Where to stop in the buffer
+     * @return New length of the record
+     */
+    private int append(final int len, final int idx) {
+        final int count = idx - this.pos;
+        if (len + count > this.record.length) {
+            this.record = Arrays.copyOf(
+                this.record, Math.max(len + count, this.record.length << 1)
+            );
+        }
+        System.arraycopy(this.buffer, this.pos, this.record, len, count);
+        this.pos = idx;
+        return len + count;
+    }
+
+    /**
+     * Drop the bytes to strip from the end of the record.
+     * @param len Length of the record
+     * @return New length of the record
+     */
+    private int trim(final int len) {
+        int result = len;
+        if (this.strip.length > 0 && this.ends(len, this.strip)) {
+            result = len - this.strip.length;
+        }
+        return result;
+    }
+
+    /**
+     * Whether the record ends with the bytes, at a code unit boundary.
+     * @param len Length of the record
+     * @param bytes The bytes
+     * @return TRUE if it does
+     */
+    private boolean ends(final int len, final byte[] bytes) {
+        final int start = len - bytes.length;
+        boolean ends = start >= 0 && start % this.unit == 0;
+        for (int idx = 0; ends && idx < bytes.length; ++idx) {
+            ends = this.record[start + idx] == bytes[idx];
+        }
+        return ends;
+    }
+
+    /**
+     * Decode the record into the char buffer.
+     * @param len Length of the record
+     */
+    private void decode(final int len) {
+        final int size = (int) Math.ceil(
+            len * (double) this.decoder.maxCharsPerByte()
+        ) + 1;
+        if (this.chars.capacity() < size) {
+            this.chars = CharBuffer.allocate(size);
+        }
+        this.chars.clear();
+        this.decoder.reset();
+        this.decoder.decode(
+            ByteBuffer.wrap(this.record, 0, len), this.chars, true
+        );
+        this.decoder.flush(this.chars);
+        this.chars.flip();
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.cactoos.Input;
+
+/**
+ * Lines or delimited records of an input, as views over a reused buffer.
+ *
+ * <p>The input is streamed through a fixed buffer and split on bytes,
+ * never loaded as a whole. Every record is decoded into the same
+ * {@link CharSequence}, which stays valid only until the iterator moves
+ * on: copy it with {@code toString()} to keep it, or use
+ * {@link LinesOf} which does that.</p>
+ *
+ * <p>Lines end with a line feed, optionally preceded by a carriage
+ * return, both encoded in the charset; in multi-byte charsets like
+ * UTF-16 they only match at code unit boundaries. Use a charset with an
+ * explicit byte order, like UTF-16LE, since the byte order mark is not
+ * handled. Records end with the given bytes, which are not decoded.
+ * The last line or record may lack its delimiter, and a delimiter at
+ * the end of the input does not start an empty record.</p>
+ *
+ * <p>A range of byte offsets makes the iteration yield only the records
+ * starting within it: the input skips to the start of the range and
+ * stops after it. Splitting a file into adjacent ranges and iterating
+ * them in parallel yields every record exactly once.</p>
+ *
+ * <p>An iterator closes the input once it reaches the end of the
+ * records.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class RecordViews implements Iterable<CharSequence> {
+
+    /**
+     * The input.
+     */
+    private final Input input;
+
+    /**
+     * Offset of the first record to yield.
+     */
+    private final long from;
+
+    /**
+     * Offset records have to start before.
+     */
+    private final long to;
+
+    /**
+     * The charset.
+     */
+    private final Charset charset;
+
+    /**
+     * The delimiter.
+     */
+    private final byte[] delimiter;
+
+    /**
+     * Bytes to drop from the end of every record.
+     */
+    private final byte[] strip;
+
+    /**
+     * Code unit of the charset.
+     */
+    private final int unit;
+
+    /**
+     * Size of the read buffer.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param src The input, with lines in UTF-8
+     */
+    public RecordViews(final Input src) {
+        this(src, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input, with lines
+     * @param cset The charset
+     */
+    public RecordViews(final Input src, final Charset cset) {
+        this(src, 0L, Long.MAX_VALUE, cset);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input, with lines in UTF-8
+     * @param start Offset of the first line to yield
+     * @param end Offset lines have to start before
+     */
+    public RecordViews(final Input src, final long start, final long end) {
+        this(src, start, end, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input, with lines
+     * @param start Offset of the first line to yield
+     * @param end Offset lines have to start before
+     * @param cset The charset
+     */
+    public RecordViews(final Input src, final long start, final long end,
+        final Charset cset) {
+        this(
+            src, start, end, cset, "\n".getBytes(cset), "\r".getBytes(cset),
+            "\n".getBytes(cset).length
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src The input, with records
+     * @param cset The charset
+     * @param delim The delimiter
+     */
+    public RecordViews(final Input src, final Charset cset,
+        final byte[] delim) {
+        this(src, 0L, Long.MAX_VALUE, cset, delim, new byte[0], 1);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input, with records
+     * @param start Offset of the first record to yield
+     * @param end Offset records have to start before
+     * @param cset The charset
+     * @param delim The delimiter
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RecordViews(final Input src, final long start, final long end,
+        final Charset cset, final byte[] delim) {
+        this(src, start, end, cset, delim, new byte[0], 1);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input
+     * @param start Offset of the first record to yield
+     * @param end Offset records have to start before
+     * @param cset The charset
+     * @param delim The delimiter
+     * @param tail Bytes to drop from the end of every record
+     * @param align Code unit of the charset
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private RecordViews(final Input src, final long start, final long end,
+        final Charset cset, final byte[] delim, final byte[] tail,
+        final int align) {
+        // @checkstyle MagicNumber (1 line)
+        this(src, start, end, cset, delim, tail, align, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param src The input
+     * @param start Offset of the first record to yield
+     * @param end Offset records have to start before
+     * @param cset The charset
+     * @param delim The delimiter
+     * @param tail Bytes to drop from the end of every record
+     * @param align Code unit of the charset
+     * @param size Size of the read buffer
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private RecordViews(final Input src, final long start, final long end,
+        final Charset cset, final byte[] delim, final byte[] tail,
+        final int align, final int size) {
+        this.input = src;
+        this.from = start;
+        this.to = end;
+        this.charset = cset;
+        this.delimiter = delim.clone();
+        this.strip = tail;
+        this.unit = align;
+        this.max = size;
+    }
+
+    @Override
+    public Iterator<CharSequence> iterator() {
+        return new RecordIterator(
+            this.input, this.from, this.to, this.charset,
+            this.delimiter, this.strip, this.unit, this.max
+        );
+    }
+
+}
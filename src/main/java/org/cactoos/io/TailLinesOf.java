@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.cactoos.Input;
+
+/**
+ * Input showing only the last N lines of the stream.
+ *
+ * <p>Lines end with a line feed; the last line may lack it. The lines
+ * are returned as they are, terminators included.</p>
+ *
+ * <p>When the input is a file of a known size, it is scanned backwards
+ * from the end until enough line feeds are found, and its stream is
+ * positioned right at the first of the last lines, so only the tail of
+ * the file is read. Any other input, including pipes and files like the
+ * ones in {@code /proc} which report a zero size, is read to the end,
+ * keeping only the last lines.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class TailLinesOf implements Input {
+
+    /**
+     * Input to decorate.
+     */
+    private final Input input;
+
+    /**
+     * Number of last lines to show from the input.
+     */
+    private final int count;
+
+    /**
+     * Maximum number of bytes to read at once.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param inpt Input to decorate
+     * @param lines Number of last lines to show from the input
+     */
+    public TailLinesOf(final Input inpt, final int lines) {
+        // @checkstyle MagicNumber (1 line)
+        this(inpt, lines, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param inpt Input to decorate
+     * @param lines Number of last lines to show from the input
+     * @param maximum Maximum number of bytes to read at once
+     */
+    public TailLinesOf(final Input inpt, final int lines, final int maximum) {
+        this.input = inpt;
+        this.count = lines;
+        this.max = maximum;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final InputStream strm = this.input.stream();
+        final InputStream tail;
+        if (this.seekable(strm)) {
+            tail = this.seek((FileInputStream) strm);
+        } else {
+            try {
+                tail = this.scan(strm);
+            } finally {
+                strm.close();
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Scan a file backwards for the start of the last lines.
+     * @param strm The file stream
+     * @return The stream positioned at the first of the last lines
+     * @throws IOException If fails
+     */
+    private InputStream seek(final FileInputStream strm) throws IOException {
+        final FileChannel channel = strm.getChannel();
+        final long first = channel.position();
+        final ByteBuffer buf = ByteBuffer.allocate(this.max);
+        long end = channel.size();
+        long start = first;
+        int found = 0;
+        boolean trailing = true;
+        while (found <= this.count && end > first) {
+            final long from = Math.max(first, end - this.max);
+            buf.clear().limit((int) (end - from));
+            int read = 0;
+            while (buf.hasRemaining() && read >= 0) {
+                read = channel.read(buf, from + buf.position());
+            }
+            for (int idx = buf.position() - 1; idx >= 0; --idx) {
+                if (buf.get(idx) == '\n' && !trailing) {
+                    ++found;
+                }
+                trailing = false;
+                if (found == this.count) {
+                    start = from + idx + 1;
+                    ++found;
+                    break;
+                }
+            }
+            end = from;
+        }
+        channel.position(start);
+        return strm;
+    }
+
+    /**
+     * Can the stream be positioned at the tail? Only a file which knows
+     * its size can, pipes and special files report zero.
+     * @param strm The stream
+     * @return TRUE if it's a file of a known size
+     * @throws IOException If fails
+     */
+    private boolean seekable(final InputStream strm) throws IOException {
+        return strm instanceof FileInputStream
+            && ((FileInputStream) strm).getChannel().size() > 0L;
+    }
+
+    /**
+     * Read the whole stream, keeping the last lines.
+     * @param strm The stream
+     * @return The stream of the last lines
+     * @throws IOException If fails
+     */
+    private InputStream scan(final InputStream strm) throws IOException {
+        final Deque<byte[]> lines = new ArrayDeque<>(0);
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        final byte[] buf = new byte[this.max];
+        for (int len = strm.read(buf); len >= 0; len = strm.read(buf)) {
+            int from = 0;
+            for (int idx = 0; idx < len; ++idx) {
+                if (buf[idx] == '\n') {
+                    line.write(buf, from, idx + 1 - from);
+                    this.keep(lines, line);
+                    from = idx + 1;
+                }
+            }
+            line.write(buf, from, len - from);
+        }
+        if (line.size() > 0) {
+            this.keep(lines, line);
+        }
+        final ByteArrayOutputStream tail = new ByteArrayOutputStream();
+        for (final byte[] kept : lines) {
+            tail.write(kept);
+        }
+        return new ByteArrayInputStream(tail.toByteArray());
+    }
+
+    /**
+     * Keep a complete line, dropping the oldest one if there are
+     * too many.
+     * @param lines The last lines
+     * @param line The line
+     */
+    private void keep(final Deque<byte[]> lines,
+        final ByteArrayOutputStream line) {
+        if (this.count > 0) {
+            if (lines.size() == this.count) {
+                lines.removeFirst();
+            }
+            lines.addLast(line.toByteArray());
+        }
+        line.reset();
+    }
+
+}
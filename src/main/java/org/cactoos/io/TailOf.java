@@ -24,7 +24,10 @@
 package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import org.cactoos.Input;
 import org.cactoos.scalar.MinOf;
 import org.cactoos.text.FormattedText;
@@ -32,6 +35,12 @@ import org.cactoos.text.FormattedText;
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>When the input is a file of a known size, its stream is positioned
+ * right at the tail, so only the last bytes are read whatever the size
+ * of the file. Any other input, including pipes and files like the ones
+ * in {@code /proc} which report a zero size, is read to the end, keeping
+ * the last bytes.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
@@ -85,10 +94,56 @@ public final class TailOf implements Input {
                 ).asString()
             );
         }
+        final InputStream strm = this.input.stream();
+        final InputStream tail;
+        if (this.seekable(strm)) {
+            tail = this.seek((FileInputStream) strm);
+        } else {
+            try {
+                tail = this.scan(strm);
+            } finally {
+                strm.close();
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Jump right to the tail of a file.
+     * @param strm The file stream
+     * @return The stream of the last bytes
+     * @throws IOException If fails
+     */
+    private InputStream seek(final FileInputStream strm) throws IOException {
+        final FileChannel channel = strm.getChannel();
+        channel.position(
+            Math.max(channel.position(), channel.size() - this.count)
+        );
+        return new HeadInputStream(strm, this.count);
+    }
+
+    /**
+     * Can the stream be positioned at the tail? Only a file which knows
+     * its size can, pipes and special files report zero.
+     * @param strm The stream
+     * @return TRUE if it's a file of a known size
+     * @throws IOException If fails
+     */
+    private boolean seekable(final InputStream strm) throws IOException {
+        return strm instanceof FileInputStream
+            && ((FileInputStream) strm).getChannel().size() > 0L;
+    }
+
+    /**
+     * Read the whole stream, keeping the last bytes.
+     * @param strm The stream
+     * @return The stream of the last bytes
+     * @throws IOException If fails
+     */
+    private InputStream scan(final InputStream strm) throws IOException {
         final byte[] buffer = new byte[this.max];
         final byte[] response = new byte[this.count];
         int num = 0;
-        final InputStream strm = this.input.stream();
         for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
             if (read < this.max && read < this.count) {
                 num = this.copyPartial(buffer, response, num, read);
@@ -39,6 +39,13 @@ import org.cactoos.Text;
 /**
  * Input to Output copying pipe.
  *
+ * <p>To copy everything at once, use
+ * {@code new LengthOf(new TeeInput(input, output)).value()}, which
+ * returns the number of bytes copied. A file copied into another file,
+ * or into a {@link java.nio.channels.WritableByteChannel} given to
+ * {@link OutputTo}, is then transferred by the operating system without
+ * passing through the heap.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
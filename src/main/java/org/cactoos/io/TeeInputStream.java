@@ -23,9 +23,13 @@
  */
 package org.cactoos.io;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Stream that copies input to output.
@@ -81,6 +85,39 @@ public final class TeeInputStream extends InputStream {
         return max;
     }
 
+    /**
+     * Copy the rest of the input to the output.
+     *
+     * <p>When the input is a file and the output is a file or a
+     * channel, the bytes are moved with
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+     * which lets the operating system copy them without passing them
+     * through the heap. Otherwise they are copied through a buffer.</p>
+     *
+     * @param max Size of the buffer
+     * @return The number of bytes copied
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    public long transfer(final int max) throws IOException {
+        long total = 0L;
+        final WritableByteChannel channel = this.channel();
+        if (channel != null && this.input instanceof FileInputStream) {
+            total = this.transfer(
+                ((FileInputStream) this.input).getChannel(), channel
+            );
+        }
+        final byte[] buf = new byte[max];
+        while (true) {
+            final int len = this.read(buf);
+            if (len < 0) {
+                break;
+            }
+            total += (long) len;
+        }
+        return total;
+    }
+
     @Override
     public long skip(final long num) throws IOException {
         return this.input.skip(num);
@@ -112,4 +149,45 @@ public final class TeeInputStream extends InputStream {
         return this.input.markSupported();
     }
 
+    /**
+     * Transfer the rest of the file into the channel.
+     * @param source The file
+     * @param target The channel
+     * @return The number of bytes transferred
+     * @throws IOException If fails
+     */
+    private long transfer(final FileChannel source,
+        final WritableByteChannel target) throws IOException {
+        final long start = source.position();
+        final long size = source.size();
+        long position = start;
+        while (position < size) {
+            final long sent = source.transferTo(
+                position, size - position, target
+            );
+            if (sent <= 0L) {
+                break;
+            }
+            position += sent;
+        }
+        source.position(position);
+        return position - start;
+    }
+
+    /**
+     * The channel behind the output, if there is one.
+     * @return The channel or NULL
+     */
+    private WritableByteChannel channel() {
+        final WritableByteChannel channel;
+        if (this.output instanceof FileOutputStream) {
+            channel = ((FileOutputStream) this.output).getChannel();
+        } else if (this.output instanceof ChannelOutputStream) {
+            channel = ((ChannelOutputStream) this.output).channel();
+        } else {
+            channel = null;
+        }
+        return channel;
+    }
+
 }
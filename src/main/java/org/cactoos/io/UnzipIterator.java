@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.cactoos.Input;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Iterator that extracts the entries of a zip archive.
+ *
+ * <p>This class is for internal use only. Use {@link Unzipped}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class UnzipIterator implements Iterator<Path> {
+
+    /**
+     * The archive, opened on first use.
+     */
+    private final Unchecked<ZipInputStream> zip;
+
+    /**
+     * The directory to extract into.
+     */
+    private final Path target;
+
+    /**
+     * The entry to extract next, or NULL.
+     */
+    private ZipEntry entry;
+
+    /**
+     * Whether the archive has no more entries.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param archive The archive
+     * @param dir The directory to extract into
+     */
+    UnzipIterator(final Input archive, final Path dir) {
+        this.zip = new Unchecked<>(
+            new Sticky<>(() -> new ZipInputStream(archive.stream()))
+        );
+        this.target = dir.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.entry == null && !this.done) {
+            this.entry = new Unchecked<>(
+                () -> this.zip.value().getNextEntry()
+            ).value();
+            if (this.entry == null) {
+                this.done = true;
+                new Unchecked<>(
+                    () -> {
+                        this.zip.value().close();
+                        return true;
+                    }
+                ).value();
+            }
+        }
+        return this.entry != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more entries to extract");
+        }
+        final ZipEntry current = this.entry;
+        this.entry = null;
+        return new Unchecked<>(() -> this.extract(current)).value();
+    }
+
+    /**
+     * Extract the entry.
+     * @param current The entry
+     * @return Where it was extracted to
+     * @throws IOException If fails
+     */
+    private Path extract(final ZipEntry current) throws IOException {
+        final Path path = this.target.resolve(
+            current.getName().replaceFirst("^[/\\\\]+", "")
+        ).normalize();
+        if (!path.startsWith(this.target)) {
+            throw new IOException(
+                new FormattedText(
+                    "Entry %s is outside of %s",
+                    current.getName(), this.target
+                ).asString()
+            );
+        }
+        if (current.isDirectory()) {
+            Files.createDirectories(path);
+        } else {
+            Files.createDirectories(path.getParent());
+            Files.copy(
+                this.zip.value(), path, StandardCopyOption.REPLACE_EXISTING
+            );
+        }
+        return path;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Iterator;
+import org.cactoos.Input;
+
+/**
+ * Entries of a zip archive, extracted into a directory one by one.
+ *
+ * <p>The archive is read as a stream: every step of the iteration
+ * extracts the next entry and returns the path it was extracted to,
+ * so the archive is never held in memory as a whole. Leading slashes
+ * of entry names are stripped, and an entry that would land outside
+ * of the directory is rejected.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Zip
+ * @since 1.0
+ */
+public final class Unzipped implements Iterable<Path> {
+
+    /**
+     * The archive.
+     */
+    private final Input archive;
+
+    /**
+     * The directory to extract into.
+     */
+    private final Path target;
+
+    /**
+     * Ctor.
+     * @param zip The archive
+     * @param dir The directory to extract into
+     */
+    public Unzipped(final Input zip, final File dir) {
+        this(zip, dir.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param zip The archive
+     * @param dir The directory to extract into
+     */
+    public Unzipped(final Input zip, final Path dir) {
+        this.archive = zip;
+        this.target = dir;
+    }
+
+    @Override
+    public Iterator<Path> iterator() {
+        return new UnzipIterator(this.archive, this.target);
+    }
+
+}
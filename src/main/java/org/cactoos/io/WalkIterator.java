@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator that walks a directory tree lazily, depth first.
+ *
+ * <p>This class is for internal use only. Use {@link Directory}
+ * instead.</p>
+ *
+ * <p>Every open directory is closed when its level is iterated to the
+ * end, when the walk fails, or when the iterator is closed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class WalkIterator implements Iterator<Path>, AutoCloseable {
+
+    /**
+     * The directory to walk.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth to descend to.
+     */
+    private final int depth;
+
+    /**
+     * Which directories to descend into.
+     */
+    private final UncheckedFunc<Path, Boolean> descend;
+
+    /**
+     * Which paths to yield.
+     */
+    private final UncheckedFunc<Path, Boolean> accept;
+
+    /**
+     * Open directories, the deepest on top.
+     */
+    private final Deque<DirectoryStream<Path>> streams;
+
+    /**
+     * Entries left in the open directories, the deepest on top.
+     */
+    private final Deque<Iterator<Path>> levels;
+
+    /**
+     * The path to yield next, or NULL.
+     */
+    private Path path;
+
+    /**
+     * Whether the walk has started.
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param dir The directory to walk
+     * @param max Maximum depth
+     * @param dirs Which directories to descend into
+     * @param files Which paths to yield
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    WalkIterator(final Path dir, final int max,
+        final Func<Path, Boolean> dirs, final Func<Path, Boolean> files) {
+        this.root = dir;
+        this.depth = max;
+        this.descend = new UncheckedFunc<>(dirs);
+        this.accept = new UncheckedFunc<>(files);
+        this.streams = new LinkedList<>();
+        this.levels = new LinkedList<>();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public boolean hasNext() {
+        if (this.path == null) {
+            try {
+                this.path = new Unchecked<>(this::fetch).value();
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final RuntimeException ex) {
+                final IOException failure = this.release();
+                if (failure != null) {
+                    ex.addSuppressed(failure);
+                }
+                throw ex;
+            }
+        }
+        return this.path != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more paths in the tree");
+        }
+        final Path next = this.path;
+        this.path = null;
+        return next;
+    }
+
+    /**
+     * Close all open directories and stop the walk.
+     */
+    @Override
+    public void close() {
+        final IOException failure = this.release();
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Find the next path to yield, opening and closing directories
+     * on the way.
+     * @return The path or NULL if the walk is over
+     * @throws IOException If fails
+     */
+    private Path fetch() throws IOException {
+        Path found = null;
+        while (found == null) {
+            final Path candidate;
+            if (this.started) {
+                if (this.levels.isEmpty()) {
+                    break;
+                }
+                if (!this.levels.peek().hasNext()) {
+                    this.levels.pop();
+                    this.streams.pop().close();
+                    continue;
+                }
+                candidate = this.levels.peek().next();
+            } else {
+                this.started = true;
+                if (Files.notExists(this.root)) {
+                    throw new NoSuchFileException(this.root.toString());
+                }
+                candidate = this.root;
+            }
+            if (this.levels.size() < this.depth
+                && Files.isDirectory(candidate, LinkOption.NOFOLLOW_LINKS)
+                && this.descend.apply(candidate)) {
+                final DirectoryStream<Path> stream =
+                    Files.newDirectoryStream(candidate);
+                this.streams.push(stream);
+                this.levels.push(stream.iterator());
+            }
+            if (this.accept.apply(candidate)) {
+                found = candidate;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Close all open directories, even if some of them fail to close,
+     * and stop the walk.
+     * @return The first failure or NULL
+     */
+    private IOException release() {
+        IOException failure = null;
+        while (!this.streams.isEmpty()) {
+            try {
+                this.streams.pop().close();
+            } catch (final IOException ex) {
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        this.levels.clear();
+        this.started = true;
+        this.path = null;
+        return failure;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Iterator over memory-mapped windows of a file.
+ *
+ * <p>This class is for internal use only. Use {@link MappedWindows}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class WindowsIterator implements Iterator<ByteBuffer> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * The number of bytes to map.
+     */
+    private final long size;
+
+    /**
+     * The maximum size of a window.
+     */
+    private final int window;
+
+    /**
+     * The position of the next window.
+     */
+    private long position;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param total The number of bytes to map
+     * @param max The maximum size of a window
+     */
+    WindowsIterator(final Path file, final long total, final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("Window size %d is not positive", max)
+                ).asString()
+            );
+        }
+        this.path = file;
+        this.size = total;
+        this.window = max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.position < this.size;
+    }
+
+    @Override
+    public ByteBuffer next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more windows to map");
+        }
+        final long start = this.position;
+        final long length = Math.min(this.window, this.size - start);
+        final ByteBuffer buffer = new Unchecked<>(
+            () -> {
+                try (final FileChannel channel = FileChannel.open(
+                    this.path, StandardOpenOption.READ
+                )) {
+                    return channel.map(
+                        FileChannel.MapMode.READ_ONLY, start, length
+                    );
+                }
+            }
+        ).value();
+        this.position = start + length;
+        return buffer;
+    }
+
+}
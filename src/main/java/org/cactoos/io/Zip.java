@@ -24,21 +24,32 @@
 
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.cactoos.Input;
 
 /**
  * Zip files and directory.
- * <br>
+ *
+ * <p>The archive is streamed: a background thread writes the entries
+ * into a bounded pipe while the stream is being read, so neither the
+ * archive nor any of the files is held in memory as a whole. Entries
+ * are deflated with the given level, or stored uncompressed when the
+ * method is {@link ZipEntry#STORED}.</p>
+ *
  * <br>There is no thread-safety guarantee.
  *
+ * @see Unzipped
  * @since 0.29
  */
 @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
@@ -49,35 +60,114 @@ public final class Zip implements Input {
      */
     private final Directory origin;
 
+    /**
+     * Compression method.
+     */
+    private final int method;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
     /**
      * Ctor.
      *
      * @param origin Origin directory.
      */
     public Zip(final Directory origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param lvl Compression level, from 0 to 9
+     * @since 1.0
+     */
+    public Zip(final Directory origin, final int lvl) {
+        this(origin, ZipEntry.DEFLATED, lvl);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param mtd Compression method, {@link ZipEntry#DEFLATED} or
+     *  {@link ZipEntry#STORED}
+     * @param lvl Compression level, from 0 to 9
+     * @since 1.0
+     */
+    public Zip(final Directory origin, final int mtd, final int lvl) {
         this.origin = origin;
+        this.method = mtd;
+        this.level = lvl;
     }
 
     @Override
-    public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (final ZipOutputStream zip = new ZipOutputStream(out)) {
+    public InputStream stream() {
+        // @checkstyle MagicNumber (1 line)
+        return new ProducedInputStream(this::write, 64 << 10);
+    }
+
+    /**
+     * Write the archive.
+     * @param output Where to write it
+     * @throws IOException If fails
+     */
+    private void write(final OutputStream output) throws IOException {
+        try (final ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.setMethod(this.method);
+            zip.setLevel(this.level);
             for (final Path path : this.origin) {
                 final File file = path.toFile();
-                final ZipEntry entry = new ZipEntry(
-                    file.getPath()
-                );
+                final ZipEntry entry;
+                if (file.isDirectory()) {
+                    entry = new ZipEntry(file.getPath().concat("/"));
+                } else {
+                    entry = new ZipEntry(file.getPath());
+                }
+                if (this.method == ZipEntry.STORED) {
+                    this.measure(entry, file);
+                }
                 zip.putNextEntry(entry);
                 if (file.isFile()) {
-                    try (
-                        final FileInputStream input = new FileInputStream(file)
-                    ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
-                    }
+                    Files.copy(path, zip);
                 }
                 zip.closeEntry();
             }
         }
-        return new ByteArrayInputStream(out.toByteArray());
     }
+
+    /**
+     * Set the size and the checksum of a stored entry.
+     * @param entry The entry
+     * @param file Its file
+     * @throws IOException If fails
+     */
+    private void measure(final ZipEntry entry, final File file)
+        throws IOException {
+        final CRC32 crc = new CRC32();
+        long size = 0L;
+        if (file.isFile()) {
+            try (final InputStream input = new CheckedInputStream(
+                new FileInputStream(file), crc
+            )) {
+                // @checkstyle MagicNumber (1 line)
+                final byte[] buf = new byte[16 << 10];
+                while (true) {
+                    final int len = input.read(buf);
+                    if (len < 0) {
+                        break;
+                    }
+                    size += (long) len;
+                }
+            }
+        }
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+    }
+
 }
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Filtered iterable of {@code double}s, without boxing.
+ *
+ * <pre>{@code
+ * new FilteredDoubles(
+ *     x -> x > 1.0, new IterableOfDoubles(1.0, 2.0, 3.0)
+ * )
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Filtered
+ * @since 1.0
+ */
+public final class FilteredDoubles extends DoublesEnvelope {
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source iterable
+     */
+    public FilteredDoubles(final DoublePredicate fnc,
+        final DoublesEnvelope src) {
+        super(
+            () -> new org.cactoos.iterator.FilteredDoubles(fnc, src.iterator())
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterable of {@code int}s, which can be read without boxing.
+ *
+ * <p>Its {@link #iterator()} is a {@link PrimitiveIterator.OfInt} and
+ * its {@link #spliterator()} is a {@link Spliterator.OfInt}, so it can
+ * be consumed by {@code nextInt()} or turned into a primitive
+ * stream by {@link java.util.stream.StreamSupport}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see IterableEnvelope
+ * @since 1.0
+ */
+public abstract class IntsEnvelope implements Iterable<Integer> {
+
+    /**
+     * The iterator.
+     */
+    private final Unchecked<PrimitiveIterator.OfInt> itr;
+
+    /**
+     * The spliterator.
+     */
+    private final Unchecked<Spliterator.OfInt> spltr;
+
+    /**
+     * Ctor.
+     * @param iterator Makes a new iterator on every call
+     */
+    public IntsEnvelope(final Scalar<PrimitiveIterator.OfInt> iterator) {
+        this(
+            iterator,
+            () -> Spliterators.spliteratorUnknownSize(
+                iterator.value(), Spliterator.ORDERED
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param iterator Makes a new iterator on every call
+     * @param spliterator Makes a new spliterator on every call
+     */
+    public IntsEnvelope(final Scalar<PrimitiveIterator.OfInt> iterator,
+        final Scalar<Spliterator.OfInt> spliterator) {
+        this.itr = new Unchecked<>(iterator);
+        this.spltr = new Unchecked<>(spliterator);
+    }
+
+    @Override
+    public final PrimitiveIterator.OfInt iterator() {
+        return this.itr.value();
+    }
+
+    @Override
+    public final Spliterator.OfInt spliterator() {
+        return this.spltr.value();
+    }
+
+    @Override
+    public final boolean equals(final Object other) {
+        boolean equal = other == this;
+        if (!equal && other instanceof Iterable) {
+            final PrimitiveIterator.OfInt mine = this.iterator();
+            final Iterator<?> theirs = ((Iterable<?>) other).iterator();
+            equal = true;
+            while (equal && mine.hasNext() && theirs.hasNext()) {
+                equal = theirs.next().equals(mine.next());
+            }
+            equal = equal && !mine.hasNext() && !theirs.hasNext();
+        }
+        return equal;
+    }
+
+    // @checkstyle MagicNumberCheck (10 lines)
+    @Override
+    public final int hashCode() {
+        final PrimitiveIterator.OfInt items = this.iterator();
+        int hash = 42;
+        while (items.hasNext()) {
+            hash = 37 * hash + Integer.hashCode(items.nextInt());
+        }
+        return hash;
+    }
+}
@@ -24,6 +24,7 @@
 package org.cactoos.iterable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import org.cactoos.Scalar;
 import org.cactoos.iterator.Immutable;
 import org.cactoos.scalar.And;
@@ -35,6 +36,10 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Iterable envelope.
  *
+ * <p>Its {@link #spliterator()} is the one of the encapsulated iterable,
+ * unless another one is provided, so streams over it can be split as good
+ * as the source can.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -49,12 +54,29 @@ public abstract class IterableEnvelope<X> implements Iterable<X> {
      */
     private final Unchecked<Iterable<X>> iterable;
 
+    /**
+     * The spliterator.
+     */
+    private final Unchecked<Spliterator<X>> spliter;
+
     /**
      * Ctor.
      * @param scalar The source
      */
     public IterableEnvelope(final Scalar<Iterable<X>> scalar) {
+        this(scalar, () -> scalar.value().spliterator());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The source
+     * @param spltr Makes a new spliterator over the same items
+     * @since 1.0
+     */
+    public IterableEnvelope(final Scalar<Iterable<X>> scalar,
+        final Scalar<Spliterator<X>> spltr) {
         this.iterable = new Unchecked<>(scalar);
+        this.spliter = new Unchecked<>(spltr);
     }
 
     @Override
@@ -64,6 +86,11 @@ public abstract class IterableEnvelope<X> implements Iterable<X> {
         );
     }
 
+    @Override
+    public final Spliterator<X> spliterator() {
+        return this.spliter.value();
+    }
+
     @Override
     public final boolean equals(final Object other) {
         return new Unchecked<>(
@@ -23,19 +23,21 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.UncheckedFunc;
-import org.cactoos.iterator.IteratorOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
 /**
  * Array as iterable.
  *
+ * <p>Arrays and lists are split by their own spliterators, in halves.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -49,7 +51,7 @@ public final class IterableOf<X> extends IterableEnvelope<X> {
      */
     @SafeVarargs
     public IterableOf(final X... items) {
-        this(() -> new IteratorOf<>(items));
+        this(Arrays.asList(items));
     }
 
     /**
@@ -57,7 +59,7 @@ public final class IterableOf<X> extends IterableEnvelope<X> {
      * @param list The list
      */
     public IterableOf(final List<X> list) {
-        this(list::iterator);
+        super(() -> list);
     }
 
     /**
@@ -23,20 +23,30 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.iterator.IteratorOfDoubles;
 
 /**
  * Iterable of double values.
  *
+ * <p>The values can be read without boxing, see {@link DoublesEnvelope}.
+ * The spliterator is sized and splits the array in halves.</p>
+ *
  * @since 1.0
  */
-public final class IterableOfDoubles extends IterableEnvelope<Double> {
+public final class IterableOfDoubles extends DoublesEnvelope {
 
     /**
      * Ctor.
      * @param values Double values
      */
     public IterableOfDoubles(final double... values) {
-        super(() -> new IterableOf<>(new IteratorOfDoubles(values)));
+        super(
+            () -> new IteratorOfDoubles(values),
+            () -> Spliterators.spliterator(
+                values, Spliterator.ORDERED | Spliterator.IMMUTABLE
+            )
+        );
     }
 }
@@ -23,20 +23,30 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.iterator.IteratorOfInts;
 
 /**
  * Iterable of integer values.
  *
+ * <p>The values can be read without boxing, see {@link IntsEnvelope}.
+ * The spliterator is sized and splits the array in halves.</p>
+ *
  * @since 1.0
  */
-public final class IterableOfInts extends IterableEnvelope<Integer> {
+public final class IterableOfInts extends IntsEnvelope {
 
     /**
      * Ctor.
      * @param values Integer values
      */
     public IterableOfInts(final int... values) {
-        super(() -> () -> new IteratorOfInts(values));
+        super(
+            () -> new IteratorOfInts(values),
+            () -> Spliterators.spliterator(
+                values, Spliterator.ORDERED | Spliterator.IMMUTABLE
+            )
+        );
     }
 }
@@ -23,20 +23,30 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.iterator.IteratorOfLongs;
 
 /**
  * Iterable of long values.
  *
+ * <p>The values can be read without boxing, see {@link LongsEnvelope}.
+ * The spliterator is sized and splits the array in halves.</p>
+ *
  * @since 1.0
  */
-public final class IterableOfLongs extends IterableEnvelope<Long> {
+public final class IterableOfLongs extends LongsEnvelope {
 
     /**
      * Ctor.
      * @param values Long values
      */
     public IterableOfLongs(final long... values) {
-        super(() -> () -> new IteratorOfLongs(values));
+        super(
+            () -> new IteratorOfLongs(values),
+            () -> Spliterators.spliterator(
+                values, Spliterator.ORDERED | Spliterator.IMMUTABLE
+            )
+        );
     }
 }
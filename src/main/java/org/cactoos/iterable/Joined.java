@@ -23,13 +23,19 @@
  */
 package org.cactoos.iterable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
 
 /**
  * A few Iterables joined together.
  *
+ * <p>Its {@link #spliterator()} is split between the iterables first,
+ * in halves, and it is sized if all of them are.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Type of item
@@ -70,13 +76,22 @@ public final class Joined<T> extends IterableEnvelope<T> {
      * @param items Items to concatenate
      */
     public Joined(final Iterable<Iterable<T>> items) {
-        super(() -> {
-            final Collection<Iterator<T>> iterators = new LinkedList<>();
-            for (final Iterable<T> item : items) {
-                iterators.add(item.iterator());
+        super(
+            () -> {
+                final Collection<Iterator<T>> iterators = new LinkedList<>();
+                for (final Iterable<T> item : items) {
+                    iterators.add(item.iterator());
+                }
+                return () -> new org.cactoos.iterator.Joined<>(iterators);
+            },
+            () -> {
+                final List<Spliterator<T>> parts = new ArrayList<>();
+                for (final Iterable<T> item : items) {
+                    parts.add(item.spliterator());
+                }
+                return new JoinedSpliterator<>(parts);
             }
-            return () -> new org.cactoos.iterator.Joined<>(iterators);
-        });
+        );
     }
 
 }
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of joined spliterators.
+ *
+ * <p>It is split between the parts first, in halves, and then inside
+ * of the last remaining part. It is {@link Spliterator#SIZED} and
+ * {@link Spliterator#SUBSIZED} only if all the parts are.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Type of item
+ * @since 1.0
+ */
+final class JoinedSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Characteristics, which are kept if all the parts have them.
+     */
+    private static final int KEPT = Spliterator.ORDERED | Spliterator.SIZED
+        | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    /**
+     * The parts.
+     */
+    private final List<Spliterator<T>> parts;
+
+    /**
+     * End of the parts, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Current part.
+     */
+    private int current;
+
+    /**
+     * Ctor.
+     * @param spltrs The parts
+     */
+    JoinedSpliterator(final List<Spliterator<T>> spltrs) {
+        this(spltrs, 0, spltrs.size());
+    }
+
+    /**
+     * Ctor.
+     * @param spltrs The parts
+     * @param start First part, inclusive
+     * @param finish Last part, exclusive
+     */
+    private JoinedSpliterator(final List<Spliterator<T>> spltrs,
+        final int start, final int finish) {
+        this.parts = spltrs;
+        this.current = start;
+        this.end = finish;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        boolean advanced = false;
+        while (!advanced && this.current < this.end) {
+            advanced = this.parts.get(this.current).tryAdvance(action);
+            if (!advanced) {
+                ++this.current;
+            }
+        }
+        return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (this.current < this.end) {
+            this.parts.get(this.current).forEachRemaining(action);
+            ++this.current;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final Spliterator<T> prefix;
+        if (this.end - this.current > 1) {
+            final int middle = (this.current + this.end) >>> 1;
+            prefix = new JoinedSpliterator<>(
+                this.parts, this.current, middle
+            );
+            this.current = middle;
+        } else if (this.current < this.end) {
+            prefix = this.parts.get(this.current).trySplit();
+        } else {
+            prefix = null;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0L;
+        for (int idx = this.current; idx < this.end && size >= 0L; ++idx) {
+            size += this.parts.get(idx).estimateSize();
+        }
+        if (size < 0L) {
+            size = Long.MAX_VALUE;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        int common = JoinedSpliterator.KEPT;
+        for (int idx = this.current; idx < this.end; ++idx) {
+            common &= this.parts.get(idx).characteristics();
+        }
+        if (this.estimateSize() == Long.MAX_VALUE) {
+            common &= ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+        return common;
+    }
+}
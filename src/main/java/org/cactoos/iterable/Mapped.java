@@ -29,6 +29,9 @@ import org.cactoos.text.TextOf;
 /**
  * Mapped iterable.
  *
+ * <p>Its {@link #spliterator()} is split and sized the same way as the
+ * spliterator of the source.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of source item
@@ -53,9 +56,12 @@ public final class Mapped<X, Y> extends IterableEnvelope<Y> {
      * @param src Source iterable
      */
     public Mapped(final Func<X, Y> fnc, final Iterable<X> src) {
-        super(() -> () -> new org.cactoos.iterator.Mapped<>(
-            fnc, src.iterator()
-        ));
+        super(
+            () -> () -> new org.cactoos.iterator.Mapped<>(
+                fnc, src.iterator()
+            ),
+            () -> new MappedSpliterator<>(fnc, src.spliterator())
+        );
     }
 
     @Override
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Mapped spliterator.
+ *
+ * <p>It is split and sized the same way as the source one.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+final class MappedSpliterator<X, Y> implements Spliterator<Y> {
+
+    /**
+     * Characteristics, which are kept after mapping.
+     */
+    private static final int KEPT = Spliterator.ORDERED | Spliterator.SIZED
+        | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+        | Spliterator.CONCURRENT;
+
+    /**
+     * The source.
+     */
+    private final Spliterator<X> origin;
+
+    /**
+     * The function.
+     */
+    private final UncheckedFunc<X, Y> func;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src The source
+     */
+    MappedSpliterator(final Func<X, Y> fnc, final Spliterator<X> src) {
+        this(new UncheckedFunc<>(fnc), src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src The source
+     */
+    private MappedSpliterator(final UncheckedFunc<X, Y> fnc,
+        final Spliterator<X> src) {
+        this.func = fnc;
+        this.origin = src;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Y> action) {
+        return this.origin.tryAdvance(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Y> action) {
+        this.origin.forEachRemaining(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public Spliterator<Y> trySplit() {
+        final Spliterator<X> prefix = this.origin.trySplit();
+        final Spliterator<Y> mapped;
+        if (prefix == null) {
+            mapped = null;
+        } else {
+            mapped = new MappedSpliterator<>(this.func, prefix);
+        }
+        return mapped;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics() & MappedSpliterator.KEPT;
+    }
+}
@@ -23,9 +23,9 @@
  */
 package org.cactoos.iterable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.BiFunc;
 import org.cactoos.Scalar;
@@ -72,7 +72,7 @@ public final class Matched<X> implements Iterable<X> {
             () -> {
                 final Iterator<X> ftr = fst.iterator();
                 final Iterator<X> str = snd.iterator();
-                final List<X> rslt = new LinkedList<>();
+                final List<X> rslt = new ArrayList<>();
                 while (ftr.hasNext()) {
                     if (!str.hasNext()) {
                         throw new IllegalStateException(
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterable, which is ready to be processed in parallel.
+ *
+ * <p>Its {@link #stream()} is parallel. If the spliterator of the source
+ * can't be split in halves, because its size is unknown, the items are
+ * collected into a list first, so they are split evenly between
+ * the threads:</p>
+ *
+ * <pre>{@code
+ * final long total = new Parallel<>(
+ *     new RangeOf<>(1L, 1_000_000L, x -> x + 1L)
+ * ).stream().mapToLong(Long::longValue).sum();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 1.0
+ */
+public final class Parallel<X> extends IterableEnvelope<X> {
+
+    /**
+     * Ctor.
+     * @param items The items
+     */
+    @SafeVarargs
+    public Parallel(final X... items) {
+        this(new IterableOf<>(items));
+    }
+
+    /**
+     * Ctor.
+     * @param src The source
+     */
+    public Parallel(final Iterable<X> src) {
+        super(
+            () -> src,
+            () -> {
+                final Spliterator<X> origin = src.spliterator();
+                final Spliterator<X> result;
+                if (origin.hasCharacteristics(Spliterator.SUBSIZED)) {
+                    result = origin;
+                } else {
+                    final List<X> list = new ArrayList<>();
+                    origin.forEachRemaining(list::add);
+                    result = list.spliterator();
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Parallel stream of the items.
+     * @return The stream
+     */
+    public Stream<X> stream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+}
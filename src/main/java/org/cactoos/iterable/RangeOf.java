@@ -25,11 +25,20 @@ package org.cactoos.iterable;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.Func;
+import org.cactoos.Scalar;
 import org.cactoos.func.UncheckedFunc;
 
 /**
  * Iterable implementation to model range functionality.
+ *
+ * <p>The size of the range is not known until it is iterated, so
+ * its {@link #spliterator()} splits it by batches. It reports the items
+ * as {@link Spliterator#SORTED} and {@link Spliterator#DISTINCT},
+ * so the incrementor must increase the value.</p>
+ *
  * @param <T> Range value type
  * @since 1.0
  */
@@ -48,8 +57,8 @@ public final class
         }
     )
     public RangeOf(final T min, final T max, final Func<T, T> incrementor) {
-        super(() -> new IterableOf<>(
-            new Iterator<T>() {
+        this(
+            () -> new Iterator<T>() {
                 private final UncheckedFunc<T, T> inc =
                     new UncheckedFunc<>(incrementor);
                 private T value = min;
@@ -69,7 +78,22 @@ public final class
                     return result;
                 }
             }
-        ));
+        );
     }
 
+    /**
+     * Ctor.
+     * @param items Makes a new iterator over the range
+     */
+    private RangeOf(final Scalar<Iterator<T>> items) {
+        super(
+            () -> new IterableOf<>(items.value()),
+            () -> Spliterators.spliteratorUnknownSize(
+                items.value(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL | Spliterator.DISTINCT
+                    | Spliterator.SORTED
+            )
+        );
+    }
 }
@@ -52,7 +52,7 @@ public final class Solid<X> extends IterableEnvelope<X> {
         super(
             new NoNulls<>(
                 new org.cactoos.scalar.Solid<>(
-                    () -> new Synced<>(new Sticky<>(iterable))
+                    () -> new Sticky<>(iterable)
                 )
             )
         );
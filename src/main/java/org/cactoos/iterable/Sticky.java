@@ -23,13 +23,13 @@
  */
 package org.cactoos.iterable;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import org.cactoos.list.Materialized;
 
 /**
  * Iterable that returns the same set of elements, always.
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread-safe, the origin is read
+ * only once, by the first thread that needs it.</p>
  *
  * @param <X> Type of item
  * @since 0.1
@@ -52,13 +52,7 @@ public final class Sticky<X> extends IterableEnvelope<X> {
     public Sticky(final Iterable<X> iterable) {
         super(
             new org.cactoos.scalar.Sticky<>(
-                () -> {
-                    final Collection<X> temp = new LinkedList<>();
-                    for (final X item : iterable) {
-                        temp.add(item);
-                    }
-                    return temp;
-                }
+                () -> new Materialized<>(iterable).value()
             )
         );
     }
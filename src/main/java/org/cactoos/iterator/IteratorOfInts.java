@@ -25,16 +25,20 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
  * {@link Iterator} that returns the {@code int}s as {@link Integer}s.
  *
+ * <p>It is a {@link PrimitiveIterator.OfInt}, so the values can be
+ * read by {@link #nextInt()} without boxing.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.32
  */
-public final class IteratorOfInts implements Iterator<Integer> {
+public final class IteratorOfInts implements PrimitiveIterator.OfInt {
+
     /**
      * The list of items to iterate.
      */
@@ -43,7 +47,7 @@ public final class IteratorOfInts implements Iterator<Integer> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -51,21 +55,22 @@ public final class IteratorOfInts implements Iterator<Integer> {
      */
     public IteratorOfInts(final int... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Integer next() {
+    public int nextInt() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final int item = this.items[this.position];
+        ++this.position;
+        return item;
     }
 }
@@ -23,9 +23,9 @@
  */
 package org.cactoos.iterator;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -37,6 +37,11 @@ import java.util.NoSuchElementException;
  */
 public final class Partitioned<T> implements Iterator<List<T>> {
 
+    /**
+     * The largest partition storage allocated up front.
+     */
+    private static final int PRESIZE = 1024;
+
     /**
      * Iterator to decorate.
      */
@@ -69,7 +74,9 @@ public final class Partitioned<T> implements Iterator<List<T>> {
         if (this.size < 1) {
             throw new IllegalArgumentException("Partition size < 1");
         }
-        final List<T> result = new LinkedList<>();
+        final List<T> result = new ArrayList<>(
+            Math.min(this.size, Partitioned.PRESIZE)
+        );
         for (int count = 0; count < this.size && this.hasNext(); ++count) {
             result.add(this.decorated.next());
         }
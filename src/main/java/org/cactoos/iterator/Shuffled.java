@@ -25,8 +25,8 @@ package org.cactoos.iterator;
 
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import org.cactoos.list.Materialized;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
@@ -53,10 +53,8 @@ public final class Shuffled<T> implements Iterator<T> {
         this.scalar = new Unchecked<>(
             new Sticky<>(
                 () -> {
-                    final List<T> items = new LinkedList<>();
-                    while (iterator.hasNext()) {
-                        items.add(iterator.next());
-                    }
+                    final List<T> items = new Materialized<>(iterator)
+                        .value();
                     Collections.shuffle(items);
                     return items.iterator();
                 }
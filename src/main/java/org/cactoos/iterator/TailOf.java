@@ -23,14 +23,19 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
-import org.cactoos.collection.CollectionOf;
-import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Tail portion of the iterator.
  *
+ * <p>The origin is consumed on first use, keeping only the last
+ * elements in a ring buffer, so memory is proportional to the number
+ * of tail elements rather than to the length of the origin. Null
+ * elements are kept like any others.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  * @param <T> Element type
  * @since 0.31
@@ -38,37 +43,61 @@ import org.cactoos.iterable.IterableOf;
 public final class TailOf<T> implements Iterator<T> {
 
     /**
-     * Decorated iterator.
+     * The largest ring buffer to allocate upfront.
+     */
+    private static final int PRESIZE = 1024;
+
+    /**
+     * The tail elements, collected on first use.
      */
-    private final Iterator<T> origin;
+    private final Unchecked<Iterator<T>> tail;
 
     /**
      * Ctor.
      * @param iterator Decorated iterator
      * @param num Number of tail elements
      */
+    @SuppressWarnings("unchecked")
     public TailOf(final int num, final Iterator<T> iterator) {
-        this.origin = new LinkedList<>(
-            new CollectionOf<>(
-                new IterableOf<>(
-                    new HeadOf<>(
-                        num,
-                        new LinkedList<>(
-                            new CollectionOf<>(new IterableOf<>(iterator))
-                        ).descendingIterator()
-                    )
-                )
+        this.tail = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    Object[] ring = new Object[
+                        Math.max(0, Math.min(num, TailOf.PRESIZE))
+                    ];
+                    int head = 0;
+                    int size = 0;
+                    while (num > 0 && iterator.hasNext()) {
+                        final T item = iterator.next();
+                        if (size < num) {
+                            if (size == ring.length) {
+                                ring = Arrays.copyOf(
+                                    ring, (int) Math.min(num, 2L * size)
+                                );
+                            }
+                            ring[size] = item;
+                            ++size;
+                        } else {
+                            ring[head] = item;
+                            head = (head + 1) % num;
+                        }
+                    }
+                    final Object[] ordered = new Object[size];
+                    System.arraycopy(ring, head, ordered, 0, size - head);
+                    System.arraycopy(ring, 0, ordered, size - head, head);
+                    return Arrays.asList((T[]) ordered).iterator();
+                }
             )
-        ).descendingIterator();
+        );
     }
 
     @Override
     public boolean hasNext() {
-        return this.origin.hasNext();
+        return this.tail.value().hasNext();
     }
 
     @Override
     public T next() {
-        return this.origin.next();
+        return this.tail.value().next();
     }
 }
@@ -25,8 +25,6 @@ package org.cactoos.list;
 
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import org.cactoos.iterable.IterableOf;
 
 /**
@@ -71,13 +69,11 @@ public final class ListOf<T> extends ListEnvelope<T> {
      * @param src An {@link Iterable}
      */
     public ListOf(final Iterable<T> src) {
-        super(() -> {
-            final List<T> temp = new LinkedList<>();
-            for (final T item : src) {
-                temp.add(item);
-            }
-            return Collections.unmodifiableList(temp);
-        });
+        super(
+            () -> Collections.unmodifiableList(
+                new Materialized<>(src).value()
+            )
+        );
     }
 
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import org.cactoos.Scalar;
+
+/**
+ * Contents of an {@link Iterable} copied into an array-backed {@link List}.
+ *
+ * <p>The storage is sized up front whenever the source knows how many
+ * elements it has: a {@link Collection} is copied with a single
+ * {@link Collection#toArray()} call, while any other source is sized by
+ * its {@link Spliterator#getExactSizeIfKnown()}. The result supports
+ * random access in constant time.</p>
+ *
+ * <p>Every call to {@link #value()} reads the source once and returns
+ * a new modifiable list. Decorate it with
+ * {@link org.cactoos.scalar.Sticky} to read the source only once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @since 1.0
+ */
+public final class Materialized<T> implements Scalar<List<T>> {
+
+    /**
+     * The source.
+     */
+    private final Iterable<T> source;
+
+    /**
+     * Ctor.
+     * @param src An {@link Iterator}
+     */
+    public Materialized(final Iterator<T> src) {
+        this(() -> src);
+    }
+
+    /**
+     * Ctor.
+     * @param src An {@link Iterable}
+     */
+    public Materialized(final Iterable<T> src) {
+        this.source = src;
+    }
+
+    @Override
+    public List<T> value() {
+        final List<T> list;
+        if (this.source instanceof Collection) {
+            list = new ArrayList<>((Collection<T>) this.source);
+        } else {
+            final Spliterator<T> items = this.source.spliterator();
+            final long size = items.getExactSizeIfKnown();
+            if (size < 0L || size > Integer.MAX_VALUE) {
+                list = new ArrayList<>();
+            } else {
+                list = new ArrayList<>((int) size);
+            }
+            items.forEachRemaining(list::add);
+        }
+        return list;
+    }
+
+}
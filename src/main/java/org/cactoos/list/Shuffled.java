@@ -25,7 +25,6 @@ package org.cactoos.list;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -69,8 +68,7 @@ public final class Shuffled<T> extends ListEnvelope<T> {
      */
     public Shuffled(final Collection<T> src) {
         super(() -> {
-            final List<T> items = new LinkedList<>();
-            items.addAll(src);
+            final List<T> items = new Materialized<>(src).value();
             Collections.shuffle(items);
             return Collections.unmodifiableList(items);
         });
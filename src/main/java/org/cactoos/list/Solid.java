@@ -61,7 +61,7 @@ public final class Solid<X> extends ListEnvelope<X> {
     public Solid(final Collection<X> list) {
         super(
             new org.cactoos.scalar.Solid<>(
-                () -> new Synced<>(new Sticky<>(list))
+                () -> new Sticky<>(list)
             )
         );
     }
@@ -25,8 +25,6 @@ package org.cactoos.list;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
 import org.cactoos.iterable.IterableOf;
 
 /**
@@ -34,7 +32,8 @@ import org.cactoos.iterable.IterableOf;
  *
  * <p>The list is read only.</p>
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread-safe, the origin is read
+ * only once, by the first thread that needs it.</p>
  *
  * @param <X> Type of item
  * @since 0.8
@@ -65,11 +64,9 @@ public final class Sticky<X> extends ListEnvelope<X> {
     public Sticky(final Collection<X> list) {
         super(
             new org.cactoos.scalar.Sticky<>(
-                () -> {
-                    final List<X> temp = new LinkedList<>();
-                    temp.addAll(list);
-                    return Collections.unmodifiableList(temp);
-                }
+                () -> Collections.unmodifiableList(
+                    new Materialized<>(list).value()
+                )
             )
         );
     }
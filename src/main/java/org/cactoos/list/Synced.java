@@ -25,7 +25,6 @@ package org.cactoos.list;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.iterable.IterableOf;
 
@@ -72,11 +71,9 @@ public final class Synced<X> extends ListEnvelope<X> {
     public Synced(final Collection<X> list) {
         super(
             new org.cactoos.scalar.Synced<>(
-                () -> {
-                    final List<X> temp = new LinkedList<>();
-                    temp.addAll(list);
-                    return Collections.synchronizedList(temp);
-                }
+                () -> Collections.synchronizedList(
+                    new Materialized<>(list).value()
+                )
             )
         );
     }
@@ -35,7 +35,8 @@ import org.cactoos.iterable.Mapped;
  *
  * <p>The map is read-only.</p>
  *
- * <p>There is no thread-safety guarantee.
+ * <p>Objects of this class are thread-safe, the origin is read
+ * only once, by the first thread that needs it.</p>
  *
  * @param <X> Type of key
  * @param <Y> Type of value
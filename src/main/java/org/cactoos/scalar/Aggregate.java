@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+/**
+ * The result of a numeric aggregation.
+ *
+ * <p>It keeps both {@code long} and {@code double} results, so an
+ * integral total doesn't lose precision in {@link #longValue()} and
+ * a floating one doesn't lose it in {@link #doubleValue()}. The
+ * narrower values are derived from the {@code double} one, and they
+ * saturate instead of overflowing.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Aggregate extends Number {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 2837591094752183640L;
+
+    /**
+     * The LONG result.
+     */
+    private final long lng;
+
+    /**
+     * The DOUBLE result.
+     */
+    private final double dbl;
+
+    /**
+     * Ctor.
+     * @param num Integral result
+     */
+    Aggregate(final long num) {
+        this(num, (double) num);
+    }
+
+    /**
+     * Ctor.
+     * @param num Floating result
+     */
+    Aggregate(final double num) {
+        this((long) num, num);
+    }
+
+    /**
+     * Ctor.
+     * @param lnum Integral result
+     * @param dnum Floating result
+     */
+    Aggregate(final long lnum, final double dnum) {
+        super();
+        this.lng = lnum;
+        this.dbl = dnum;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) this.dbl;
+    }
+
+    @Override
+    public long longValue() {
+        return this.lng;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) this.dbl;
+    }
+
+    @Override
+    public double doubleValue() {
+        return this.dbl;
+    }
+}
@@ -23,25 +23,25 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
+import org.cactoos.experimental.Scope;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>Unless an executor is given, the tasks run on the executor
+ * shared by all {@link Scope}s, so no threads are created and shut
+ * down on every call. The first task that fails cancels the others.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -57,19 +57,9 @@ import org.cactoos.text.FormattedText;
 public final class AndInThreads implements Scalar<Boolean> {
 
     /**
-     * The service.
-     */
-    private final ExecutorService service;
-
-    /**
-     * The iterator.
+     * The results of the tasks.
      */
-    private final Iterable<Scalar<Boolean>> iterable;
-
-    /**
-     * Shut down the service when it's done.
-     */
-    private final boolean shut;
+    private final Scalar<List<Boolean>> results;
 
     /**
      * Ctor.
@@ -132,7 +122,23 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(Integer.MAX_VALUE, src);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The tasks run on the executor shared by all {@link Scope}s,
+     * at most {@code bound} of them at the same time. When one of
+     * them fails, the others are cancelled.</p>
+     *
+     * @param bound The maximum number of tasks executed at the same time
+     * @param src The iterable
+     * @since 1.0
+     */
+    public AndInThreads(final int bound,
+        final Iterable<Scalar<Boolean>> src) {
+        this(new Scope<>(bound, src));
     }
 
     /**
@@ -208,48 +214,22 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<Scalar<Boolean>> src) {
-        this(svc, src, false);
+        this(new Scope<>(svc, Integer.MAX_VALUE, src));
     }
 
     /**
      * Ctor.
-     * @param svc Executable service to run thread in
-     * @param src The iterable
-     * @param sht Shut it down
+     * @param rslts The results of the tasks
      */
-    private AndInThreads(final ExecutorService svc,
-        final Iterable<Scalar<Boolean>> src, final boolean sht) {
-        this.service = svc;
-        this.iterable = src;
-        this.shut = sht;
+    private AndInThreads(final Scope<Boolean> rslts) {
+        this.results = rslts;
     }
 
     @Override
     public Boolean value() throws Exception {
-        final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            (Func<Future<Boolean>, Boolean>) Future::get,
-            futures
+        return new And(
+            (Func<Boolean, Boolean>) result -> result,
+            this.results.value()
         ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
-                }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
-            }
-        }
-        return result;
     }
 }
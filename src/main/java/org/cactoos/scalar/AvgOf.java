@@ -41,6 +41,17 @@ import org.cactoos.iterable.Mapped;
  * int avg = new AvgOf(numbers.toArray(new Integer[numbers.size()])).intValue();
  * </pre>
  *
+ * <p>The numbers are summed up in one pass, the same way as in
+ * {@link SumOf}. If you need all of them to be summed up and divided in
+ * {@link BigDecimal}, provide the {@link MathContext}:</p>
+ *
+ * <pre>
+ * double avg = new AvgOf(MathContext.DECIMAL128, scalars).doubleValue();
+ * </pre>
+ *
+ * <p>The average is calculated only once, when any of the values
+ * is requested for the first time.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -73,9 +84,8 @@ public final class AvgOf extends NumberEnvelope {
      */
     public AvgOf(final Integer... src) {
         this(
-            new Mapped<>(
-                number -> () -> number,
-                new IterableOf<>(src)
+            new Lazy<>(
+                () -> new Summation().add(new IterableOf<>(src)).average()
             )
         );
     }
@@ -86,9 +96,8 @@ public final class AvgOf extends NumberEnvelope {
      */
     public AvgOf(final Long... src) {
         this(
-            new Mapped<>(
-                number -> () -> number,
-                new IterableOf<>(src)
+            new Lazy<>(
+                () -> new Summation().add(new IterableOf<>(src)).average()
             )
         );
     }
@@ -99,9 +108,8 @@ public final class AvgOf extends NumberEnvelope {
      */
     public AvgOf(final Double... src) {
         this(
-            new Mapped<>(
-                number -> () -> number,
-                new IterableOf<>(src)
+            new Lazy<>(
+                () -> new Summation().add(new IterableOf<>(src)).average()
             )
         );
     }
@@ -112,9 +120,8 @@ public final class AvgOf extends NumberEnvelope {
      */
     public AvgOf(final Float... src) {
         this(
-            new Mapped<>(
-                number -> () -> number,
-                new IterableOf<>(src)
+            new Lazy<>(
+                () -> new Summation().add(new IterableOf<>(src)).average()
             )
         );
     }
@@ -131,28 +138,61 @@ public final class AvgOf extends NumberEnvelope {
     /**
      * Ctor.
      * @param src The iterable
-     * @checkstyle ExecutableStatementCountCheck (150 lines)
      */
     public AvgOf(final Iterable<Scalar<Number>> src) {
-        super(
-            new Ternary<>(
-                new LengthOf(src).longValue(),
-                len -> len > 0,
-                len -> new Folded<>(
-                    BigDecimal.ZERO,
-                    (sum, value) -> sum.add(value, MathContext.DECIMAL128),
-                    new Mapped<>(
-                        number -> BigDecimal.valueOf(
-                            number.value().doubleValue()
-                        ),
-                        src
-                    )
-                ).value().divide(
-                    BigDecimal.valueOf(len),
-                    MathContext.DECIMAL128
-                ).doubleValue(),
-                len -> 0.0
+        this(
+            new Lazy<>(
+                () -> new Summation().add(
+                    new Mapped<>(Scalar::value, src)
+                ).average()
             )
         );
     }
+
+    /**
+     * Ctor.
+     * @param ctx Context of the {@link BigDecimal} summation and division
+     * @param src The iterable
+     * @since 1.0
+     * @checkstyle ExecutableStatementCountCheck (150 lines)
+     */
+    public AvgOf(final MathContext ctx, final Iterable<Scalar<Number>> src) {
+        this(
+            new Lazy<>(
+                () -> new Aggregate(
+                    new Ternary<>(
+                        new LengthOf(src).longValue(),
+                        len -> len > 0,
+                        len -> new Folded<>(
+                            BigDecimal.ZERO,
+                            (sum, value) -> sum.add(value, ctx),
+                            new Mapped<>(
+                                number -> BigDecimal.valueOf(
+                                    number.value().doubleValue()
+                                ),
+                                src
+                            )
+                        ).value().divide(
+                            BigDecimal.valueOf(len),
+                            ctx
+                        ).doubleValue(),
+                        len -> 0.0
+                    ).value()
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param avg The average
+     */
+    private AvgOf(final Lazy<Number> avg) {
+        super(
+            () -> avg.value().longValue(),
+            () -> avg.value().intValue(),
+            () -> avg.value().floatValue(),
+            () -> avg.value().doubleValue()
+        );
+    }
 }
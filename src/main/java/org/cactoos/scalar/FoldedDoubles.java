@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfDoubles;
+import org.cactoos.iterable.DoublesEnvelope;
+
+/**
+ * Iterable of {@code double}s reduced to a single value, without boxing
+ * of the elements.
+ *
+ * <pre>{@code
+ * final Double product = new FoldedDoubles(
+ *     1.0, (acc, item) -> acc * item, new IterableOfDoubles(2.0, 3.0)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedDoubles implements Scalar<Double> {
+
+    /**
+     * Original iterable.
+     */
+    private final DoublesEnvelope iterable;
+
+    /**
+     * Input.
+     */
+    private final double input;
+
+    /**
+     * Func.
+     */
+    private final DoubleBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedDoubles(final double ipt, final DoubleBinaryOperator fnc,
+        final double... list) {
+        this(ipt, fnc, new IterableOfDoubles(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedDoubles(final double ipt, final DoubleBinaryOperator fnc,
+        final DoublesEnvelope list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Double value() {
+        final PrimitiveIterator.OfDouble items = this.iterable.iterator();
+        double memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsDouble(memo, items.nextDouble());
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+
+/**
+ * Iterable, which elements are folded in parallel threads.
+ *
+ * <p>The items are split into parts, which are folded by the
+ * {@link ForkJoinPool}, each starting from the input, and then the results
+ * of the parts are combined. The input must be an identity of the
+ * combining function, and the combining function must be associative,
+ * for example:</p>
+ *
+ * <pre>{@code
+ * final Long total = new FoldedInThreads<>(
+ *     0L, (sum, item) -> sum + item, (left, right) -> left + right,
+ *     numbers
+ * ).value();
+ * }</pre>
+ *
+ * <p>The iterable is split by its {@link Iterable#spliterator()}, so arrays,
+ * {@link java.util.List}s and other sized iterables are split the best.
+ * A part of no more than the threshold of items is folded sequentially,
+ * see {@link #FoldedInThreads(ForkJoinPool, int, Object, BiFunc, BiFunc,
+ * Iterable)}.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of result
+ * @param <T> Type of items
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedInThreads<X, T> implements Scalar<X> {
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Max amount of items to fold sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Original iterable.
+     */
+    private final Iterable<T> iterable;
+
+    /**
+     * Input.
+     */
+    private final X input;
+
+    /**
+     * Func.
+     */
+    private final BiFunc<X, T, X> func;
+
+    /**
+     * Combining func.
+     */
+    private final BiFunc<X, X, X> combiner;
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combining func
+     * @param fnc Func original
+     * @param cmb Associative func to combine the results of parts
+     * @param list Array of items
+     */
+    @SafeVarargs
+    public FoldedInThreads(final X ipt, final BiFunc<X, T, X> fnc,
+        final BiFunc<X, X, X> cmb, final T... list) {
+        this(ipt, fnc, cmb, Arrays.asList(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combining func
+     * @param fnc Func original
+     * @param cmb Associative func to combine the results of parts
+     * @param list List of items
+     */
+    public FoldedInThreads(final X ipt, final BiFunc<X, T, X> fnc,
+        final BiFunc<X, X, X> cmb, final Iterable<T> list) {
+        // @checkstyle MagicNumber (1 line)
+        this(ForkJoinPool.commonPool(), 4096, ipt, fnc, cmb, list);
+    }
+
+    /**
+     * Ctor.
+     * @param pol The pool
+     * @param max Max amount of items to fold sequentially
+     * @param ipt Input, the identity of the combining func
+     * @param fnc Func original
+     * @param cmb Associative func to combine the results of parts
+     * @param list List of items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FoldedInThreads(final ForkJoinPool pol, final int max,
+        final X ipt, final BiFunc<X, T, X> fnc, final BiFunc<X, X, X> cmb,
+        final Iterable<T> list) {
+        this.pool = pol;
+        this.threshold = max;
+        this.input = ipt;
+        this.func = fnc;
+        this.combiner = cmb;
+        this.iterable = list;
+    }
+
+    @Override
+    public X value() throws Exception {
+        return new FoldingTask<>(
+            this.iterable.spliterator(),
+            () -> this.input,
+            this.func,
+            this.combiner,
+            this.threshold
+        ).result(this.pool);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IntsEnvelope;
+import org.cactoos.iterable.IterableOfInts;
+
+/**
+ * Iterable of {@code int}s reduced to a single value, without boxing
+ * of the elements.
+ *
+ * <pre>{@code
+ * final Integer product = new FoldedInts(
+ *     1, (acc, item) -> acc * item, new IterableOfInts(2, 3)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedInts implements Scalar<Integer> {
+
+    /**
+     * Original iterable.
+     */
+    private final IntsEnvelope iterable;
+
+    /**
+     * Input.
+     */
+    private final int input;
+
+    /**
+     * Func.
+     */
+    private final IntBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedInts(final int ipt, final IntBinaryOperator fnc,
+        final int... list) {
+        this(ipt, fnc, new IterableOfInts(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedInts(final int ipt, final IntBinaryOperator fnc,
+        final IntsEnvelope list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Integer value() {
+        final PrimitiveIterator.OfInt items = this.iterable.iterator();
+        int memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsInt(memo, items.nextInt());
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfLongs;
+import org.cactoos.iterable.LongsEnvelope;
+
+/**
+ * Iterable of {@code long}s reduced to a single value, without boxing
+ * of the elements.
+ *
+ * <pre>{@code
+ * final Long product = new FoldedLongs(
+ *     1L, (acc, item) -> acc * item, new IterableOfLongs(2L, 3L)
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @see Folded
+ * @since 1.0
+ */
+public final class FoldedLongs implements Scalar<Long> {
+
+    /**
+     * Original iterable.
+     */
+    private final LongsEnvelope iterable;
+
+    /**
+     * Input.
+     */
+    private final long input;
+
+    /**
+     * Func.
+     */
+    private final LongBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final long... list) {
+        this(ipt, fnc, new IterableOfLongs(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final LongsEnvelope list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Long value() {
+        final PrimitiveIterator.OfLong items = this.iterable.iterator();
+        long memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsLong(memo, items.nextLong());
+        }
+        return memo;
+    }
+}
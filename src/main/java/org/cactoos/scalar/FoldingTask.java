@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+
+/**
+ * Fork-join folding of a {@link Spliterator}.
+ *
+ * <p>The items are split in halves by {@link Spliterator#trySplit()}
+ * until there are no more than the threshold of them, then every part is
+ * folded sequentially, starting from its own identity, and the results
+ * of the parts are combined in their encounter order.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of result
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class FoldingTask<X, T> extends RecursiveTask<X> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -3960137508427340575L;
+
+    /**
+     * The items.
+     */
+    private final transient Spliterator<? extends T> items;
+
+    /**
+     * Identity, a new one for every part.
+     */
+    private final transient Scalar<X> identity;
+
+    /**
+     * Folding function.
+     */
+    private final transient BiFunc<X, T, X> func;
+
+    /**
+     * Combining function.
+     */
+    private final transient BiFunc<X, X, X> combiner;
+
+    /**
+     * Max amount of items to fold sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     * @param src The items
+     * @param idt Identity, a new one for every part
+     * @param fnc Folding function
+     * @param cmb Combining function
+     * @param max Max amount of items to fold sequentially
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    FoldingTask(final Spliterator<? extends T> src, final Scalar<X> idt,
+        final BiFunc<X, T, X> fnc, final BiFunc<X, X, X> cmb,
+        final int max) {
+        super();
+        this.items = src;
+        this.identity = idt;
+        this.func = fnc;
+        this.combiner = cmb;
+        this.threshold = max;
+    }
+
+    /**
+     * Fold all the items in the pool.
+     * @param pool The pool
+     * @return The result
+     * @throws Exception If fails
+     */
+    public X result(final ForkJoinPool pool) throws Exception {
+        try {
+            return pool.invoke(this);
+        } catch (final CompletionException ex) {
+            Throwable cause = ex;
+            while (cause instanceof CompletionException
+                && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    protected X compute() {
+        Spliterator<? extends T> head = null;
+        if (this.items.estimateSize() > (long) this.threshold) {
+            head = this.items.trySplit();
+        }
+        final X result;
+        if (head == null) {
+            result = this.sequential();
+        } else {
+            final FoldingTask<X, T> left = new FoldingTask<>(
+                head, this.identity, this.func, this.combiner, this.threshold
+            );
+            left.fork();
+            final X right = new FoldingTask<>(
+                this.items, this.identity, this.func, this.combiner,
+                this.threshold
+            ).compute();
+            result = this.combined(left.join(), right);
+        }
+        return result;
+    }
+
+    /**
+     * Fold the items in this thread.
+     * @return The result
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private X sequential() {
+        try {
+            final Iterator<T> iterator = Spliterators.iterator(this.items);
+            X memo = this.identity.value();
+            while (iterator.hasNext()) {
+                memo = this.func.apply(memo, iterator.next());
+            }
+            return memo;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Combine the results of two parts.
+     * @param left The result of the first part
+     * @param right The result of the second part
+     * @return The result
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private X combined(final X left, final X right) {
+        try {
+            return this.combiner.apply(left, right);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
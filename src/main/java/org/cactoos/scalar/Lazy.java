@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.Scalar;
+
+/**
+ * Scalar, which is calculated only once, on the first request.
+ *
+ * <p>Once the value is calculated, reading it costs a single volatile
+ * read, without locks and allocations. Only threads that come before
+ * the value is ready are synchronized, to make sure the origin is
+ * evaluated just once. The value may be NULL, it is cached as well.</p>
+ *
+ * <p>By default, a failed calculation is not cached and the next
+ * request calls the origin again. Use {@link #Lazy(Scalar, boolean)}
+ * to cache the exception and throw it on every request instead.</p>
+ *
+ * <pre>{@code
+ * final Scalar<Config> config = new Lazy<>(
+ *     () -> new Config(new TextOf(new File("app.conf")))
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see Sticky
+ * @see Solid
+ * @since 1.0
+ */
+public final class Lazy<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<T> origin;
+
+    /**
+     * Cache the exception, if the origin fails?
+     */
+    private final boolean errors;
+
+    /**
+     * Sync lock, also a marker of the value not calculated yet.
+     */
+    private final Object lock;
+
+    /**
+     * The value, or the lock, if not calculated yet.
+     */
+    private volatile Object cache;
+
+    /**
+     * Cached exception, guarded by the lock.
+     */
+    private Exception error;
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     */
+    public Lazy(final Scalar<T> origin) {
+        this(origin, false);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param failures Cache the exception, if the origin fails,
+     *  instead of calling it again on the next request?
+     */
+    public Lazy(final Scalar<T> origin, final boolean failures) {
+        this.origin = origin;
+        this.errors = failures;
+        this.lock = new Object();
+        this.cache = this.lock;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value() throws Exception {
+        Object val = this.cache;
+        if (val == this.lock) {
+            synchronized (this.lock) {
+                val = this.cache;
+                if (val == this.lock) {
+                    val = this.calculated();
+                    this.cache = val;
+                }
+            }
+        }
+        return (T) val;
+    }
+
+    /**
+     * Calculate the value, must be called under the lock.
+     * @return The value
+     * @throws Exception If fails
+     */
+    private T calculated() throws Exception {
+        if (this.error != null) {
+            throw this.error;
+        }
+        try {
+            return this.origin.value();
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (this.errors) {
+                this.error = ex;
+            }
+            throw ex;
+        }
+    }
+}
@@ -28,10 +28,16 @@ import java.io.InputStream;
 import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
+import org.cactoos.io.TeeInputStream;
 
 /**
  * Length.
  *
+ * <p>The length of a {@link org.cactoos.io.TeeInput} is found by
+ * copying its input to its output with
+ * {@link TeeInputStream#transfer(int)}, so a file copied into another
+ * file or into a channel never passes through the heap.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -88,15 +94,19 @@ public final class LengthOf extends NumberEnvelope {
                 );
             }
             try (final InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
-                while (true) {
-                    final int len = stream.read(buf);
-                    if (len > 0) {
-                        length += (long) len;
-                    }
-                    if (len < 0) {
-                        break;
+                if (stream instanceof TeeInputStream) {
+                    length = ((TeeInputStream) stream).transfer(max);
+                } else {
+                    final byte[] buf = new byte[max];
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len > 0) {
+                            length += (long) len;
+                        }
+                        if (len < 0) {
+                            break;
+                        }
                     }
                 }
                 return (double) length;
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Scalar;
+
+/**
+ * Find the lowest item in parallel threads.
+ *
+ * <p>Here is how you can use it to
+ * find lowest of {@link Comparable} items:</p>
+ *
+ * <pre>
+ * final String lowest = new LowestOfInThreads&lt;&gt;(
+ *         "Banana", "Apple", "Orange"
+ *     ).value();
+ * // -&gt; lowest == "Apple"
+ * </pre>
+ *
+ * <p>The items are split into parts, which are compared by the
+ * {@link ForkJoinPool}, see {@link ReducedInThreads}.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Scalar type
+ * @see LowestOf
+ * @since 1.0
+ */
+public final class LowestOfInThreads<T extends Comparable<T>>
+    implements Scalar<T> {
+
+    /**
+     * Result.
+     */
+    private final Scalar<T> result;
+
+    /**
+     * Ctor.
+     * @param items The comparable items
+     */
+    @SafeVarargs
+    public LowestOfInThreads(final T... items) {
+        this(Arrays.asList(items));
+    }
+
+    /**
+     * Ctor.
+     * @param items The comparable items
+     */
+    public LowestOfInThreads(final Iterable<T> items) {
+        // @checkstyle MagicNumber (1 line)
+        this(ForkJoinPool.commonPool(), 4096, items);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool
+     * @param max Max amount of items to compare sequentially
+     * @param items The comparable items
+     */
+    public LowestOfInThreads(final ForkJoinPool pool, final int max,
+        final Iterable<T> items) {
+        this.result = new ReducedInThreads<>(
+            pool,
+            max,
+            (first, second) -> {
+                final T value;
+                if (first.compareTo(second) < 0) {
+                    value = first;
+                } else {
+                    value = second;
+                }
+                return value;
+            },
+            items
+        );
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.result.value();
+    }
+}
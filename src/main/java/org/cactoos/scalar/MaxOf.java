@@ -23,8 +23,8 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Iterator;
 import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
 
 /**
  * Find the greater among items.
@@ -37,6 +37,11 @@ import org.cactoos.Scalar;
  * int max = new MaxOf(numbers.toArray(new Integer[numbers.size()])).intValue();
  * </pre>
  *
+ * <p>The maximum is found in one pass, only once, when any of the values
+ * is requested for the first time. The {@code long} maximum is found
+ * among {@link Number#longValue()}s of the items, so it is exact;
+ * other values are found among {@link Number#doubleValue()}s.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -68,39 +73,7 @@ public final class MaxOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MaxOf(final Integer... src) {
-        super(() -> {
-            long max = Long.MIN_VALUE;
-            for (final int val : src) {
-                if ((long) val > max) {
-                    max = (long) val;
-                }
-            }
-            return max;
-        }, () -> {
-            int max = Integer.MIN_VALUE;
-            for (final int val : src) {
-                if (val > max) {
-                    max = val;
-                }
-            }
-            return max;
-        }, () -> {
-            float max = Float.MIN_VALUE;
-            for (final int val : src) {
-                if ((float) val > max) {
-                    max = (float) val;
-                }
-            }
-            return max;
-        }, () -> {
-            double max = Double.MIN_VALUE;
-            for (final int val : src) {
-                if ((double) val > max) {
-                    max = (double) val;
-                }
-            }
-            return max;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -108,39 +81,7 @@ public final class MaxOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MaxOf(final Long... src) {
-        super(() -> {
-            long max = Long.MIN_VALUE;
-            for (final long val : src) {
-                if (val > max) {
-                    max = val;
-                }
-            }
-            return max;
-        }, () -> {
-            int max = Integer.MIN_VALUE;
-            for (final long val : src) {
-                if ((int) val > max) {
-                    max = (int) val;
-                }
-            }
-            return max;
-        }, () -> {
-            float max = Float.MIN_VALUE;
-            for (final long val : src) {
-                if ((float) val > max) {
-                    max = (float) val;
-                }
-            }
-            return max;
-        }, () -> {
-            double max = Double.MIN_VALUE;
-            for (final long val : src) {
-                if ((double) val > max) {
-                    max = (double) val;
-                }
-            }
-            return max;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -148,39 +89,7 @@ public final class MaxOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MaxOf(final Double... src) {
-        super(() -> {
-            long max = Long.MIN_VALUE;
-            for (final double val : src) {
-                if ((long) val > max) {
-                    max = (long) val;
-                }
-            }
-            return max;
-        }, () -> {
-            int max = Integer.MIN_VALUE;
-            for (final double val : src) {
-                if ((int) val > max) {
-                    max = (int) val;
-                }
-            }
-            return max;
-        }, () -> {
-            float max = Float.MIN_VALUE;
-            for (final double val : src) {
-                if ((float) val > max) {
-                    max = (float) val;
-                }
-            }
-            return max;
-        }, () -> {
-            double max = Double.MIN_VALUE;
-            for (final double val : src) {
-                if (val > max) {
-                    max = val;
-                }
-            }
-            return max;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -188,88 +97,45 @@ public final class MaxOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MaxOf(final Float... src) {
-        super(() -> {
-            long max = Long.MIN_VALUE;
-            for (final float val : src) {
-                if ((long) val > max) {
-                    max = (long) val;
-                }
-            }
-            return max;
-        }, () -> {
-            int max = Integer.MIN_VALUE;
-            for (final float val : src) {
-                if ((int) val > max) {
-                    max = (int) val;
-                }
-            }
-            return max;
-        }, () -> {
-            float max = Float.MIN_VALUE;
-            for (final float val : src) {
-                if (val > max) {
-                    max = val;
-                }
-            }
-            return max;
-        }, () -> {
-            double max = Double.MIN_VALUE;
-            for (final float val : src) {
-                if ((double) val > max) {
-                    max = (double) val;
-                }
-            }
-            return max;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
      * Ctor.
      * @param src The iterable
-     * @checkstyle ExecutableStatementCountCheck (150 lines)
      */
     public MaxOf(final Iterable<Number> src) {
-        super(() -> {
-            final Iterator<Number> numbers = src.iterator();
-            long max = Long.MIN_VALUE;
-            while (numbers.hasNext()) {
-                final long next = numbers.next().longValue();
-                if (next > max) {
-                    max = next;
-                }
-            }
-            return max;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            int max = Integer.MIN_VALUE;
-            while (numbers.hasNext()) {
-                final int next = numbers.next().intValue();
-                if (next > max) {
-                    max = next;
-                }
-            }
-            return max;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            float max = Float.MIN_VALUE;
-            while (numbers.hasNext()) {
-                final float next = numbers.next().floatValue();
-                if (next > max) {
-                    max = next;
-                }
-            }
-            return max;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            double max = Double.MIN_VALUE;
-            while (numbers.hasNext()) {
-                final double next = numbers.next().doubleValue();
-                if (next > max) {
-                    max = next;
-                }
-            }
-            return max;
-        });
+        this(
+            new Lazy<>(
+                () -> {
+                    long lng = Long.MIN_VALUE;
+                    double dbl = Double.NEGATIVE_INFINITY;
+                    for (final Number number : src) {
+                        final long lnext = number.longValue();
+                        if (lnext > lng) {
+                            lng = lnext;
+                        }
+                        final double dnext = number.doubleValue();
+                        if (dnext > dbl) {
+                            dbl = dnext;
+                        }
+                    }
+                    return new Aggregate(lng, dbl);
+                }
+            )
+        );
     }
 
+    /**
+     * Ctor.
+     * @param max The max
+     */
+    private MaxOf(final Lazy<Number> max) {
+        super(
+            () -> max.value().longValue(),
+            () -> max.value().intValue(),
+            () -> max.value().floatValue(),
+            () -> max.value().doubleValue()
+        );
+    }
 }
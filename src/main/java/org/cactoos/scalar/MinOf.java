@@ -23,8 +23,8 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Iterator;
 import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
 
 /**
  * Find the smaller among items.
@@ -37,6 +37,11 @@ import org.cactoos.Scalar;
  * int min = new MinOf(numbers.toArray(new Integer[numbers.size()])).intValue();
  * </pre>
  *
+ * <p>The minimum is found in one pass, only once, when any of the values
+ * is requested for the first time. The {@code long} minimum is found
+ * among {@link Number#longValue()}s of the items, so it is exact;
+ * other values are found among {@link Number#doubleValue()}s.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>This class implements {@link Scalar}, which throws a checked
@@ -66,39 +71,7 @@ public final class MinOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MinOf(final Integer... src) {
-        super(() -> {
-            long min = Long.MAX_VALUE;
-            for (final int val : src) {
-                if ((long) val < min) {
-                    min = (long) val;
-                }
-            }
-            return min;
-        }, () -> {
-            int min = Integer.MAX_VALUE;
-            for (final int val : src) {
-                if (val < min) {
-                    min = val;
-                }
-            }
-            return min;
-        }, () -> {
-            float min = Float.MAX_VALUE;
-            for (final int val : src) {
-                if ((float) val < min) {
-                    min = (float) val;
-                }
-            }
-            return min;
-        }, () -> {
-            double min = Double.MAX_VALUE;
-            for (final int val : src) {
-                if ((double) val < min) {
-                    min = (double) val;
-                }
-            }
-            return min;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -106,39 +79,7 @@ public final class MinOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MinOf(final Long... src) {
-        super(() -> {
-            long min = Long.MAX_VALUE;
-            for (final long val : src) {
-                if (val < min) {
-                    min = val;
-                }
-            }
-            return min;
-        }, () -> {
-            int min = Integer.MAX_VALUE;
-            for (final long val : src) {
-                if ((int) val < min) {
-                    min = (int) val;
-                }
-            }
-            return min;
-        }, () -> {
-            float min = Float.MAX_VALUE;
-            for (final long val : src) {
-                if ((float) val < min) {
-                    min = (float) val;
-                }
-            }
-            return min;
-        }, () -> {
-            double min = Double.MAX_VALUE;
-            for (final long val : src) {
-                if ((double) val < min) {
-                    min = (double) val;
-                }
-            }
-            return min;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -146,39 +87,7 @@ public final class MinOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MinOf(final Double... src) {
-        super(() -> {
-            long min = Long.MAX_VALUE;
-            for (final double val : src) {
-                if ((long) val < min) {
-                    min = (long) val;
-                }
-            }
-            return min;
-        }, () -> {
-            int min = Integer.MAX_VALUE;
-            for (final double val : src) {
-                if ((int) val < min) {
-                    min = (int) val;
-                }
-            }
-            return min;
-        }, () -> {
-            float min = Float.MAX_VALUE;
-            for (final double val : src) {
-                if ((float) val < min) {
-                    min = (float) val;
-                }
-            }
-            return min;
-        }, () -> {
-            double min = Double.MAX_VALUE;
-            for (final double val : src) {
-                if (val < min) {
-                    min = val;
-                }
-            }
-            return min;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
@@ -186,88 +95,45 @@ public final class MinOf extends NumberEnvelope {
      * @param src Numbers
      */
     public MinOf(final Float... src) {
-        super(() -> {
-            long min = Long.MAX_VALUE;
-            for (final float val : src) {
-                if ((long) val < min) {
-                    min = (long) val;
-                }
-            }
-            return min;
-        }, () -> {
-            int min = Integer.MAX_VALUE;
-            for (final float val : src) {
-                if ((int) val < min) {
-                    min = (int) val;
-                }
-            }
-            return min;
-        }, () -> {
-            float min = Float.MAX_VALUE;
-            for (final float val : src) {
-                if (val < min) {
-                    min = val;
-                }
-            }
-            return min;
-        }, () -> {
-            double min = Double.MAX_VALUE;
-            for (final float val : src) {
-                if ((double) val < min) {
-                    min = (double) val;
-                }
-            }
-            return min;
-        });
+        this(new IterableOf<Number>(src));
     }
 
     /**
      * Ctor.
      * @param src The iterable
-     * @checkstyle ExecutableStatementCountCheck (150 lines)
      */
     public MinOf(final Iterable<Number> src) {
-        super(() -> {
-            final Iterator<Number> numbers = src.iterator();
-            long min = Long.MAX_VALUE;
-            while (numbers.hasNext()) {
-                final long next = numbers.next().longValue();
-                if (next < min) {
-                    min = next;
-                }
-            }
-            return min;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            int min = Integer.MAX_VALUE;
-            while (numbers.hasNext()) {
-                final int next = numbers.next().intValue();
-                if (next < min) {
-                    min = next;
-                }
-            }
-            return min;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            float min = Float.MAX_VALUE;
-            while (numbers.hasNext()) {
-                final float next = numbers.next().floatValue();
-                if (next < min) {
-                    min = next;
-                }
-            }
-            return min;
-        }, () -> {
-            final Iterator<Number> numbers = src.iterator();
-            double min = Double.MAX_VALUE;
-            while (numbers.hasNext()) {
-                final double next = numbers.next().doubleValue();
-                if (next < min) {
-                    min = next;
-                }
-            }
-            return min;
-        });
+        this(
+            new Lazy<>(
+                () -> {
+                    long lng = Long.MAX_VALUE;
+                    double dbl = Double.POSITIVE_INFINITY;
+                    for (final Number number : src) {
+                        final long lnext = number.longValue();
+                        if (lnext < lng) {
+                            lng = lnext;
+                        }
+                        final double dnext = number.doubleValue();
+                        if (dnext < dbl) {
+                            dbl = dnext;
+                        }
+                    }
+                    return new Aggregate(lng, dbl);
+                }
+            )
+        );
     }
 
+    /**
+     * Ctor.
+     * @param min The min
+     */
+    private MinOf(final Lazy<Number> min) {
+        super(
+            () -> min.value().longValue(),
+            () -> min.value().intValue(),
+            () -> min.value().floatValue(),
+            () -> min.value().doubleValue()
+        );
+    }
 }
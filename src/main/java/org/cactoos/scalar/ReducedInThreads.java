@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+
+/**
+ * Iterable, which elements are reduced in parallel threads.
+ *
+ * <p>The items are split into parts, which are reduced by the
+ * {@link ForkJoinPool}, and then the results of the parts are reduced
+ * by the same function, so the function must be associative:</p>
+ *
+ * <pre>{@code
+ * final Long max = new ReducedInThreads<>(Math::max, numbers).value();
+ * }</pre>
+ *
+ * <p>The iterable is split by its {@link Iterable#spliterator()}, so arrays,
+ * {@link java.util.List}s and other sized iterables are split the best.
+ * A part of no more than the threshold of items is reduced sequentially,
+ * see {@link #ReducedInThreads(ForkJoinPool, int, BiFunc, Iterable)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Scalar type
+ * @see Reduced
+ * @since 1.0
+ */
+public final class ReducedInThreads<T> implements Scalar<T> {
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Max amount of items to reduce sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Items.
+     */
+    private final Iterable<T> items;
+
+    /**
+     * Reducing function.
+     */
+    private final BiFunc<T, T, T> function;
+
+    /**
+     * Ctor.
+     * @param reduce Associative reducing function
+     * @param values The values
+     */
+    @SafeVarargs
+    public ReducedInThreads(final BiFunc<T, T, T> reduce,
+        final T... values) {
+        this(reduce, Arrays.asList(values));
+    }
+
+    /**
+     * Ctor.
+     * @param reduce Associative reducing function
+     * @param values The values
+     */
+    public ReducedInThreads(final BiFunc<T, T, T> reduce,
+        final Iterable<T> values) {
+        // @checkstyle MagicNumber (1 line)
+        this(ForkJoinPool.commonPool(), 4096, reduce, values);
+    }
+
+    /**
+     * Ctor.
+     * @param pol The pool
+     * @param max Max amount of items to reduce sequentially
+     * @param reduce Associative reducing function
+     * @param values The values
+     */
+    public ReducedInThreads(final ForkJoinPool pol, final int max,
+        final BiFunc<T, T, T> reduce, final Iterable<T> values) {
+        this.pool = pol;
+        this.threshold = max;
+        this.function = reduce;
+        this.items = values;
+    }
+
+    @Override
+    public T value() throws Exception {
+        final List<T> result = new FoldingTask<List<T>, T>(
+            this.items.spliterator(),
+            Collections::emptyList,
+            (acc, item) -> this.reduced(acc, item),
+            (left, right) -> {
+                final List<T> joined;
+                if (right.isEmpty()) {
+                    joined = left;
+                } else {
+                    joined = this.reduced(left, right.get(0));
+                }
+                return joined;
+            },
+            this.threshold
+        ).result(this.pool);
+        if (result.isEmpty()) {
+            throw new NoSuchElementException(
+                "Can't find first element in an empty iterable"
+            );
+        }
+        return result.get(0);
+    }
+
+    /**
+     * Reduce the accumulated value with the next one.
+     *
+     * <p>The accumulated value is held in a list of at most one
+     * element, rather than in an {@link java.util.Optional}, since
+     * items and results of the function may be NULL, as in
+     * {@link Reduced}.</p>
+     *
+     * @param acc Accumulated value, empty if there is none yet
+     * @param next Next value
+     * @return Reduced value
+     * @throws Exception If fails
+     */
+    private List<T> reduced(final List<T> acc, final T next)
+        throws Exception {
+        final List<T> result;
+        if (acc.isEmpty()) {
+            result = Collections.singletonList(next);
+        } else {
+            result = Collections.singletonList(
+                this.function.apply(acc.get(0), next)
+            );
+        }
+        return result;
+    }
+}
@@ -31,6 +31,7 @@ import org.cactoos.Scalar;
  * <p>Objects of this class are thread safe.
  *
  * @param <T> Type of result
+ * @see Lazy
  * @see Sticky
  * @see Synced
  * @since 0.24
@@ -42,34 +43,16 @@ public final class Solid<T> implements Scalar<T> {
      */
     private final Scalar<T> origin;
 
-    /**
-     * Cache.
-     */
-    private volatile T cache;
-
-    /**
-     * Sync lock.
-     */
-    private final Object lock;
-
     /**
      * Ctor.
      * @param origin The Scalar to cache and sync
      */
     public Solid(final Scalar<T> origin) {
-        this.origin = origin;
-        this.lock = new Object();
+        this.origin = new Lazy<>(origin);
     }
 
     @Override
     public T value() throws Exception {
-        if (this.cache == null) {
-            synchronized (this.lock) {
-                if (this.cache == null) {
-                    this.cache = this.origin.value();
-                }
-            }
-        }
-        return this.cache;
+        return this.origin.value();
     }
 }
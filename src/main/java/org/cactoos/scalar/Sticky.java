@@ -23,7 +23,6 @@
  */
 package org.cactoos.scalar;
 
-import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.StickyFunc;
 
@@ -33,9 +32,6 @@ import org.cactoos.func.StickyFunc;
  * <p>This {@link Scalar} decorator technically is an in-memory
  * cache.</p>
  *
- * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link Synced}.</p>
- *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -51,31 +47,33 @@ import org.cactoos.func.StickyFunc;
  * ).value()
  * }</pre>
  *
- * <p>There is no thread-safety guarantee.
+ * <p>The value is calculated by {@link Lazy}, so, once it is
+ * calculated, reading it doesn't need any locks or allocations.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
  *
  * @param <T> Type of result
+ * @see Lazy
  * @see StickyFunc
  * @since 0.3
  */
 public final class Sticky<T> implements Scalar<T> {
 
     /**
-     * Func.
+     * Cached scalar.
      */
-    private final Func<Boolean, T> func;
+    private final Scalar<T> origin;
 
     /**
      * Ctor.
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<T> scalar) {
-        this.func = new StickyFunc<>(
-            input -> scalar.value()
-        );
+        this.origin = new Lazy<>(scalar);
     }
 
     @Override
     public T value() throws Exception {
-        return this.func.apply(true);
+        return this.origin.value();
     }
 }
@@ -40,6 +40,19 @@ import org.cactoos.iterable.Mapped;
  * int sum = new SumOf(numbers.toArray(new Integer[numbers.size()])).intValue();
  * </pre>
  *
+ * <p>Integral numbers are summed up exactly, in {@code long}, and floating
+ * ones with the compensated (Neumaier) summation, in {@code double}. Only
+ * if the sum overflows, it continues in {@link BigDecimal}. If you need
+ * all the numbers to be summed up in {@link BigDecimal}, provide the
+ * {@link MathContext}:</p>
+ *
+ * <pre>
+ * double sum = new SumOf(MathContext.DECIMAL128, numbers).doubleValue();
+ * </pre>
+ *
+ * <p>The sum is calculated only once, when any of the values
+ * is requested for the first time.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -105,13 +118,42 @@ public final class SumOf extends NumberEnvelope {
      * @param src The iterable
      */
     public SumOf(final Iterable<? extends Number> src) {
-        super(() -> new Folded<>(
-            BigDecimal.ZERO,
-            (sum, value) -> sum.add(value, MathContext.DECIMAL128),
-            new Mapped<>(
-                number -> BigDecimal.valueOf(number.doubleValue()),
-                src
-            )).value().doubleValue()
+        this(new Lazy<>(() -> new Summation().add(src).total()));
+    }
+
+    /**
+     * Ctor.
+     * @param ctx Context of the {@link BigDecimal} summation
+     * @param src The iterable
+     * @since 1.0
+     */
+    public SumOf(final MathContext ctx, final Iterable<? extends Number> src) {
+        this(
+            new Lazy<>(
+                () -> new Aggregate(
+                    new Folded<>(
+                        BigDecimal.ZERO,
+                        (sum, value) -> sum.add(value, ctx),
+                        new Mapped<>(
+                            number -> BigDecimal.valueOf(number.doubleValue()),
+                            src
+                        )
+                    ).value().doubleValue()
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param total The sum
+     */
+    private SumOf(final Lazy<Number> total) {
+        super(
+            () -> total.value().longValue(),
+            () -> total.value().intValue(),
+            () -> total.value().floatValue(),
+            () -> total.value().doubleValue()
         );
     }
 
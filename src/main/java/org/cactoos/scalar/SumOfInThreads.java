@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sum of numbers, calculated in parallel threads.
+ *
+ * <p>Here is how you can use it to find the sum of many numbers:</p>
+ *
+ * <pre>
+ * double sum = new SumOfInThreads(numbers).doubleValue();
+ * </pre>
+ *
+ * <p>The numbers are split into parts, which are summed up by the
+ * {@link ForkJoinPool} the same way as in {@link SumOf}, and then the
+ * sums of the parts are combined. The iterable is split by its
+ * {@link Iterable#spliterator()}, so arrays, {@link java.util.List}s and
+ * other sized iterables are split the best. A part of no more than the
+ * threshold of numbers is summed up sequentially.</p>
+ *
+ * <p>The sum is calculated only once, when any of the values
+ * is requested for the first time.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see SumOf
+ * @since 1.0
+ */
+@SuppressWarnings(
+    {
+        "PMD.CallSuperInConstructor",
+        "PMD.OnlyOneConstructorShouldDoInitialization",
+        "PMD.ConstructorOnlyInitializesOrCallOtherConstructors"
+    }
+)
+public final class SumOfInThreads extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -5082516396781027364L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInThreads(final Integer... src) {
+        this(Arrays.asList(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInThreads(final Long... src) {
+        this(Arrays.asList(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInThreads(final Double... src) {
+        this(Arrays.asList(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInThreads(final Float... src) {
+        this(Arrays.asList(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public SumOfInThreads(final Iterable<? extends Number> src) {
+        // @checkstyle MagicNumber (1 line)
+        this(ForkJoinPool.commonPool(), 4096, src);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool
+     * @param max Max amount of numbers to sum up sequentially
+     * @param src The iterable
+     */
+    public SumOfInThreads(final ForkJoinPool pool, final int max,
+        final Iterable<? extends Number> src) {
+        this(
+            new Lazy<>(
+                () -> new FoldingTask<Summation, Number>(
+                    src.spliterator(),
+                    Summation::new,
+                    (sum, number) -> sum.add(number),
+                    (left, right) -> left.add(right),
+                    max
+                ).result(pool).total()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sum The sum
+     */
+    private SumOfInThreads(final Lazy<Number> sum) {
+        super(
+            () -> sum.value().longValue(),
+            () -> sum.value().intValue(),
+            () -> sum.value().floatValue(),
+            () -> sum.value().doubleValue()
+        );
+    }
+}
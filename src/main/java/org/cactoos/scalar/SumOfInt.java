@@ -39,8 +39,12 @@ import org.cactoos.Scalar;
  * {@link Exception}. Despite that this class does NOT throw a checked
  * exception.</p>
  *
+ * <p>To sum up plain {@code int}s without boxing them, use
+ * {@link SumOfInts} instead.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
+ * @see SumOfInts
  * @since 0.30
  */
 public final class SumOfInt implements Scalar<Integer> {
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterable.IntsEnvelope;
+import org.cactoos.iterable.IterableOfInts;
+
+/**
+ * Sum of {@code int}s, without boxing of the elements.
+ *
+ * <p>Here is how you can use it to summarize numbers:</p>
+ *
+ * <pre>{@code
+ * long sum = new SumOfInts(1, 2, 3).longValue();
+ * }</pre>
+ *
+ * <p>The numbers are summed up in one pass, the same way as in
+ * {@link SumOf}, and only once, when any of the values is requested
+ * for the first time.</p>
+ *
+ * <p>Not to be confused with {@link SumOfInt}, which sums up the values
+ * of {@link org.cactoos.Scalar}s of boxed {@link Integer}s. This class
+ * sums up plain {@code int}s and is a {@link Number}, like
+ * {@link SumOf}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see SumOf
+ * @see SumOfInt
+ * @since 1.0
+ */
+@SuppressWarnings(
+    {
+        "PMD.CallSuperInConstructor",
+        "PMD.OnlyOneConstructorShouldDoInitialization",
+        "PMD.ConstructorOnlyInitializesOrCallOtherConstructors"
+    }
+)
+public final class SumOfInts extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2461428911530612479L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInts(final int... src) {
+        this(new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public SumOfInts(final IntsEnvelope src) {
+        this(
+            new Lazy<>(
+                () -> {
+                    final PrimitiveIterator.OfInt items = src.iterator();
+                    final Summation sum = new Summation();
+                    while (items.hasNext()) {
+                        sum.add(items.nextInt());
+                    }
+                    return sum.total();
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param total The sum
+     */
+    private SumOfInts(final Lazy<Number> total) {
+        super(
+            () -> total.value().longValue(),
+            () -> total.value().intValue(),
+            () -> total.value().floatValue(),
+            () -> total.value().doubleValue()
+        );
+    }
+}
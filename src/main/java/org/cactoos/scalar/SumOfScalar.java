@@ -23,6 +23,7 @@
  */
 package org.cactoos.scalar;
 
+import java.math.MathContext;
 import java.util.stream.Collectors;
 import org.cactoos.Scalar;
 import org.cactoos.collection.CollectionOf;
@@ -35,6 +36,9 @@ import org.cactoos.iterable.IterableOf;
  * {@link Exception}. Despite that this class does NOT throw a checked
  * exception.</p>
  *
+ * <p>The values are summed up in {@link java.math.BigDecimal}, see
+ * {@link SumOf#SumOf(MathContext, Iterable)}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * <p>Note this class is for internal usage only
  *
@@ -60,6 +64,7 @@ final class SumOfScalar implements Scalar<SumOf> {
     @Override
     public SumOf value() {
         return new SumOf(
+            MathContext.DECIMAL128,
             new IterableOf<>(
                 new CollectionOf<>(this.scalars)
                     .stream()
@@ -0,0 +1,292 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Single-pass summation of numbers.
+ *
+ * <p>Integral numbers ({@link Long}, {@link Integer}, {@link Short} and
+ * {@link Byte}) are summed up exactly, in {@code long}. All other numbers
+ * are summed up as {@code double}s with the Kahan-Babuska (Neumaier)
+ * compensation, which keeps the error independent of the number of
+ * items. If either of the sums overflows, the summation continues in
+ * {@link BigDecimal}, so it never allocates per item until then.
+ * Infinite and NaN numbers are not accepted, the same way as
+ * by {@link BigDecimal#valueOf(double)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class Summation {
+
+    /**
+     * Exact sum of the integral numbers.
+     */
+    private long exact;
+
+    /**
+     * Sum of the floating numbers.
+     */
+    private double sum;
+
+    /**
+     * Compensation of the floating sum.
+     */
+    private double comp;
+
+    /**
+     * Sum after an overflow.
+     */
+    private BigDecimal big;
+
+    /**
+     * Was there any floating number?
+     */
+    private boolean floating;
+
+    /**
+     * Did any of the sums overflow?
+     */
+    private boolean overflow;
+
+    /**
+     * How many numbers were added.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     */
+    Summation() {
+        this.big = BigDecimal.ZERO;
+    }
+
+    /**
+     * Add all the numbers.
+     * @param numbers The numbers
+     * @return This summation
+     */
+    public Summation add(final Iterable<? extends Number> numbers) {
+        for (final Number number : numbers) {
+            this.add(number);
+        }
+        return this;
+    }
+
+    /**
+     * Add the number.
+     * @param number The number
+     * @return This summation
+     */
+    public Summation add(final Number number) {
+        final Summation sum;
+        if (number instanceof Long || number instanceof Integer
+            || number instanceof Short || number instanceof Byte) {
+            sum = this.add(number.longValue());
+        } else {
+            sum = this.add(number.doubleValue());
+        }
+        return sum;
+    }
+
+    /**
+     * Add the integral number.
+     * @param number The number
+     * @return This summation
+     */
+    public Summation add(final long number) {
+        ++this.count;
+        this.integral(number);
+        return this;
+    }
+
+    /**
+     * Add the floating number.
+     * @param number The number
+     * @return This summation
+     * @throws NumberFormatException If the number is infinite or NaN
+     */
+    public Summation add(final double number) {
+        if (Double.isInfinite(number) || Double.isNaN(number)) {
+            throw new NumberFormatException(
+                String.format("Can't sum up %f", number)
+            );
+        }
+        ++this.count;
+        this.floating = true;
+        this.fractional(number);
+        return this;
+    }
+
+    /**
+     * Add all the numbers of other summation.
+     * @param other The summation
+     * @return This summation
+     */
+    public Summation add(final Summation other) {
+        this.count += other.count;
+        this.floating = this.floating || other.floating;
+        if (this.overflow || other.overflow) {
+            if (!this.overflow) {
+                this.overflown();
+            }
+            this.big = this.big.add(other.decimal(), MathContext.DECIMAL128);
+        } else {
+            this.integral(other.exact);
+            this.fractional(other.sum);
+            this.fractional(other.comp);
+        }
+        return this;
+    }
+
+    /**
+     * The total.
+     * @return The sum of all the numbers
+     */
+    public Number total() {
+        final Number total;
+        if (this.overflow) {
+            total = new Aggregate(this.big.doubleValue());
+        } else if (this.floating) {
+            total = new Aggregate(this.compensated());
+        } else {
+            total = new Aggregate(this.exact);
+        }
+        return total;
+    }
+
+    /**
+     * The average.
+     * @return The mean of all the numbers, or zero if there are none
+     */
+    public Number average() {
+        final Number avg;
+        if (this.count == 0L) {
+            avg = new Aggregate(0.0);
+        } else if (this.overflow) {
+            avg = new Aggregate(
+                this.big.divide(
+                    BigDecimal.valueOf(this.count), MathContext.DECIMAL128
+                ).doubleValue()
+            );
+        } else if (this.floating) {
+            avg = new Aggregate(this.compensated() / this.count);
+        } else {
+            avg = new Aggregate(
+                (double) (this.exact / this.count)
+                    + (double) (this.exact % this.count) / this.count
+            );
+        }
+        return avg;
+    }
+
+    /**
+     * Add an integral value.
+     * @param value The value
+     */
+    private void integral(final long value) {
+        if (this.overflow) {
+            this.big = this.big.add(
+                BigDecimal.valueOf(value), MathContext.DECIMAL128
+            );
+        } else {
+            final long next = this.exact + value;
+            if (((this.exact ^ next) & (value ^ next)) < 0L) {
+                this.overflown();
+                this.integral(value);
+            } else {
+                this.exact = next;
+            }
+        }
+    }
+
+    /**
+     * Add a finite floating value.
+     * @param value The value
+     */
+    private void fractional(final double value) {
+        if (this.overflow) {
+            this.big = this.big.add(
+                new BigDecimal(value), MathContext.DECIMAL128
+            );
+        } else {
+            final double next = this.sum + value;
+            if (Double.isInfinite(next)) {
+                this.overflown();
+                this.fractional(value);
+            } else {
+                if (Math.abs(this.sum) >= Math.abs(value)) {
+                    this.comp += this.sum - next + value;
+                } else {
+                    this.comp += value - next + this.sum;
+                }
+                this.sum = next;
+            }
+        }
+    }
+
+    /**
+     * Move both sums to {@link BigDecimal}.
+     */
+    private void overflown() {
+        this.big = this.decimal();
+        this.overflow = true;
+    }
+
+    /**
+     * The sum in {@link BigDecimal}.
+     * @return The sum
+     */
+    private BigDecimal decimal() {
+        final BigDecimal result;
+        if (this.overflow) {
+            result = this.big;
+        } else {
+            result = BigDecimal.valueOf(this.exact)
+                .add(new BigDecimal(this.sum))
+                .add(new BigDecimal(this.comp));
+        }
+        return result;
+    }
+
+    /**
+     * Compensated floating sum, including the integral one.
+     * @return The sum
+     */
+    private double compensated() {
+        final double integral = (double) this.exact;
+        final double next = this.sum + integral;
+        double fix = this.comp;
+        if (Math.abs(this.sum) >= Math.abs(integral)) {
+            fix += this.sum - next + integral;
+        } else {
+            fix += integral - next + this.sum;
+        }
+        return next + fix;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.CachedFunc;
+
+/**
+ * Regex compiled through a shared bounded cache.
+ *
+ * <p>Texts like {@link Replaced} and {@link Split} compile their regexes
+ * on every evaluation unless they are given a {@link Pattern}. This
+ * scalar compiles each distinct regex once and keeps the last
+ * {@link #SIZE} of them in an LRU cache shared by the whole JVM, so code
+ * that runs a handful of regexes millions of times only pays for the
+ * lookup.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class CompiledPattern implements Scalar<Pattern> {
+
+    /**
+     * Number of regexes the shared cache keeps.
+     */
+    public static final long SIZE = 512L;
+
+    /**
+     * The shared cache.
+     */
+    private static final Func<String, Pattern> SHARED = new CachedFunc<>(
+        Pattern::compile, CompiledPattern.SIZE
+    );
+
+    /**
+     * The regex.
+     */
+    private final String regex;
+
+    /**
+     * The cache.
+     */
+    private final Func<String, Pattern> cache;
+
+    /**
+     * Ctor.
+     * @param rgx The regex
+     */
+    public CompiledPattern(final String rgx) {
+        this(rgx, CompiledPattern.SHARED);
+    }
+
+    /**
+     * Ctor.
+     * @param rgx The regex
+     * @param cch Compiles regexes, caching them
+     */
+    public CompiledPattern(final String rgx, final Func<String, Pattern> cch) {
+        this.regex = rgx;
+        this.cache = cch;
+    }
+
+    @Override
+    public Pattern value() throws Exception {
+        return this.cache.apply(this.regex);
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton replacing many literals in one pass.
+ *
+ * <p>The text is scanned once; at every position the automaton knows
+ * the longest literal ending there. Matches are replaced leftmost
+ * first, the longest one among those starting at the same position,
+ * and never overlap, which is what a sequence of non-overlapping
+ * {@link String#indexOf(String)} searches for the alternatives would
+ * give. After a replacement the scan restarts right after it.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class LiteralAutomaton {
+
+    /**
+     * Transitions of every state.
+     */
+    private final List<Map<Character, Integer>> moves;
+
+    /**
+     * Failure link of every state.
+     */
+    private final List<Integer> fails;
+
+    /**
+     * Length of the string every state stands for.
+     */
+    private final List<Integer> depths;
+
+    /**
+     * Length of the longest literal ending in every state, or zero.
+     */
+    private final List<Integer> lengths;
+
+    /**
+     * Replacement of the longest literal ending in every state.
+     */
+    private final List<String> replacements;
+
+    /**
+     * Ctor.
+     * @param pairs Literals and their replacements
+     */
+    LiteralAutomaton(final Map<String, String> pairs) {
+        this.moves = new ArrayList<>(0);
+        this.fails = new ArrayList<>(0);
+        this.depths = new ArrayList<>(0);
+        this.lengths = new ArrayList<>(0);
+        this.replacements = new ArrayList<>(0);
+        this.state(0);
+        for (final Map.Entry<String, String> pair : pairs.entrySet()) {
+            this.add(pair.getKey(), pair.getValue());
+        }
+        this.link();
+    }
+
+    /**
+     * Replace the literals in the text.
+     * @param text The text
+     * @return The text with literals replaced
+     */
+    public String replace(final String text) {
+        final StringBuilder out = new StringBuilder(text.length());
+        int copied = 0;
+        int state = 0;
+        int start = -1;
+        int end = -1;
+        String replacement = "";
+        int idx = 0;
+        while (idx < text.length() || start >= 0) {
+            if (idx < text.length()) {
+                state = this.next(state, text.charAt(idx));
+                final int len = this.lengths.get(state);
+                if (len > 0 && (start < 0 || idx - len + 1 <= start)) {
+                    start = idx - len + 1;
+                    end = idx + 1;
+                    replacement = this.replacements.get(state);
+                }
+            }
+            if (start >= 0 && (idx >= text.length()
+                || idx - this.depths.get(state) + 1 > start)) {
+                out.append(text, copied, start).append(replacement);
+                copied = end;
+                idx = end;
+                state = 0;
+                start = -1;
+            } else {
+                ++idx;
+            }
+        }
+        return out.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Add a literal.
+     * @param literal The literal
+     * @param replacement Its replacement
+     */
+    private void add(final String literal, final String replacement) {
+        if (!literal.isEmpty()) {
+            int state = 0;
+            for (int idx = 0; idx < literal.length(); ++idx) {
+                final Character chr = literal.charAt(idx);
+                Integer next = this.moves.get(state).get(chr);
+                if (next == null) {
+                    next = this.state(idx + 1);
+                    this.moves.get(state).put(chr, next);
+                }
+                state = next;
+            }
+            this.lengths.set(state, literal.length());
+            this.replacements.set(state, replacement);
+        }
+    }
+
+    /**
+     * Compute failure links and inherit the longest literals
+     * from them, breadth first.
+     */
+    private void link() {
+        final Queue<Integer> queue = new ArrayDeque<>(
+            this.moves.get(0).values()
+        );
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            for (final Map.Entry<Character, Integer> move
+                : this.moves.get(state).entrySet()) {
+                final int child = move.getValue();
+                final int fail = this.next(
+                    this.fails.get(state), move.getKey()
+                );
+                this.fails.set(child, fail);
+                if (this.lengths.get(child) == 0) {
+                    this.lengths.set(child, this.lengths.get(fail));
+                    this.replacements.set(child, this.replacements.get(fail));
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Follow a character from a state.
+     * @param from The state
+     * @param chr The character
+     * @return The next state
+     */
+    private int next(final int from, final char chr) {
+        int state = from;
+        Integer next = this.moves.get(state).get(chr);
+        while (next == null && state != 0) {
+            state = this.fails.get(state);
+            next = this.moves.get(state).get(chr);
+        }
+        final int result;
+        if (next == null) {
+            result = 0;
+        } else {
+            result = next;
+        }
+        return result;
+    }
+
+    /**
+     * Create a state.
+     * @param depth Length of the string it stands for
+     * @return The state
+     */
+    private int state(final int depth) {
+        this.moves.add(new HashMap<>(0));
+        this.fails.add(0);
+        this.depths.add(depth);
+        this.lengths.add(0);
+        this.replacements.add("");
+        return this.moves.size() - 1;
+    }
+
+}
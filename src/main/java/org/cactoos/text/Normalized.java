@@ -30,6 +30,10 @@ import org.cactoos.Text;
  * Normalize (replace sequences of whitespace characters by a single space)
  * a Text.
  *
+ * <p>The text is trimmed like {@link String#trim()} and runs of
+ * {@code \s} characters are collapsed in a single pass, without
+ * regexes.</p>
+ *
  * @since 0.9
  */
 public final class Normalized extends TextEnvelope {
@@ -48,11 +52,32 @@ public final class Normalized extends TextEnvelope {
      */
     public Normalized(final Text text) {
         super(
-            (Scalar<String>) () -> new Replaced(
-                new Trimmed(text),
-                "\\s+",
-                " "
-            ).asString()
+            (Scalar<String>) () -> {
+                final String origin = text.asString();
+                int start = 0;
+                int end = origin.length();
+                while (start < end && origin.charAt(start) <= ' ') {
+                    ++start;
+                }
+                while (end > start && origin.charAt(end - 1) <= ' ') {
+                    --end;
+                }
+                final StringBuilder result = new StringBuilder(end - start);
+                boolean space = false;
+                for (int idx = start; idx < end; ++idx) {
+                    final char chr = origin.charAt(idx);
+                    if (" \t\n\u000B\f\r".indexOf(chr) >= 0) {
+                        space = true;
+                    } else {
+                        if (space) {
+                            result.append(' ');
+                            space = false;
+                        }
+                        result.append(chr);
+                    }
+                }
+                return result.toString();
+            }
         );
     }
 }
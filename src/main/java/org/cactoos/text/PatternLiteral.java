@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+
+/**
+ * The plain string a pattern matches, if it is one.
+ *
+ * <p>Patterns without metacharacters, a single escaped character and
+ * patterns compiled with {@link Pattern#LITERAL} match exactly one
+ * string, which can be searched with {@link String#indexOf(String, int)}
+ * instead of a {@link java.util.regex.Matcher}. Any other pattern,
+ * including an empty one, gives an empty string.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class PatternLiteral implements Scalar<String> {
+
+    /**
+     * Characters that make a pattern more than a literal.
+     */
+    private static final String META = ".$|()[]{}^?*+\\";
+
+    /**
+     * The pattern.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Ctor.
+     * @param ptn The pattern
+     */
+    PatternLiteral(final Pattern ptn) {
+        this.pattern = ptn;
+    }
+
+    @Override
+    public String value() {
+        final String regex = this.pattern.pattern();
+        String result = "";
+        if (this.pattern.flags() == Pattern.LITERAL) {
+            result = regex;
+        } else if (this.pattern.flags() == 0) {
+            boolean plain = true;
+            for (int idx = 0; plain && idx < regex.length(); ++idx) {
+                plain = PatternLiteral.META.indexOf(regex.charAt(idx)) < 0;
+            }
+            if (plain) {
+                result = regex;
+            } else if (regex.length() == 2 && regex.charAt(0) == '\\'
+                && !Character.isLetterOrDigit(regex.charAt(1))) {
+                result = regex.substring(1);
+            }
+        }
+        return result;
+    }
+
+}
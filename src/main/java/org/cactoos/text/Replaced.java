@@ -24,6 +24,7 @@
 package org.cactoos.text;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -32,10 +33,17 @@ import org.cactoos.Scalar;
 import org.cactoos.Text;
 import org.cactoos.func.IoCheckedFunc;
 import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Replace the Text.
  *
+ * <p>Regexes given as strings are compiled through the shared
+ * {@link CompiledPattern} cache. A regex without metacharacters with a
+ * replacement without group references is replaced with plain string
+ * search, and many literals at once are replaced in a single pass.</p>
+ *
  * @since 0.2
  */
 public final class Replaced extends TextEnvelope {
@@ -53,7 +61,25 @@ public final class Replaced extends TextEnvelope {
         final Text text,
         final String find,
         final String replace) {
-        this(text, () -> Pattern.compile(find), matcher -> replace);
+        this(text, new CompiledPattern(find), replace);
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Will replace all instances of the keys of {@code pairs}, which are
+     * plain strings, with their values, taken as they are. At every
+     * position the longest key is replaced, and replacements do not
+     * overlap. The text is scanned once, whatever the number of keys.
+     * @param text The text
+     * @param pairs Strings to find and their replacements
+     * @since 1.0
+     */
+    public Replaced(final Text text, final Map<String, String> pairs) {
+        this(
+            text,
+            new Unchecked<>(new Sticky<>(() -> new LiteralAutomaton(pairs)))
+        );
     }
 
     /**
@@ -85,20 +111,69 @@ public final class Replaced extends TextEnvelope {
         final Scalar<Pattern> regex,
         final Func<Matcher, String> func) {
         super((Scalar<String>) () -> {
-            final StringBuffer buffer = new StringBuffer();
+            final String origin = text.asString();
+            final StringBuilder buffer = new StringBuilder(origin.length());
             final Matcher matcher = new IoChecked<>(regex)
                 .value()
-                .matcher(text.asString());
+                .matcher(origin);
             final IoCheckedFunc<Matcher, String> safe =
                 new IoCheckedFunc<>(func);
+            int copied = 0;
             while (matcher.find()) {
-                matcher.appendReplacement(
-                    buffer,
-                    safe.apply(matcher)
+                buffer.append(origin, copied, matcher.start());
+                new ReplacementTemplate(safe.apply(matcher))
+                    .appendTo(buffer, matcher);
+                copied = matcher.end();
+            }
+            return buffer.append(origin, copied, origin.length()).toString();
+        });
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param regex The regular expression
+     * @param replace The replacement string
+     */
+    private Replaced(
+        final Text text,
+        final Scalar<Pattern> regex,
+        final String replace) {
+        super((Scalar<String>) () -> {
+            final Pattern pattern = new IoChecked<>(regex).value();
+            final String find = new PatternLiteral(pattern).value();
+            final String result;
+            if (find.isEmpty() || replace.indexOf('$') >= 0
+                || replace.indexOf('\\') >= 0) {
+                result = new Replaced(text, () -> pattern, mtr -> replace)
+                    .asString();
+            } else {
+                final String origin = text.asString();
+                final StringBuilder buffer = new StringBuilder(
+                    origin.length()
                 );
+                int copied = 0;
+                for (int idx = origin.indexOf(find); idx >= 0;
+                    idx = origin.indexOf(find, copied)) {
+                    buffer.append(origin, copied, idx).append(replace);
+                    copied = idx + find.length();
+                }
+                result = buffer.append(origin, copied, origin.length())
+                    .toString();
             }
-            matcher.appendTail(buffer);
-            return buffer.toString();
+            return result;
         });
     }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param automaton Replaces the literals
+     */
+    private Replaced(final Text text,
+        final Unchecked<LiteralAutomaton> automaton) {
+        super(
+            (Scalar<String>) () -> automaton.value().replace(text.asString())
+        );
+    }
 }
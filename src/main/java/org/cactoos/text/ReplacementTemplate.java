@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+
+/**
+ * Replacement string with group references, expanded for a match.
+ *
+ * <p>Follows the syntax of
+ * {@link Matcher#appendReplacement(StringBuffer, String)}: {@code $n}
+ * and {@code ${name}} refer to groups and a backslash escapes the next
+ * character. Unlike it, appends to a {@link StringBuilder}, and copies
+ * templates without references as they are.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ReplacementTemplate {
+
+    /**
+     * The template.
+     */
+    private final String template;
+
+    /**
+     * Ctor.
+     * @param tpl The template
+     */
+    ReplacementTemplate(final String tpl) {
+        this.template = tpl;
+    }
+
+    /**
+     * Append the replacement for the current match.
+     * @param out Where to append
+     * @param matcher The matcher, positioned at a match
+     */
+    public void appendTo(final StringBuilder out, final Matcher matcher) {
+        if (this.template.indexOf('$') < 0
+            && this.template.indexOf('\\') < 0) {
+            out.append(this.template);
+        } else {
+            int cursor = 0;
+            while (cursor < this.template.length()) {
+                final char chr = this.template.charAt(cursor);
+                if (chr == '\\') {
+                    ++cursor;
+                    if (cursor == this.template.length()) {
+                        throw new IllegalArgumentException(
+                            "character to be escaped is missing"
+                        );
+                    }
+                    out.append(this.template.charAt(cursor));
+                    ++cursor;
+                } else if (chr == '$') {
+                    cursor = this.group(out, matcher, cursor + 1);
+                } else {
+                    out.append(chr);
+                    ++cursor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a referenced group.
+     * @param out Where to append
+     * @param matcher The matcher
+     * @param from Where the reference starts, after the dollar sign
+     * @return Where the reference ends
+     */
+    private int group(final StringBuilder out, final Matcher matcher,
+        final int from) {
+        if (from == this.template.length()) {
+            throw new IllegalArgumentException(
+                "Illegal group reference: group index is missing"
+            );
+        }
+        int cursor = from;
+        final String group;
+        if (this.template.charAt(cursor) == '{') {
+            ++cursor;
+            final int close = this.template.indexOf('}', cursor);
+            if (close < 0) {
+                throw new IllegalArgumentException(
+                    "named capturing group is missing trailing '}'"
+                );
+            }
+            group = matcher.group(this.template.substring(cursor, close));
+            cursor = close + 1;
+        } else {
+            int ref = this.template.charAt(cursor) - '0';
+            if (ref < 0 || ref > 9) {
+                throw new IllegalArgumentException("Illegal group reference");
+            }
+            ++cursor;
+            while (cursor < this.template.length()) {
+                final int digit = this.template.charAt(cursor) - '0';
+                if (digit < 0 || digit > 9
+                    || ref * 10 + digit > matcher.groupCount()) {
+                    break;
+                }
+                ref = ref * 10 + digit;
+                ++cursor;
+            }
+            group = matcher.group(ref);
+        }
+        if (group != null) {
+            out.append(group);
+        }
+        return cursor;
+    }
+
+}
@@ -0,0 +1,425 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import org.cactoos.Output;
+import org.cactoos.Text;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Text as a balanced tree of string slices.
+ *
+ * <p>Every {@link Text} decorator builds a fresh {@link String}, so a chain
+ * of concatenations and substrings over a large document copies the whole
+ * document at every step. A rope keeps the pieces in a height-balanced
+ * (AVL) tree instead: {@link #concat(CharSequence)} and
+ * {@link #subSequence(int, int)} return new ropes in O(log n) without
+ * copying characters, {@link #charAt(int)} walks down the tree in
+ * O(log n), and the tree is flattened into a single {@link String} only
+ * when {@link #asString()} is called, once. Use
+ * {@link #writeTo(Writer)} to stream a rope without flattening it at
+ * all.</p>
+ *
+ * <p>Pieces shorter than {@link #LEAF} characters are merged eagerly, so
+ * appending small strings one by one doesn't grow the tree by a node per
+ * string.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Rope implements Text, CharSequence {
+
+    /**
+     * Pieces up to this length are copied rather than linked.
+     */
+    public static final int LEAF = 256;
+
+    /**
+     * The string a leaf is a slice of, empty for inner nodes.
+     */
+    private final String text;
+
+    /**
+     * Where the slice starts in the string.
+     */
+    private final int offset;
+
+    /**
+     * Children, empty for leaves.
+     */
+    private final Rope[] kids;
+
+    /**
+     * Number of characters.
+     */
+    private final int size;
+
+    /**
+     * Height of the tree, zero for leaves.
+     */
+    private final int height;
+
+    /**
+     * Flattened characters.
+     */
+    private final Unchecked<String> flat;
+
+    /**
+     * Ctor.
+     */
+    public Rope() {
+        this("");
+    }
+
+    /**
+     * Ctor.
+     * @param chars The characters, copied
+     */
+    public Rope(final CharSequence chars) {
+        this(chars.toString(), 0, chars.length());
+    }
+
+    /**
+     * Ctor.
+     * @param txt The string
+     * @param off Where the slice starts
+     * @param len Length of the slice
+     */
+    private Rope(final String txt, final int off, final int len) {
+        this(txt, off, len, new Rope[0], 0);
+    }
+
+    /**
+     * Ctor.
+     * @param left Left child
+     * @param right Right child
+     */
+    private Rope(final Rope left, final Rope right) {
+        this(
+            "", 0, left.size + right.size, new Rope[] {left, right},
+            Math.max(left.height, right.height) + 1
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param txt The string
+     * @param off Where the slice starts
+     * @param len Number of characters
+     * @param children Children
+     * @param hgt Height
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Rope(final String txt, final int off, final int len,
+        final Rope[] children, final int hgt) {
+        this.text = txt;
+        this.offset = off;
+        this.size = len;
+        this.kids = children;
+        this.height = hgt;
+        this.flat = new Unchecked<>(new Sticky<>(this::flatten));
+    }
+
+    /**
+     * Rope with the given characters appended, in O(log n).
+     * @param chars The characters to append
+     * @return New rope
+     */
+    public Rope concat(final CharSequence chars) {
+        final Rope right;
+        if (chars instanceof Rope) {
+            right = (Rope) chars;
+        } else {
+            right = new Rope(chars);
+        }
+        return this.join(right);
+    }
+
+    /**
+     * Write all characters to the writer, without flattening.
+     * @param writer The writer, left open
+     * @throws IOException If fails
+     */
+    public void writeTo(final Writer writer) throws IOException {
+        if (this.kids.length == 0) {
+            writer.write(this.text, this.offset, this.size);
+        } else {
+            this.kids[0].writeTo(writer);
+            this.kids[1].writeTo(writer);
+        }
+    }
+
+    /**
+     * Encode all characters to the output, without flattening.
+     * @param output The output, its stream is closed at the end
+     * @param charset The charset
+     * @throws IOException If fails
+     */
+    public void writeTo(final Output output, final Charset charset)
+        throws IOException {
+        try (Writer writer = new OutputStreamWriter(
+            new IoChecked<>(output::stream).value(), charset
+        )) {
+            this.writeTo(writer);
+        }
+    }
+
+    @Override
+    public int length() {
+        return this.size;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        Rope node = this;
+        int pos = index;
+        while (node.kids.length > 0) {
+            if (pos < node.kids[0].size) {
+                node = node.kids[0];
+            } else {
+                pos -= node.kids[0].size;
+                node = node.kids[1];
+            }
+        }
+        return node.text.charAt(node.offset + pos);
+    }
+
+    @Override
+    public Rope subSequence(final int start, final int end) {
+        if (start < 0 || end > this.size || start > end) {
+            throw new StringIndexOutOfBoundsException(
+                new UncheckedText(
+                    new FormattedText(
+                        "begin %d, end %d, length %d", start, end, this.size
+                    )
+                ).asString()
+            );
+        }
+        return this.slice(start, end);
+    }
+
+    @Override
+    public String asString() {
+        return this.flat.value();
+    }
+
+    @Override
+    public String toString() {
+        return this.asString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.asString().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof Text
+            && this.asString().equals(new UncheckedText((Text) obj).asString());
+    }
+
+    /**
+     * Slice of this rope, bounds already checked.
+     * @param start First character, inclusive
+     * @param end Last character, exclusive
+     * @return The slice
+     */
+    private Rope slice(final int start, final int end) {
+        final Rope result;
+        if (start == 0 && end == this.size) {
+            result = this;
+        } else if (this.kids.length == 0 && end - start <= Rope.LEAF) {
+            result = new Rope(
+                this.text.substring(this.offset + start, this.offset + end)
+            );
+        } else if (this.kids.length == 0) {
+            result = new Rope(this.text, this.offset + start, end - start);
+        } else {
+            final int half = this.kids[0].size;
+            if (end <= half) {
+                result = this.kids[0].slice(start, end);
+            } else if (start >= half) {
+                result = this.kids[1].slice(start - half, end - half);
+            } else {
+                result = this.kids[0].slice(start, half).join(
+                    this.kids[1].slice(0, end - half)
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Concatenation that keeps the tree balanced.
+     * @param right The rope to append
+     * @return New rope
+     */
+    private Rope join(final Rope right) {
+        final Rope result;
+        if (right.size == 0) {
+            result = this;
+        } else if (this.size == 0) {
+            result = right;
+        } else if (this.height > right.height + 1) {
+            result = this.joinRight(right);
+        } else if (right.height > this.height + 1) {
+            result = right.joinLeft(this);
+        } else {
+            result = this.merged(right);
+        }
+        return result;
+    }
+
+    /**
+     * Concatenation with a much lower rope, along the right spine.
+     * @param right The lower rope to append
+     * @return New rope
+     */
+    private Rope joinRight(final Rope right) {
+        final Rope left = this.kids[0];
+        final Rope mid = this.kids[1];
+        final Rope result;
+        if (mid.height <= right.height + 1) {
+            final Rope tail = mid.merged(right);
+            if (tail.height <= left.height + 1) {
+                result = new Rope(left, tail);
+            } else {
+                result = new Rope(left, tail.rotatedRight()).rotatedLeft();
+            }
+        } else {
+            final Rope tail = mid.joinRight(right);
+            if (tail.height <= left.height + 1) {
+                result = new Rope(left, tail);
+            } else {
+                result = new Rope(left, tail).rotatedLeft();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Concatenation to a much lower rope, along the left spine.
+     * @param left The lower rope to prepend
+     * @return New rope
+     */
+    private Rope joinLeft(final Rope left) {
+        final Rope mid = this.kids[0];
+        final Rope right = this.kids[1];
+        final Rope result;
+        if (mid.height <= left.height + 1) {
+            final Rope head = left.merged(mid);
+            if (head.height <= right.height + 1) {
+                result = new Rope(head, right);
+            } else {
+                result = new Rope(head.rotatedLeft(), right).rotatedRight();
+            }
+        } else {
+            final Rope head = mid.joinLeft(left);
+            if (head.height <= right.height + 1) {
+                result = new Rope(head, right);
+            } else {
+                result = new Rope(head, right).rotatedRight();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Node with two children, or a single leaf if both are short leaves.
+     * @param right Right child
+     * @return New rope
+     */
+    private Rope merged(final Rope right) {
+        final Rope result;
+        if (this.kids.length == 0 && right.kids.length == 0
+            && this.size + right.size <= Rope.LEAF) {
+            result = new Rope(this.asString().concat(right.asString()));
+        } else {
+            result = new Rope(this, right);
+        }
+        return result;
+    }
+
+    /**
+     * Left rotation, the right child must be an inner node.
+     * @return New rope
+     */
+    private Rope rotatedLeft() {
+        final Rope right = this.kids[1];
+        return new Rope(new Rope(this.kids[0], right.kids[0]), right.kids[1]);
+    }
+
+    /**
+     * Right rotation, the left child must be an inner node.
+     * @return New rope
+     */
+    private Rope rotatedRight() {
+        final Rope left = this.kids[0];
+        return new Rope(left.kids[0], new Rope(left.kids[1], this.kids[1]));
+    }
+
+    /**
+     * Copy all characters into a single string.
+     * @return The string
+     */
+    private String flatten() {
+        final String result;
+        if (this.kids.length == 0
+            && this.offset == 0 && this.size == this.text.length()) {
+            result = this.text;
+        } else {
+            final char[] chars = new char[this.size];
+            this.copy(chars, 0);
+            result = new String(chars);
+        }
+        return result;
+    }
+
+    /**
+     * Copy all characters into the array.
+     * @param dest The array
+     * @param pos Where to start in the array
+     */
+    private void copy(final char[] dest, final int pos) {
+        if (this.kids.length == 0) {
+            this.text.getChars(this.offset, this.offset + this.size, dest, pos);
+        } else {
+            this.kids[0].copy(dest, pos);
+            this.kids[1].copy(dest, pos + this.kids[0].size);
+        }
+    }
+}
@@ -24,13 +24,25 @@
 package org.cactoos.text;
 
 import java.util.Iterator;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
 import org.cactoos.Text;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Split the Text.
  *
+ * <p>Tokens are found lazily, one per call to the iterator, so taking
+ * the first token of a long text only scans up to the first delimiter.
+ * They follow the rules of {@link String#split(String, int)}. Regexes
+ * given as strings or texts are compiled through the shared
+ * {@link CompiledPattern} cache. Regexes without metacharacters are
+ * searched as plain strings.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
  * @since 0.9
  */
 public final class Split implements Iterable<Text> {
@@ -41,9 +53,14 @@ public final class Split implements Iterable<Text> {
     private final UncheckedText origin;
 
     /**
-     * The regex.
+     * The pattern.
+     */
+    private final Unchecked<Pattern> pattern;
+
+    /**
+     * Maximum number of tokens, or zero or less for no limit.
      */
-    private final UncheckedText regex;
+    private final int limit;
 
     /**
      * Ctor.
@@ -52,10 +69,7 @@ public final class Split implements Iterable<Text> {
      * @param rgx The regex
      */
     public Split(final String text, final String rgx) {
-        this(
-            new UncheckedText(new TextOf(text)),
-            new UncheckedText(new TextOf(rgx))
-        );
+        this(new TextOf(text), rgx);
     }
 
     /**
@@ -73,7 +87,24 @@ public final class Split implements Iterable<Text> {
      * @param rgx The regex
      */
     public Split(final Text text, final String rgx) {
-        this(new UncheckedText(text), new UncheckedText(rgx));
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param max Maximum number of tokens, the last one holding the rest
+     *  of the text; zero for no limit, or negative for no limit with
+     *  trailing empty tokens kept
+     * @since 1.0
+     */
+    public Split(final Text text, final String rgx, final int max) {
+        this(
+            new UncheckedText(text),
+            new Sticky<>(new CompiledPattern(rgx)),
+            max
+        );
     }
 
     /**
@@ -85,23 +116,58 @@ public final class Split implements Iterable<Text> {
         this(new UncheckedText(text), new UncheckedText(rgx));
     }
 
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @since 1.0
+     */
+    public Split(final Text text, final Pattern rgx) {
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param max Maximum number of tokens, the last one holding the rest
+     *  of the text; zero for no limit, or negative for no limit with
+     *  trailing empty tokens kept
+     * @since 1.0
+     */
+    public Split(final Text text, final Pattern rgx, final int max) {
+        this(new UncheckedText(text), () -> rgx, max);
+    }
+
     /**
      * Ctor.
      * @param text The text
      * @param rgx The regex
      */
     public Split(final UncheckedText text, final UncheckedText rgx) {
+        this(text, () -> new CompiledPattern(rgx.asString()).value(), 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param max Maximum number of tokens, or zero or less for no limit
+     */
+    private Split(final UncheckedText text, final Scalar<Pattern> rgx,
+        final int max) {
         this.origin = text;
-        this.regex = rgx;
+        this.pattern = new Unchecked<>(rgx);
+        this.limit = max;
     }
 
     @Override
     public Iterator<Text> iterator() {
-        return new Mapped<String, Text>(
+        return new Mapped<>(
             TextOf::new,
-            new IterableOf<>(
-                this.origin.asString().split(this.regex.asString())
+            new SplitIterator(
+                this.origin.asString(), this.pattern.value(), this.limit
             )
-        ).iterator();
+        );
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Iterator over the tokens of a string split by a pattern.
+ *
+ * <p>This class is for internal use only. Use {@link Split}
+ * instead.</p>
+ *
+ * <p>Tokens are found on demand and follow the rules of
+ * {@link Pattern#split(CharSequence, int)}: with a zero limit trailing
+ * empty tokens are dropped, which is done by holding empty tokens back
+ * until a non-empty one shows up. Patterns without metacharacters are
+ * searched with {@link String#indexOf(String, int)} instead of a
+ * {@link Matcher}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class SplitIterator implements Iterator<String> {
+
+    /**
+     * The string to split.
+     */
+    private final String text;
+
+    /**
+     * The pattern.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Maximum number of tokens, or zero or less for no limit.
+     */
+    private final int limit;
+
+    /**
+     * The literal delimiter, empty if the pattern is a regex.
+     */
+    private String literal;
+
+    /**
+     * The matcher, used if the pattern is a regex.
+     */
+    private Matcher matcher;
+
+    /**
+     * Start of the last delimiter found.
+     */
+    private int start;
+
+    /**
+     * End of the last delimiter found.
+     */
+    private int end;
+
+    /**
+     * Where the next token starts.
+     */
+    private int index;
+
+    /**
+     * Number of tokens found so far, including held back ones.
+     */
+    private int count;
+
+    /**
+     * Whether any delimiter was found.
+     */
+    private boolean matched;
+
+    /**
+     * Whether the last token was found.
+     */
+    private boolean finished;
+
+    /**
+     * Number of empty tokens held back.
+     */
+    private int pending;
+
+    /**
+     * Non-empty token found after the held back ones, or NULL.
+     */
+    private String held;
+
+    /**
+     * Token to return next, or NULL.
+     */
+    private String token;
+
+    /**
+     * Ctor.
+     * @param txt The string to split
+     * @param ptn The pattern
+     * @param max Maximum number of tokens, or zero or less for no limit
+     */
+    SplitIterator(final String txt, final Pattern ptn, final int max) {
+        this.text = txt;
+        this.pattern = ptn;
+        this.limit = max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.token == null) {
+            this.token = this.fetch();
+        }
+        return this.token != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more tokens");
+        }
+        final String next = this.token;
+        this.token = null;
+        return next;
+    }
+
+    /**
+     * Find the next token to return.
+     * @return The token or NULL if there are no more
+     */
+    private String fetch() {
+        String found = null;
+        if (this.held == null) {
+            while (found == null && !this.finished) {
+                final String raw = this.raw();
+                if (raw == null) {
+                    continue;
+                }
+                if (this.limit == 0 && raw.isEmpty() && this.matched) {
+                    ++this.pending;
+                } else if (this.pending > 0) {
+                    this.held = raw;
+                    found = this.fetch();
+                } else {
+                    found = raw;
+                }
+            }
+        } else if (this.pending > 0) {
+            --this.pending;
+            found = "";
+        } else {
+            found = this.held;
+            this.held = null;
+        }
+        return found;
+    }
+
+    /**
+     * Find the next token, empty ones included.
+     * @return The token or NULL if a leading zero-width delimiter
+     *  was skipped
+     */
+    private String raw() {
+        String raw = null;
+        if (this.limit > 0 && this.count == this.limit - 1
+            || !this.find()) {
+            this.finished = true;
+            ++this.count;
+            raw = this.text.substring(this.index);
+        } else if (this.index != 0 || this.start != 0 || this.end != 0) {
+            this.matched = true;
+            ++this.count;
+            raw = this.text.substring(this.index, this.start);
+            this.index = this.end;
+        }
+        return raw;
+    }
+
+    /**
+     * Find the next delimiter.
+     * @return Whether there is one
+     */
+    private boolean find() {
+        if (this.literal == null) {
+            this.literal = new PatternLiteral(this.pattern).value();
+            if (this.literal.isEmpty()) {
+                this.matcher = this.pattern.matcher(this.text);
+            }
+        }
+        final boolean found;
+        if (this.literal.isEmpty()) {
+            found = this.matcher.find();
+            if (found) {
+                this.start = this.matcher.start();
+                this.end = this.matcher.end();
+            }
+        } else {
+            this.start = this.text.indexOf(this.literal, this.index);
+            found = this.start >= 0;
+            this.end = this.start + this.literal.length();
+        }
+        return found;
+    }
+
+}
@@ -30,6 +30,9 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Extract a substring from a Text.
  *
+ * <p>A {@link Rope} is sliced without being flattened, so only the
+ * extracted characters are copied.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * @since 0.11
  */
@@ -100,11 +103,16 @@ public final class Sub extends TextEnvelope {
                 begin = 0;
             }
             int finish = end.value();
-            final String origin = text.asString();
+            final CharSequence origin;
+            if (text instanceof Rope) {
+                origin = (Rope) text;
+            } else {
+                origin = text.asString();
+            }
             if (origin.length() < finish) {
                 finish = origin.length();
             }
-            return origin.substring(begin, finish);
+            return origin.subSequence(begin, finish).toString();
         });
     }
 }
@@ -79,4 +79,12 @@ public final class CollectionOfTest {
         ).affirm();
     }
 
+    @Test
+    public void sizesSpliterator() {
+        new Assertion<>(
+            "Must have the size of the collection",
+            new CollectionOf<>(1, 2, 3).spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Completed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class CompletedTest {
+
+    @Test
+    public void returnsResultsInCompletionOrder() {
+        new Assertion<>(
+            "Must return the results as the tasks complete",
+            new ListOf<>(
+                new Completed<String>(
+                    3,
+                    () -> {
+                        TimeUnit.MILLISECONDS.sleep(400L);
+                        return "slow";
+                    },
+                    () -> "fast",
+                    () -> {
+                        TimeUnit.MILLISECONDS.sleep(200L);
+                        return "medium";
+                    }
+                )
+            ),
+            new IsEqual<>(Arrays.asList("fast", "medium", "slow"))
+        ).affirm();
+    }
+
+    @Test
+    public void boundsTasksInFlight() {
+        final AtomicInteger current = new AtomicInteger();
+        final AtomicInteger highest = new AtomicInteger();
+        new ListOf<>(
+            new Completed<>(
+                2,
+                new ListOf<Scalar<Integer>>(
+                    new Mapped<Integer, Scalar<Integer>>(
+                        num -> () -> {
+                            highest.accumulateAndGet(
+                                current.incrementAndGet(), Math::max
+                            );
+                            TimeUnit.MILLISECONDS.sleep(5L);
+                            current.decrementAndGet();
+                            return num;
+                        },
+                        new ListOf<>(1, 2, 3, 4, 5, 6, 7, 8)
+                    )
+                )
+            )
+        );
+        new Assertion<>(
+            "Must not run more tasks at once than the bound",
+            highest.get() <= 2,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void stopsAfterLimit() throws Exception {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return only the fastest results",
+            new ListOf<>(
+                new Completed<>(
+                    2,
+                    1,
+                    new ListOf<Scalar<String>>(
+                        () -> {
+                            try {
+                                TimeUnit.MINUTES.sleep(1L);
+                            } catch (final InterruptedException ex) {
+                                cancelled.countDown();
+                            }
+                            return "slow";
+                        },
+                        () -> "fast"
+                    )
+                )
+            ),
+            new IsEqual<>(Arrays.asList("fast"))
+        ).affirm();
+        new Assertion<>(
+            "Must cancel the remaining tasks",
+            cancelled.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void stopsAtDeadline() {
+        new Assertion<>(
+            "Must return the results completed before the deadline",
+            new ListOf<>(
+                new Completed<>(
+                    2,
+                    Duration.ofMinutes(1L),
+                    Duration.ofMillis(300L),
+                    new ListOf<Scalar<String>>(
+                        () -> {
+                            TimeUnit.MINUTES.sleep(1L);
+                            return "late";
+                        },
+                        () -> "early"
+                    )
+                )
+            ),
+            new IsEqual<>(Arrays.asList("early"))
+        ).affirm();
+    }
+
+    @Test
+    public void failsOnTaskTimeout() {
+        new Assertion<>(
+            "Must fail when a task times out",
+            () -> new ListOf<>(
+                new Completed<>(
+                    1,
+                    Duration.ofMillis(50L),
+                    Duration.ofMinutes(1L),
+                    new ListOf<Scalar<String>>(
+                        () -> {
+                            TimeUnit.MINUTES.sleep(1L);
+                            return "never";
+                        }
+                    )
+                )
+            ).size(),
+            new Throws<>(
+                // @checkstyle LineLength (1 line)
+                "java.util.concurrent.TimeoutException: The task timed out after 50 ms",
+                CompletionException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void failsDueToException() {
+        final Scalar<String> task = () -> {
+            throw new IllegalStateException("Something went wrong");
+        };
+        new Assertion<>(
+            "Must wrap the failure into CompletionException",
+            () -> new Completed<>(1, task).iterator().next(),
+            new Throws<>(
+                "java.lang.IllegalStateException: Something went wrong",
+                CompletionException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void cancelsTasksWhenClosed() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch cancelled = new CountDownLatch(2);
+        final Scalar<String> slow = () -> {
+            started.countDown();
+            try {
+                TimeUnit.MINUTES.sleep(1L);
+            } catch (final InterruptedException ex) {
+                cancelled.countDown();
+            }
+            return "slow";
+        };
+        final ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            final Iterator<String> results = new Completed<>(
+                pool, new ListOf<Scalar<String>>(slow, () -> "fast", slow)
+            ).iterator();
+            new Assertion<>(
+                "Must return the fastest result first",
+                results.next(),
+                new IsEqual<>("fast")
+            ).affirm();
+            started.await(1L, TimeUnit.MINUTES);
+            ((AutoCloseable) results).close();
+            new Assertion<>(
+                "Must cancel the running tasks on close",
+                cancelled.await(1L, TimeUnit.MINUTES),
+                new IsEqual<>(true)
+            ).affirm();
+            new Assertion<>(
+                "Must return nothing after close",
+                results.hasNext(),
+                new IsEqual<>(false)
+            ).affirm();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Scope}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ScopeTest {
+
+    @Test
+    public void returnsResultsInOrder() throws Exception {
+        new Assertion<>(
+            "Must return the results in the order of the tasks",
+            new Scope<Integer>(
+                2,
+                () -> {
+                    TimeUnit.MILLISECONDS.sleep(50L);
+                    return 1;
+                },
+                () -> 2,
+                () -> 3
+            ).value(),
+            new IsEqual<>(Arrays.asList(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    public void boundsTasksInFlight() throws Exception {
+        final AtomicInteger current = new AtomicInteger();
+        final AtomicInteger highest = new AtomicInteger();
+        new Scope<>(
+            3,
+            new ListOf<Scalar<Integer>>(
+                new Mapped<Integer, Scalar<Integer>>(
+                    num -> () -> {
+                        highest.accumulateAndGet(
+                            current.incrementAndGet(), Math::max
+                        );
+                        TimeUnit.MILLISECONDS.sleep(5L);
+                        current.decrementAndGet();
+                        return num;
+                    },
+                    new ListOf<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                )
+            )
+        ).value();
+        new Assertion<>(
+            "Must not run more tasks at once than the bound",
+            highest.get() <= 3,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void cancelsSiblingsOnFailure() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final CountDownLatch finished = new CountDownLatch(1);
+        new Assertion<>(
+            "Must throw the first failure",
+            () -> new Scope<String>(
+                2,
+                () -> {
+                    started.countDown();
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        interrupted.set(true);
+                    } finally {
+                        finished.countDown();
+                    }
+                    return "slow";
+                },
+                () -> {
+                    started.await();
+                    throw new IllegalStateException("Broken task");
+                }
+            ).value(),
+            new Throws<>("Broken task", IllegalStateException.class)
+        ).affirm();
+        finished.await(1L, TimeUnit.MINUTES);
+        new Assertion<>(
+            "Must cancel the running siblings",
+            interrupted.get(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void rejectsNonPositiveBound() {
+        new Assertion<>(
+            "Must reject a bound below one",
+            () -> new Scope<Integer>(0, () -> 1).value(),
+            new Throws<>(
+                "Bound 0 is not positive",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void runsOnDaemonThreads() throws Exception {
+        new Assertion<>(
+            "Must run the tasks on daemon threads",
+            new Scope<Boolean>(1, () -> Thread.currentThread().isDaemon())
+                .value(),
+            new IsEqual<>(Arrays.asList(true))
+        ).affirm();
+    }
+
+}
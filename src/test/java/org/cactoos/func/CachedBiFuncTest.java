@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.security.SecureRandom;
+import org.cactoos.BiFunc;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link CachedBiFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class CachedBiFuncTest {
+
+    @Test
+    public void cachesFuncResults() throws Exception {
+        final BiFunc<Boolean, Boolean, Integer> func = new CachedBiFunc<>(
+            (first, second) -> new SecureRandom().nextInt()
+        );
+        new Assertion<>(
+            "Must calculate the value only once",
+            func.apply(true, false) + func.apply(true, false),
+            new IsEqual<>(func.apply(true, false) + func.apply(true, false))
+        ).affirm();
+    }
+
+    @Test
+    public void distinguishesArguments() throws Exception {
+        final BiFunc<Integer, Integer, Integer> func = new CachedBiFunc<>(
+            (first, second) -> first - second
+        );
+        new Assertion<>(
+            "Must cache values of different arguments separately",
+            func.apply(2, 1),
+            new IsNot<>(new IsEqual<>(func.apply(1, 2)))
+        ).affirm();
+    }
+
+    @Test
+    public void worksInThreads() {
+        new Assertion<>(
+            "Must work well in multiple threads",
+            func -> func.apply(1, 2).equals(func.apply(1, 2)),
+            new RunsInThreads<>(
+                new CachedBiFunc<Integer, Integer, Integer>(
+                    (first, second) -> new SecureRandom().nextInt(),
+                    new LfuCache<>(2L)
+                )
+            )
+        ).affirm();
+    }
+}
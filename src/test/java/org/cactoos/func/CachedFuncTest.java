@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CachedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class CachedFuncTest {
+
+    @Test
+    public void cachesFuncResults() throws Exception {
+        final Func<Boolean, Integer> func = new CachedFunc<>(
+            input -> new SecureRandom().nextInt()
+        );
+        new Assertion<>(
+            "Must calculate the value only once",
+            func.apply(true) + func.apply(true),
+            new IsEqual<>(func.apply(true) + func.apply(true))
+        ).affirm();
+    }
+
+    @Test
+    public void calculatesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must work well in multiple threads",
+            func -> func.apply(1).equals(func.apply(1)),
+            new RunsInThreads<>(
+                new CachedFunc<Integer, Integer>(
+                    input -> {
+                        Thread.sleep(10L);
+                        return calls.incrementAndGet();
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value in one thread only",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new CachedFunc<>(
+            input -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("Failed once");
+                }
+                return input;
+            }
+        );
+        new Assertion<>(
+            "Must rethrow the original exception",
+            () -> func.apply(1),
+            new Throws<>("Failed once", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value again after the failure",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void evictsWhenFull() throws Exception {
+        final LruCache<Integer, Integer> cache = new LruCache<>(1L);
+        final Func<Integer, Integer> func = new CachedFunc<>(
+            input -> input, cache
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(2);
+        new Assertion<>(
+            "Must evict the first value",
+            cache.evictions(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+}
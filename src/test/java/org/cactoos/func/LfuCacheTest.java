@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link LfuCache}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class LfuCacheTest {
+
+    @Test
+    public void keepsPopularValuesDuringScan() throws Exception {
+        final LfuCache<Integer, Integer> cache = new LfuCache<>(
+            2L, Duration.ofNanos(Long.MAX_VALUE), value -> 1, 1
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            cache.value(1, key -> key);
+            cache.value(2, key -> key);
+        }
+        for (int idx = 100; idx < 200; ++idx) {
+            cache.value(idx, key -> key);
+        }
+        final long misses = cache.misses();
+        cache.value(1, key -> key);
+        cache.value(2, key -> key);
+        new Assertion<>(
+            "Must not evict popular values because of rare ones",
+            cache.misses(),
+            new IsEqual<>(misses)
+        ).affirm();
+    }
+
+    @Test
+    public void admitsNewPopularValue() throws Exception {
+        final LfuCache<Integer, Integer> cache = new LfuCache<>(
+            1L, Duration.ofNanos(Long.MAX_VALUE), value -> 1, 1
+        );
+        cache.value(1, key -> key);
+        for (int idx = 0; idx < 5; ++idx) {
+            cache.value(2, key -> key);
+        }
+        final long misses = cache.misses();
+        cache.value(2, key -> key);
+        new Assertion<>(
+            "Must admit the value which became popular",
+            cache.misses(),
+            new IsEqual<>(misses)
+        ).affirm();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link LruCache}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class LruCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final LruCache<String, Integer> cache = new LruCache<>(
+            2L, Duration.ofNanos(Long.MAX_VALUE), str -> 1, 1
+        );
+        cache.value("a", key -> calls.incrementAndGet());
+        cache.value("b", key -> calls.incrementAndGet());
+        cache.value("a", key -> calls.incrementAndGet());
+        cache.value("c", key -> calls.incrementAndGet());
+        cache.value("a", key -> calls.incrementAndGet());
+        new Assertion<>(
+            "Must keep the recently used value",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        final LruCache<Integer, Integer> cache = new LruCache<>(10L);
+        cache.value(1, key -> key);
+        cache.value(1, key -> key);
+        cache.value(2, key -> key);
+        new Assertion<>(
+            "Must count hits",
+            cache.hits(),
+            new IsEqual<>(1L)
+        ).affirm();
+        new Assertion<>(
+            "Must count misses",
+            cache.misses(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    public void boundsByWeight() throws Exception {
+        final LruCache<Integer, String> cache = new LruCache<>(
+            5L, Duration.ofNanos(Long.MAX_VALUE), String::length, 1
+        );
+        cache.value(1, key -> "abc");
+        cache.value(2, key -> "de");
+        cache.value(3, key -> "f");
+        new Assertion<>(
+            "Must evict values exceeding the total weight",
+            cache.evictions(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    public void rejectsTooHeavyValue() throws Exception {
+        final LruCache<Integer, String> cache = new LruCache<>(
+            2L, Duration.ofNanos(Long.MAX_VALUE), String::length, 1
+        );
+        new Assertion<>(
+            "Must return the value, which is too heavy to be cached",
+            cache.value(1, key -> "abc"),
+            new IsEqual<>("abc")
+        ).affirm();
+        cache.value(1, key -> "abc");
+        new Assertion<>(
+            "Must not cache the value, which is too heavy",
+            cache.misses(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    public void expiresOldValues() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final LruCache<Integer, Integer> cache = new LruCache<>(
+            10L, Duration.ofMillis(1L)
+        );
+        cache.value(1, key -> calls.incrementAndGet());
+        Thread.sleep(5L);
+        new Assertion<>(
+            "Must calculate the expired value again",
+            cache.value(1, key -> calls.incrementAndGet()),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    public void measuresAgeFromCalculation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final LruCache<Integer, Integer> cache = new LruCache<>(
+            10L, Duration.ofMillis(100L)
+        );
+        cache.value(
+            1,
+            key -> {
+                Thread.sleep(150L);
+                return calls.incrementAndGet();
+            }
+        );
+        new Assertion<>(
+            "Must not expire the value which was just calculated",
+            cache.value(1, key -> calls.incrementAndGet()),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void neverExpiresValueInFlight() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final LruCache<Integer, Integer> cache = new LruCache<>(
+            10L, Duration.ofMillis(1L)
+        );
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> first = pool.submit(
+                () -> cache.value(
+                    1,
+                    key -> {
+                        started.countDown();
+                        Thread.sleep(100L);
+                        return calls.incrementAndGet();
+                    }
+                )
+            );
+            started.await();
+            Thread.sleep(10L);
+            new Assertion<>(
+                "Must wait for the value in flight instead of calculating it",
+                cache.value(1, key -> calls.incrementAndGet()),
+                new IsEqual<>(1)
+            ).affirm();
+            new Assertion<>(
+                "Must return the value in flight",
+                first.get(),
+                new IsEqual<>(1)
+            ).affirm();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Base64Input}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class Base64InputTest {
+
+    @Test
+    public void decodesInput() throws Exception {
+        final byte[] bytes = new byte[100_001];
+        new Random(0L).nextBytes(bytes);
+        new Assertion<>(
+            "Can't decode an input",
+            new InputAsBytes(
+                new Base64Input(
+                    new InputOf(Base64.getEncoder().encode(bytes)),
+                    Base64.getDecoder(), 5
+                )
+            ).asBytes(),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test
+    public void decodesUrlSafe() throws Exception {
+        new Assertion<>(
+            "Can't decode the URL-safe alphabet",
+            new InputAsBytes(
+                new Base64Input(new InputOf("-_8="), true)
+            ).asBytes(),
+            new IsEqual<>(new byte[] {(byte) 0xFB, (byte) 0xFF})
+        ).affirm();
+    }
+
+    @Test
+    public void decodesWrappedLines() throws Exception {
+        new Assertion<>(
+            "Can't decode lines",
+            new TextOf(
+                new Base64Input(
+                    new InputOf("SGVsbG8s\r\nIHdvcmxk\r\nIQ=="),
+                    Base64.getMimeDecoder()
+                )
+            ).asString(),
+            new IsEqual<>("Hello, world!")
+        ).affirm();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsMalformedInput() throws Exception {
+        new InputAsBytes(new Base64Input(new InputOf("SGVs*G8="))).asBytes();
+    }
+}
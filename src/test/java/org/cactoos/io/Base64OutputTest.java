@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Base64Output}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class Base64OutputTest {
+
+    @Test
+    public void encodesBytes() throws Exception {
+        final byte[] bytes = new byte[100_001];
+        new Random(0L).nextBytes(bytes);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new Base64Output(new OutputTo(out)).stream()) {
+            stream.write(bytes);
+        }
+        new Assertion<>(
+            "Can't encode bytes",
+            out.toByteArray(),
+            new IsEqual<>(Base64.getEncoder().encode(bytes))
+        ).affirm();
+    }
+
+    @Test
+    public void encodesUrlSafe() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new Base64Output(new OutputTo(out), true).stream()) {
+            stream.write(new byte[] {(byte) 0xFB, (byte) 0xFF});
+        }
+        new Assertion<>(
+            "Can't encode with the URL-safe alphabet",
+            new String(out.toByteArray(), StandardCharsets.US_ASCII),
+            new IsEqual<>("-_8=")
+        ).affirm();
+    }
+
+    @Test
+    public void wrapsLines() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream stream =
+            new Base64Output(new OutputTo(out), 8).stream()) {
+            stream.write("Hello, world!".getBytes(StandardCharsets.UTF_8));
+        }
+        new Assertion<>(
+            "Can't wrap lines",
+            new String(out.toByteArray(), StandardCharsets.US_ASCII),
+            new IsEqual<>("SGVsbG8s\r\nIHdvcmxk\r\nIQ==")
+        ).affirm();
+    }
+}
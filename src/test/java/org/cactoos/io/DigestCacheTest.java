@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DigestCache}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class DigestCacheTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void hashesFile() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "Hello World!".getBytes());
+        new Assertion<>(
+            "Must compute the digest of a file",
+            new DigestCache().digest(file, "SHA-256"),
+            new IsEqual<>(new Sha256DigestOf(new InputOf(file)).asBytes())
+        ).affirm();
+    }
+
+    @Test
+    public void reusesDigestOfUnchangedFile() throws Exception {
+        final Path file = this.old("first");
+        final DigestCache cache = new DigestCache();
+        final byte[] digest = cache.digest(file, "MD5");
+        this.overwrite(file, "other");
+        new Assertion<>(
+            "Must not hash a file with the same size and time again",
+            cache.digest(file, "MD5"),
+            new IsEqual<>(digest)
+        ).affirm();
+    }
+
+    @Test
+    public void hashesChangedFile() throws Exception {
+        final Path file = this.old("first");
+        final DigestCache cache = new DigestCache();
+        final byte[] digest = cache.digest(file, "MD5");
+        this.overwrite(file, "longer");
+        new Assertion<>(
+            "Must hash a file again when its size changes",
+            cache.digest(file, "MD5"),
+            new IsNot<>(new IsEqual<>(digest))
+        ).affirm();
+    }
+
+    @Test
+    public void hashesRecentFileEveryTime() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "first".getBytes());
+        final DigestCache cache = new DigestCache();
+        final byte[] digest = cache.digest(file, "MD5");
+        this.overwrite(file, "other");
+        new Assertion<>(
+            "Must not cache a file modified just now",
+            cache.digest(file, "MD5"),
+            new IsNot<>(new IsEqual<>(digest))
+        ).affirm();
+    }
+
+    @Test
+    public void persistsEntries() throws Exception {
+        final Path file = this.old("first");
+        final Path store = this.folder.getRoot().toPath().resolve("cache");
+        final DigestCache cache = new DigestCache(store);
+        final byte[] digest = cache.digest(file, "SHA-1");
+        cache.save();
+        this.overwrite(file, "other");
+        new Assertion<>(
+            "Must load the entries from the file",
+            new DigestCache(store).digest(file, "SHA-1"),
+            new IsEqual<>(digest)
+        ).affirm();
+    }
+
+    /**
+     * Create a file modified an hour ago.
+     * @param content The content
+     * @return The file
+     * @throws Exception If fails
+     */
+    private Path old(final String content) throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, content.getBytes());
+        Files.setLastModifiedTime(
+            file,
+            FileTime.fromMillis(
+                System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L)
+            )
+        );
+        return file;
+    }
+
+    /**
+     * Overwrite a file, keeping its modification time.
+     * @param file The file
+     * @param content The new content
+     * @throws Exception If fails
+     */
+    private void overwrite(final Path file, final String content)
+        throws Exception {
+        final FileTime time = Files.getLastModifiedTime(file);
+        Files.write(file, content.getBytes());
+        Files.setLastModifiedTime(file, time);
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import org.cactoos.text.HexOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DigestsOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class DigestsOfTest {
+
+    @Test
+    public void computesSeveralDigests() throws Exception {
+        final DigestsOf digests = new DigestsOf(
+            new InputOf("Hello World!"), "MD5", "SHA-256"
+        );
+        new Assertion<>(
+            "Must calculate the MD5 checksum",
+            new HexOf(() -> digests.value().get("MD5")).asString(),
+            new IsEqual<>("ed076287532e86365e841e92bfc50d8c")
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the SHA-256 checksum",
+            new HexOf(() -> digests.value().get("SHA-256")).asString(),
+            new IsEqual<>(
+                // @checkstyle LineLengthCheck (1 line)
+                "7f83b1657ff1fc53b92dc18148a1d65dfc2d4b1fa3d677284addd200126d9069"
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void readsInputOnce() throws Exception {
+        final Sticky input = new Sticky(new InputOf("abc"));
+        new Assertion<>(
+            "Must compute the same digest as a single algorithm",
+            new DigestsOf(input, "SHA-1", "SHA-256").value().get("SHA-1"),
+            new IsEqual<>(new Sha1DigestOf(input).asBytes())
+        ).affirm();
+    }
+
+    @Test(expected = IOException.class)
+    public void failsOnUnknownAlgorithm() throws Exception {
+        new DigestsOf(new InputOf("x"), "NO-SUCH").value();
+    }
+
+}
@@ -25,8 +25,10 @@ package org.cactoos.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -73,4 +75,125 @@ public final class DirectoryTest {
             Matchers.iterableWithSize(4)
         );
     }
+
+    @Test
+    public void walksDepthFirst() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c"), "".getBytes());
+        MatcherAssert.assertThat(
+            "Can't walk the tree depth first",
+            new Directory(dir),
+            Matchers.contains(
+                dir, dir.resolve("a"), dir.resolve("a/b"),
+                dir.resolve("a/b/c")
+            )
+        );
+    }
+
+    @Test
+    public void stopsAtMaxDepth() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c"), "".getBytes());
+        MatcherAssert.assertThat(
+            "Can't stop at the max depth",
+            new Directory(dir, 1),
+            Matchers.contains(dir, dir.resolve("a"))
+        );
+    }
+
+    @Test
+    public void filtersByGlob() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/x.txt"), "".getBytes());
+        Files.write(dir.resolve("a/y.txt"), "".getBytes());
+        Files.write(dir.resolve("a/z.bin"), "".getBytes());
+        MatcherAssert.assertThat(
+            "Can't filter paths by glob",
+            new Directory(dir, "**.txt"),
+            Matchers.containsInAnyOrder(
+                dir.resolve("a/b/x.txt"), dir.resolve("a/y.txt")
+            )
+        );
+    }
+
+    @Test
+    public void skipsSubtrees() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("skip/deep").toFile().mkdirs();
+        dir.resolve("keep").toFile().mkdirs();
+        Files.write(dir.resolve("keep/file"), "".getBytes());
+        MatcherAssert.assertThat(
+            "Can't skip a subtree",
+            new Directory(
+                dir, Integer.MAX_VALUE,
+                path -> !path.endsWith("skip"),
+                path -> true
+            ),
+            Matchers.containsInAnyOrder(
+                dir, dir.resolve("skip"), dir.resolve("keep"),
+                dir.resolve("keep/file")
+            )
+        );
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void failsOnAbsentDirectory() throws IOException {
+        new Directory(
+            this.folder.newFolder().toPath().resolve("absent")
+        ).iterator().hasNext();
+    }
+
+    @Test
+    public void stopsWhenClosed() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c"), "".getBytes());
+        final Iterator<Path> paths = new Directory(dir).iterator();
+        paths.next();
+        paths.next();
+        ((AutoCloseable) paths).close();
+        MatcherAssert.assertThat(
+            "Can't stop the walk when closed",
+            paths.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void stopsAfterFailure() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        final Iterator<Path> paths = new Directory(
+            dir, Integer.MAX_VALUE,
+            path -> true,
+            path -> {
+                if (path.endsWith("b")) {
+                    throw new IOException("Broken filter");
+                }
+                return true;
+            }
+        ).iterator();
+        paths.next();
+        paths.next();
+        String failure = "";
+        try {
+            paths.hasNext();
+        } catch (final UncheckedIOException ex) {
+            failure = ex.getCause().getMessage();
+        }
+        MatcherAssert.assertThat(
+            "Can't report the failure of the walk",
+            failure,
+            Matchers.is("Broken filter")
+        );
+        MatcherAssert.assertThat(
+            "Can't stop the walk after a failure",
+            paths.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
 }
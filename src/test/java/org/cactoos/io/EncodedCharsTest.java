@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.text.Repeated;
+import org.cactoos.text.Rope;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link EncodedChars}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class EncodedCharsTest {
+
+    @Test
+    public void encodesReader() throws Exception {
+        final String source = new Repeated("данные 😀 ", 5000)
+            .asString();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new EncodedChars(
+            new StringReader(source), new OutputTo(stream),
+            StandardCharsets.UTF_8, 7
+        ).value();
+        new Assertion<>(
+            "Can't encode a reader",
+            stream.toByteArray(),
+            new IsEqual<>(source.getBytes(StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
+    @Test
+    public void countsBytes() throws Exception {
+        new Assertion<>(
+            "Can't count written bytes",
+            new EncodedChars(
+                "привет", new OutputTo(new DeadOutputStream())
+            ).value(),
+            new IsEqual<>(12L)
+        ).affirm();
+    }
+
+    @Test
+    public void encodesTextWithCharset() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new EncodedChars(
+            new TextOf("Hello"), new OutputTo(stream),
+            StandardCharsets.UTF_16BE
+        ).value();
+        new Assertion<>(
+            "Can't encode a text with a charset",
+            stream.toByteArray(),
+            new IsEqual<>("Hello".getBytes(StandardCharsets.UTF_16BE))
+        ).affirm();
+    }
+
+    @Test
+    public void replacesMalformedCharacters() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new EncodedChars("a\uD800b", new OutputTo(stream)).value();
+        new Assertion<>(
+            "Can't replace a lone surrogate",
+            stream.toByteArray(),
+            new IsEqual<>("a\uD800b".getBytes(StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
+    @Test
+    public void encodesRope() throws Exception {
+        Rope rope = new Rope();
+        final StringBuilder expected = new StringBuilder();
+        for (int idx = 0; idx < 20_000; ++idx) {
+            final String piece = String.format("ключ %d 😀 ", idx);
+            rope = rope.concat(piece);
+            expected.append(piece);
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new EncodedChars(rope, new OutputTo(stream)).value();
+        new Assertion<>(
+            "Can't encode a rope",
+            stream.toByteArray(),
+            new IsEqual<>(
+                expected.toString().getBytes(StandardCharsets.UTF_8)
+            )
+        ).affirm();
+    }
+
+}
@@ -97,4 +97,23 @@ public final class HeadInputStreamTest {
             new IsEqual<>(5)
         );
     }
+
+    @Test
+    public void readsInBulk() throws Exception {
+        final HeadInputStream stream = new HeadInputStream(
+            new InputOf("readsInBulk").stream(),
+            5
+        );
+        final byte[] buf = new byte[16];
+        new Assertion<>(
+            "Must read no more than the head at once",
+            stream.read(buf, 0, buf.length),
+            new IsEqual<>(5)
+        ).affirm();
+        new Assertion<>(
+            "Must end after the head",
+            stream.read(buf, 0, buf.length),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.HexOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link HexInput}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class HexInputTest {
+
+    @Test
+    public void decodesDigits() throws Exception {
+        new Assertion<>(
+            "Can't decode hexadecimal digits",
+            new InputAsBytes(
+                new HexInput(new InputOf("48656C6c6f21"), 2)
+            ).asBytes(),
+            new IsEqual<>("Hello!".getBytes(StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
+    @Test
+    public void decodesLargeInput() throws Exception {
+        final byte[] bytes = new byte[100_000];
+        new Random(0L).nextBytes(bytes);
+        new Assertion<>(
+            "Can't decode a large input",
+            new InputAsBytes(
+                new HexInput(
+                    new InputOf(new HexOf(new BytesOf(bytes))), 7
+                )
+            ).asBytes(),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOddLength() throws Exception {
+        new LengthOf(new HexInput(new InputOf("abc"))).value();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsNonDigits() throws Exception {
+        new LengthOf(new HexInput(new InputOf("a0zz"))).value();
+    }
+
+    @Test
+    public void decodesSingleBytes() throws Exception {
+        try (InputStream stream =
+            new HexInput(new InputOf("CAfe")).stream()) {
+            new Assertion<>(
+                "Can't decode single bytes",
+                Arrays.asList(stream.read(), stream.read(), stream.read()),
+                new IsEqual<>(Arrays.asList(0xCA, 0xFE, -1))
+            ).affirm();
+        }
+    }
+}
@@ -23,13 +23,16 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import org.cactoos.iterable.Endless;
 import org.cactoos.iterable.HeadOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 
 /**
@@ -119,4 +122,40 @@ public final class InputAsBytesTest {
         );
     }
 
+    @Test
+    public void readsMoreThanAvailable() throws Exception {
+        final byte[] content = "The content is longer than a chunk"
+            .getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "Can't read the content beyond the available bytes",
+            new InputAsBytes(
+                new InputOf(
+                    Channels.newInputStream(
+                        Channels.newChannel(new ByteArrayInputStream(content))
+                    )
+                ),
+                // @checkstyle MagicNumber (1 line)
+                4
+            ).asBytes(),
+            new IsEqual<>(content)
+        );
+    }
+
+    @Test
+    public void readsLessThanAvailable() throws Exception {
+        final byte[] content = "short".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "Can't read the content shorter than the available bytes",
+            new InputAsBytes(
+                () -> new ByteArrayInputStream(content) {
+                    @Override
+                    public synchronized int available() {
+                        // @checkstyle MagicNumber (1 line)
+                        return 100;
+                    }
+                }
+            ).asBytes(),
+            new IsEqual<>(content)
+        );
+    }
 }
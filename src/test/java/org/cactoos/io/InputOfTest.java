@@ -39,6 +39,7 @@ import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import org.cactoos.text.Repeated;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -367,4 +368,34 @@ public final class InputOfTest {
         );
     }
 
+    @Test
+    public void readsReaderInSmallChunks() throws Exception {
+        final String source = new Repeated("привет, \uD83D\uDE00! ", 1000)
+            .asString();
+        MatcherAssert.assertThat(
+            "Can't read a reader in small chunks",
+            new TextOf(
+                new InputAsBytes(
+                    new InputOf(
+                        new StringReader(source), StandardCharsets.UTF_8, 1
+                    )
+                )
+            ).asString(),
+            Matchers.equalTo(source)
+        );
+    }
+
+    @Test
+    public void readsReaderLazily() throws Exception {
+        final StringReader reader = new StringReader(
+            new Repeated("a", 1000).asString()
+        );
+        new InputOf(reader, StandardCharsets.UTF_8, 16).stream().read();
+        MatcherAssert.assertThat(
+            "Can't read only the head of a reader",
+            reader.skip(1000L),
+            // @checkstyle MagicNumber (1 line)
+            Matchers.equalTo(984L)
+        );
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Text;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link LinesOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class LinesOfTest {
+
+    @Test
+    public void splitsLines() throws Exception {
+        new Assertion<>(
+            "Must split the input into lines",
+            this.strings(new LinesOf(new InputOf("one\r\ntwo\n\nthree"))),
+            new IsEqual<>(new ListOf<>("one", "two", "", "three"))
+        ).affirm();
+    }
+
+    @Test
+    public void ignoresLastLineFeed() throws Exception {
+        new Assertion<>(
+            "Must not yield an empty line after the last line feed",
+            this.strings(new LinesOf(new InputOf("one\ntwo\n"))),
+            new IsEqual<>(new ListOf<>("one", "two"))
+        ).affirm();
+    }
+
+    @Test
+    public void splitsLongMultiByteLines() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        final ListOf<String> lines = new ListOf<>(
+            new Mapped<>(
+                idx -> new String(new char[idx]).replace('\0', '\u0436'),
+                new ListOf<>(1, 7_000, 20_000, 3)
+            )
+        );
+        for (final String line : lines) {
+            text.append(line).append('\n');
+        }
+        new Assertion<>(
+            "Must decode lines spanning several buffers",
+            this.strings(new LinesOf(new InputOf(text.toString()))),
+            new IsEqual<>(lines)
+        ).affirm();
+    }
+
+    @Test
+    public void splitsUtfSixteenLines() throws Exception {
+        new Assertion<>(
+            "Must match line feeds at code unit boundaries only",
+            this.strings(
+                new LinesOf(
+                    new InputOf(
+                        "a\u0a41\u0100b\r\n\u0d0ac"
+                            .getBytes(StandardCharsets.UTF_16LE)
+                    ),
+                    StandardCharsets.UTF_16LE
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a\u0a41\u0100b", "\u0d0ac"))
+        ).affirm();
+    }
+
+    /**
+     * Lines as strings.
+     * @param lines The lines
+     * @return The strings
+     */
+    private ListOf<String> strings(final Iterable<Text> lines) {
+        return new ListOf<>(new Mapped<>(Text::asString, lines));
+    }
+
+}
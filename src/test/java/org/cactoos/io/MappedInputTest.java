@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MappedInput}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class MappedInputTest {
+
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsFileContent() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        final String content = "Hello, товарищ!";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read the content of the file",
+            new TextOf(new MappedInput(file)).asString(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    public void readsAcrossWindows() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        final String content = "The quick brown fox jumps over the lazy dog";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read the content across the windows",
+            new TextOf(new MappedInput(file, 4)).asString(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    public void skipsAcrossWindows() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        try (final InputStream stream = new MappedInput(file, 3).stream()) {
+            stream.skip(7L);
+            new Assertion<>(
+                "Must skip bytes across the windows",
+                stream.read(),
+                new IsEqual<>((int) '7')
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void readsEmptyFile() throws Exception {
+        try (final InputStream stream =
+            new MappedInput(this.folder.newFile()).stream()) {
+            new Assertion<>(
+                "Must read nothing from an empty file",
+                stream.read(),
+                new IsEqual<>(-1)
+            ).affirm();
+        }
+    }
+
+}
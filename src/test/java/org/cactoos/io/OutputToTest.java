@@ -23,12 +23,15 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -184,4 +187,18 @@ public final class OutputToTest {
             new InputHasContent(txt)
         );
     }
+
+    @Test
+    public void writesIntoChannel() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final String txt = "Hello, channel!";
+        new LengthOf(
+            new TeeInput(txt, new OutputTo(Channels.newChannel(baos)))
+        ).intValue();
+        MatcherAssert.assertThat(
+            "Can't write into the channel",
+            new String(baos.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>(txt)
+        );
+    }
 }
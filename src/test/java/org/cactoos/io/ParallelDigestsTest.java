@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ParallelDigests}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ParallelDigestsTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void hashesManyFiles() throws Exception {
+        final List<Path> files = new ArrayList<>(0);
+        for (int idx = 0; idx < 20; ++idx) {
+            final Path file = this.folder.newFile().toPath();
+            Files.write(file, String.valueOf(idx).getBytes());
+            files.add(file);
+        }
+        final Map<Path, byte[]> digests =
+            new ParallelDigests(4, files, "SHA-256", new DigestCache())
+                .value();
+        new Assertion<>(
+            "Must keep the files in order",
+            new ListOf<>(digests.keySet()),
+            new IsEqual<>(files)
+        ).affirm();
+        for (final Path file : files) {
+            new Assertion<>(
+                "Must compute the digest of every file",
+                digests.get(file),
+                new IsEqual<>(
+                    new Sha256DigestOf(new InputOf(file)).asBytes()
+                )
+            ).affirm();
+        }
+    }
+
+    @Test(expected = NoSuchFileException.class)
+    public void failsOnAbsentFile() throws Exception {
+        new ParallelDigests(
+            new ListOf<>(
+                this.folder.newFile().toPath(),
+                this.folder.getRoot().toPath().resolve("absent")
+            ),
+            "MD5"
+        ).value();
+    }
+
+}
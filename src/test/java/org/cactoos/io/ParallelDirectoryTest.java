@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link ParallelDirectory}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ParallelDirectoryTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void walksWholeTree() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 10; ++idx) {
+            final Path sub = dir.resolve("d" + idx).resolve("e");
+            sub.toFile().mkdirs();
+            Files.write(sub.resolve("f"), "".getBytes());
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "Can't walk the whole tree in parallel",
+                new ListOf<>(new ParallelDirectory(pool, dir, 2)),
+                Matchers.hasSize(31)
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void matchesSequentialWalk() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b/c").toFile().mkdirs();
+        dir.resolve("x/y").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/c/file.txt"), "".getBytes());
+        Files.write(dir.resolve("x/file.bin"), "".getBytes());
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "Can't find the same paths as a sequential walk",
+                new ParallelDirectory(pool, dir, 1),
+                Matchers.containsInAnyOrder(
+                    new ListOf<>(new Directory(dir)).toArray()
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filtersAndStopsAtDepth() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        dir.resolve("skip").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/deep.txt"), "".getBytes());
+        Files.write(dir.resolve("a/top.txt"), "".getBytes());
+        Files.write(dir.resolve("skip/hidden.txt"), "".getBytes());
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "Can't filter and limit the parallel walk",
+                new ParallelDirectory(
+                    pool, dir, 8, 2,
+                    path -> !path.endsWith("skip"),
+                    path -> path.toString().endsWith(".txt")
+                ),
+                Matchers.contains(dir.resolve("a/top.txt"))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filtersByGlob() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a").toFile().mkdirs();
+        Files.write(dir.resolve("a/x.txt"), "".getBytes());
+        Files.write(dir.resolve("a/y.bin"), "".getBytes());
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "Can't filter the parallel walk by glob",
+                new ParallelDirectory(pool, dir, 4, "**.txt"),
+                Matchers.contains(dir.resolve("a/x.txt"))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void failsOnAbsentDirectory() throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            new ParallelDirectory(
+                pool, this.folder.newFolder().toPath().resolve("absent")
+            ).iterator().hasNext();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void releasesWalkersWhenClosed() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 100; ++idx) {
+            Files.write(
+                dir.resolve(String.format("f%d.txt", idx)), "".getBytes()
+            );
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final Iterator<Path> paths = new ParallelDirectory(
+                pool, dir, 1
+            ).iterator();
+            paths.next();
+            ((AutoCloseable) paths).close();
+        } finally {
+            pool.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Can't release the walkers of a closed iterator",
+            pool.awaitTermination(5L, TimeUnit.SECONDS),
+            Matchers.is(true)
+        );
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ParallelGzipOutput}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ParallelGzipOutputTest {
+
+    @Test
+    public void compressesManyBlocks() throws Exception {
+        final byte[] content = new byte[100_000];
+        final Random random = new Random(0L);
+        for (int idx = 0; idx < content.length; ++idx) {
+            content[idx] = (byte) ('a' + random.nextInt(4));
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            this.write(
+                new ParallelGzipOutput(
+                    new OutputTo(baos), pool, 4096, Deflater.BEST_COMPRESSION
+                ),
+                content
+            );
+            new Assertion<>(
+                "Must compress the data in blocks readable as gzip",
+                this.decompressed(baos),
+                new IsEqual<>(content)
+            ).affirm();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void compressesSmallData() throws Exception {
+        final byte[] content = "Hello, parallel gzip!".getBytes();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        this.write(new ParallelGzipOutput(new OutputTo(baos)), content);
+        new Assertion<>(
+            "Must compress data shorter than a block",
+            this.decompressed(baos),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    public void compressesNothing() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        this.write(new ParallelGzipOutput(new OutputTo(baos)), new byte[0]);
+        new Assertion<>(
+            "Must compress empty data",
+            this.decompressed(baos).length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    public void compressesFlushedData() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final OutputStream output = new ParallelGzipOutput(
+            new OutputTo(baos)
+        ).stream()) {
+            output.write("first ".getBytes());
+            output.flush();
+            output.write("second".getBytes());
+        }
+        new Assertion<>(
+            "Must compress the data written around a flush",
+            new String(this.decompressed(baos)),
+            new IsEqual<>("first second")
+        ).affirm();
+    }
+
+    @Test
+    public void closesOnlyOnce() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final OutputStream output = new ParallelGzipOutput(
+            new OutputTo(baos)
+        ).stream();
+        output.write("once".getBytes());
+        output.close();
+        final int size = baos.size();
+        output.close();
+        new Assertion<>(
+            "Must not write the trailer again on the second close",
+            baos.size(),
+            new IsEqual<>(size)
+        ).affirm();
+    }
+
+    /**
+     * Write the data into the output.
+     * @param output The output
+     * @param content The data
+     * @throws Exception If fails
+     */
+    private void write(final ParallelGzipOutput output,
+        final byte[] content) throws Exception {
+        try (final OutputStream stream = output.stream()) {
+            stream.write(content);
+        }
+    }
+
+    /**
+     * Decompress the data.
+     * @param baos The compressed data
+     * @return The data decompressed
+     * @throws Exception If fails
+     */
+    private byte[] decompressed(final ByteArrayOutputStream baos)
+        throws Exception {
+        return new BytesOf(
+            new GzipInput(new InputOf(baos.toByteArray()))
+        ).asBytes();
+    }
+
+}
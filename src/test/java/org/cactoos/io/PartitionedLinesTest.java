@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cactoos.Text;
+import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link PartitionedLines}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class PartitionedLinesTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void yieldsEveryLineOnce() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        final List<String> lines = new ArrayList<>(0);
+        for (int idx = 0; idx < 1000; ++idx) {
+            lines.add(String.valueOf(idx));
+            text.append(idx).append('\n');
+        }
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, text.toString().getBytes());
+        final List<String> found = new ArrayList<>(lines.size());
+        int parts = 0;
+        for (final Iterable<Text> part : new PartitionedLines(file, 7)) {
+            for (final Text line : part) {
+                found.add(line.asString());
+            }
+            ++parts;
+        }
+        new Assertion<>(
+            "Must split the file into the given number of parts",
+            parts,
+            new IsEqual<>(7)
+        ).affirm();
+        new Assertion<>(
+            "Must yield every line of the file once",
+            found,
+            new IsEqual<>(lines)
+        ).affirm();
+    }
+
+    @Test
+    public void yieldsEveryWideLineOnce() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "a\nb\nc\n".getBytes(StandardCharsets.UTF_16LE));
+        for (final int count : new int[] {1, 4, 5, 7, 12}) {
+            final List<String> found = new ArrayList<>(3);
+            final Iterable<Iterable<Text>> parts = new PartitionedLines(
+                file, count, StandardCharsets.UTF_16LE
+            );
+            for (final Iterable<Text> part : parts) {
+                for (final Text line : part) {
+                    found.add(line.asString());
+                }
+            }
+            new Assertion<>(
+                "Must yield every line once, whatever the part boundaries",
+                found,
+                new IsEqual<>(Arrays.asList("a", "b", "c"))
+            ).affirm();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RecordViews}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class RecordViewsTest {
+
+    @Test
+    public void splitsByDelimiter() throws Exception {
+        new Assertion<>(
+            "Must split the input by the delimiter",
+            this.strings(
+                new RecordViews(
+                    new InputOf("a||b|c||||d"), StandardCharsets.UTF_8,
+                    "||".getBytes()
+                ).iterator()
+            ),
+            new IsEqual<>(new ListOf<>("a", "b|c", "", "d"))
+        ).affirm();
+    }
+
+    @Test
+    public void reusesView() throws Exception {
+        final Iterator<CharSequence> views =
+            new RecordViews(new InputOf("first\nsecond")).iterator();
+        final CharSequence first = views.next();
+        new Assertion<>(
+            "Must reuse the same view for every record",
+            views.next(),
+            new IsEqual<>(first)
+        ).affirm();
+    }
+
+    @Test
+    public void splitsIntoRanges() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        final List<String> lines = new ArrayList<>(0);
+        for (int idx = 0; idx < 200; ++idx) {
+            final String line = new String(new char[idx % 13])
+                .replace('\0', '\u044f');
+            lines.add(line);
+            text.append(line).append("\r\n");
+        }
+        final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        for (final int part : new int[] {1, 2, 7, 100, bytes.length}) {
+            final List<String> found = new ArrayList<>(lines.size());
+            for (long start = 0L; start < bytes.length; start += part) {
+                found.addAll(
+                    this.strings(
+                        new RecordViews(
+                            new InputOf(bytes), start, start + part
+                        ).iterator()
+                    )
+                );
+            }
+            new Assertion<>(
+                "Must yield every line once over adjacent ranges",
+                found,
+                new IsEqual<>(lines)
+            ).affirm();
+        }
+    }
+
+    /**
+     * Copy the views into strings.
+     * @param views The views
+     * @return The strings
+     */
+    private List<String> strings(final Iterator<CharSequence> views) {
+        final List<String> strings = new ArrayList<>(0);
+        while (views.hasNext()) {
+            strings.add(views.next().toString());
+        }
+        return strings;
+    }
+
+}
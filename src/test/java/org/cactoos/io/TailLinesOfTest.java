@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TailLinesOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class TailLinesOfTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void tailsLinesOfStream() throws Exception {
+        new Assertion<>(
+            "Must keep the last lines of a stream",
+            new TextOf(
+                new TailLinesOf(new InputOf("one\ntwo\nthree\nfour\n"), 2, 3)
+            ).asString(),
+            new IsEqual<>("three\nfour\n")
+        ).affirm();
+    }
+
+    @Test
+    public void tailsLastLineWithoutFeed() throws Exception {
+        new Assertion<>(
+            "Must count the last line without a line feed",
+            new TextOf(
+                new TailLinesOf(new InputOf("one\ntwo\nthree"), 2)
+            ).asString(),
+            new IsEqual<>("two\nthree")
+        ).affirm();
+    }
+
+    @Test
+    public void tailsLinesOfFile() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            text.append("line ").append(idx).append('\n');
+        }
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, text.toString().getBytes());
+        new Assertion<>(
+            "Must scan a file backwards for the last lines",
+            new TextOf(new TailLinesOf(new InputOf(file), 3, 7)).asString(),
+            new IsEqual<>("line 9997\nline 9998\nline 9999\n")
+        ).affirm();
+    }
+
+    @Test
+    public void tailsShortFile() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "one\ntwo".getBytes());
+        new Assertion<>(
+            "Must return the whole file if it has fewer lines",
+            new TextOf(new TailLinesOf(new InputOf(file), 5)).asString(),
+            new IsEqual<>("one\ntwo")
+        ).affirm();
+    }
+
+    @Test
+    public void tailsNoLines() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "one\ntwo\n".getBytes());
+        new Assertion<>(
+            "Must return nothing for no lines",
+            new TextOf(new TailLinesOf(new InputOf(file), 0)).asString(),
+            new IsEqual<>("")
+        ).affirm();
+    }
+
+    @Test
+    public void tailsLinesOfFileOfUnknownSize() throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "one\ntwo\nthree\n".getBytes());
+        try (FileChannel empty = FileChannel.open(
+            this.folder.newFile().toPath()
+        )) {
+            new Assertion<>(
+                "Must read a file which reports a zero size to the end",
+                new TextOf(
+                    new TailLinesOf(
+                        () -> new FileInputStream(file.toFile()) {
+                            @Override
+                            public FileChannel getChannel() {
+                                return empty;
+                            }
+                        },
+                        2
+                    )
+                ).asString(),
+                new IsEqual<>("two\nthree\n")
+            ).affirm();
+        }
+    }
+
+}
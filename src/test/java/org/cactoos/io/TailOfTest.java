@@ -23,19 +23,32 @@
  */
 package org.cactoos.io;
 
+import java.io.FileInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests for {@link TailOf}.
  * @since 0.30
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class TailOfTest {
 
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void tailsOnLongStream() throws Exception {
         final int size = 4;
@@ -127,6 +140,56 @@ public final class TailOfTest {
         ).asBytes();
     }
 
+    @Test
+    public void tailsFile() throws Exception {
+        final int size = 100_000;
+        final byte[] bytes = this.generate(size);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        MatcherAssert.assertThat(
+            new BytesOf(new TailOf(new InputOf(file), 10)).asBytes(),
+            Matchers.equalTo(Arrays.copyOfRange(bytes, size - 10, size))
+        );
+    }
+
+    @Test
+    public void tailsFileShorterThanTail() throws Exception {
+        final byte[] bytes = this.generate(3);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        MatcherAssert.assertThat(
+            new BytesOf(new TailOf(new InputOf(file), 10)).asBytes(),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    public void tailsFileOfUnknownSize() throws Exception {
+        final int size = 100_000;
+        final byte[] bytes = this.generate(size);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        try (FileChannel empty = FileChannel.open(
+            this.folder.newFile().toPath()
+        )) {
+            MatcherAssert.assertThat(
+                "Can't tail a file which reports a zero size",
+                new BytesOf(
+                    new TailOf(
+                        () -> new FileInputStream(file.toFile()) {
+                            @Override
+                            public FileChannel getChannel() {
+                                return empty;
+                            }
+                        },
+                        10
+                    )
+                ).asBytes(),
+                Matchers.equalTo(Arrays.copyOfRange(bytes, size - 10, size))
+            );
+        }
+    }
+
     /**
      * Generate random byte array.
      * @param size Size of array
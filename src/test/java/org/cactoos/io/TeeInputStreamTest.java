@@ -25,24 +25,39 @@ package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test case for {@link TeeInputStream}.
  * @since 0.1
  * @checkstyle JavadocMethodCheck (500 lines)
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class TeeInputStreamTest {
 
+    /**
+     * Temporary files generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void copiesContentByteByByte() throws Exception {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -102,4 +117,85 @@ public final class TeeInputStreamTest {
             return this.closed.get();
         }
     }
+
+    @Test
+    public void transfersFileToFile() throws Exception {
+        final File input = this.folder.newFile();
+        final byte[] content = "Hello, files!".getBytes(StandardCharsets.UTF_8);
+        Files.write(input.toPath(), content);
+        final File output = this.folder.newFile();
+        try (
+            final FileOutputStream target = new FileOutputStream(output);
+            final TeeInputStream tee = new TeeInputStream(
+                new FileInputStream(input), target
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "Can't transfer all bytes of the file",
+                tee.transfer(4),
+                new IsEqual<>((long) content.length)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't transfer a file into a file",
+            Files.readAllBytes(output.toPath()),
+            new IsEqual<>(content)
+        );
+    }
+
+    @Test
+    public void transfersFileToChannel() throws Exception {
+        final File input = this.folder.newFile();
+        final String content = "Hello, channel!";
+        Files.write(input.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final TeeInputStream tee = new TeeInputStream(
+            new FileInputStream(input),
+            new ChannelOutputStream(Channels.newChannel(baos))
+        )) {
+            tee.transfer(4);
+        }
+        MatcherAssert.assertThat(
+            "Can't transfer a file into a channel",
+            new String(baos.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>(content)
+        );
+    }
+
+    @Test
+    public void transfersRestOfFile() throws Exception {
+        final File input = this.folder.newFile();
+        Files.write(input.toPath(), "0123456789".getBytes());
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final long rest;
+        try (final InputStream stream = new FileInputStream(input)) {
+            final TeeInputStream tee = new TeeInputStream(
+                stream, new ChannelOutputStream(Channels.newChannel(baos))
+            );
+            tee.read(new byte[3]);
+            rest = tee.transfer(4);
+        }
+        MatcherAssert.assertThat(
+            "Can't transfer the rest of the file",
+            rest,
+            new IsEqual<>(7L)
+        );
+        MatcherAssert.assertThat(
+            "Can't keep the bytes read before the transfer",
+            new String(baos.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("0123456789")
+        );
+    }
+
+    @Test
+    public void transfersStreamThroughBuffer() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            "Can't transfer a stream through a buffer",
+            new TeeInputStream(
+                new ByteArrayInputStream("abcdef".getBytes()), baos
+            ).transfer(4),
+            new IsEqual<>(6L)
+        );
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Unzipped}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class UnzippedTest {
+
+    /**
+     * Temporary folder.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void extractsZippedDirectory() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(
+            dir.resolve("a/b/file.txt"),
+            "Zipped and unzipped".getBytes(StandardCharsets.UTF_8)
+        );
+        final Path target = this.folder.newFolder().toPath();
+        new ListOf<>(
+            new Unzipped(new Zip(new Directory(dir)), target)
+        ).size();
+        new Assertion<>(
+            "Must extract the content of the file",
+            new TextOf(
+                target.resolve(
+                    dir.resolve("a/b/file.txt").toString().substring(1)
+                )
+            ).asString(),
+            new IsEqual<>("Zipped and unzipped")
+        ).affirm();
+    }
+
+    @Test
+    public void extractsEntryByEntry() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("first.txt"));
+            zip.write("1".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("second.txt"));
+            zip.write("2".getBytes(StandardCharsets.UTF_8));
+        }
+        final Path target = this.folder.newFolder().toPath();
+        new Assertion<>(
+            "Must return the extracted paths",
+            new ListOf<>(
+                new Unzipped(new InputOf(bytes.toByteArray()), target)
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    target.resolve("first.txt"), target.resolve("second.txt")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    public void rejectsEntryOutsideOfDirectory() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("../evil.txt"));
+            zip.write("evil".getBytes(StandardCharsets.UTF_8));
+        }
+        final Path target = this.folder.newFolder().toPath();
+        new Assertion<>(
+            "Must reject an entry outside of the directory",
+            () -> new ListOf<>(
+                new Unzipped(new InputOf(bytes.toByteArray()), target)
+            ).size(),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+    }
+
+}
@@ -24,15 +24,21 @@
 
 package org.cactoos.io;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Zip}.
@@ -71,4 +77,63 @@ public final class ZipTest {
             );
         }
     }
+
+    @Test
+    public void storesEntries() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(
+            dir.resolve("stored.txt"),
+            "Stored, not deflated".getBytes(StandardCharsets.UTF_8)
+        );
+        try (final ZipInputStream input = new ZipInputStream(
+            new Zip(new Directory(dir), ZipEntry.STORED, 0).stream()
+        )) {
+            input.getNextEntry();
+            final ZipEntry entry = input.getNextEntry();
+            new Assertion<>(
+                "Must store the entry uncompressed",
+                entry.getMethod(),
+                new IsEqual<>(ZipEntry.STORED)
+            ).affirm();
+            new Assertion<>(
+                "Must store the content of the file",
+                new TextOf(input).asString(),
+                new IsEqual<>("Stored, not deflated")
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void deflatesWithLevel() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(
+            dir.resolve("deflated.txt"),
+            "Deflated at the best level".getBytes(StandardCharsets.UTF_8)
+        );
+        try (final ZipInputStream input = new ZipInputStream(
+            // @checkstyle MagicNumber (1 line)
+            new Zip(new Directory(dir), 9).stream()
+        )) {
+            input.getNextEntry();
+            input.getNextEntry();
+            new Assertion<>(
+                "Must deflate the content of the file",
+                new TextOf(input).asString(),
+                new IsEqual<>("Deflated at the best level")
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void failsOnAbsentDirectory() {
+        new Assertion<>(
+            "Must report the failure to the reader",
+            () -> new BytesOf(
+                new Zip(
+                    new Directory(this.folder.getRoot().toPath().resolve("no"))
+                )
+            ).asBytes(),
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
 }
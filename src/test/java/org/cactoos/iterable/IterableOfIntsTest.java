@@ -23,9 +23,12 @@
  */
 package org.cactoos.iterable;
 
+import java.util.stream.StreamSupport;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link IterableOfInts}.
@@ -43,4 +46,33 @@ public final class IterableOfIntsTest {
             Matchers.contains(values[0], values[1], values[2])
         );
     }
+
+    @Test
+    public void splitsValuesWithoutBoxing() {
+        new Assertion<>(
+            "Must sum values by a parallel primitive stream",
+            StreamSupport.intStream(
+                new IterableOfInts(1, 2, 3).spliterator(), true
+            ).sum(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    public void equalsToIterableOfBoxedValues() {
+        new Assertion<>(
+            "Must be equal to the iterable of the same boxed values",
+            new IterableOfInts(1, 2),
+            new IsEqual<>(new IterableOf<Integer>(1, 2))
+        ).affirm();
+    }
+
+    @Test
+    public void hasSameHashCodeAsIterableOfBoxedValues() {
+        new Assertion<>(
+            "Must have the same hash code as the iterable of boxed values",
+            new IterableOfInts(1, 2).hashCode(),
+            new IsEqual<>(new IterableOf<Integer>(1, 2).hashCode())
+        ).affirm();
+    }
 }
@@ -23,9 +23,12 @@
  */
 package org.cactoos.iterable;
 
+import java.util.stream.StreamSupport;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link IterableOfLongs}.
@@ -43,4 +46,33 @@ public final class IterableOfLongsTest {
             Matchers.contains(values[0], values[1], values[2])
         );
     }
+
+    @Test
+    public void splitsValuesWithoutBoxing() {
+        new Assertion<>(
+            "Must sum values by a parallel primitive stream",
+            StreamSupport.longStream(
+                new IterableOfLongs(1L, 2L, 3L).spliterator(), true
+            ).sum(),
+            new IsEqual<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    public void equalsToIterableOfBoxedValues() {
+        new Assertion<>(
+            "Must be equal to the iterable of the same boxed values",
+            new IterableOfLongs(1L, 2L),
+            new IsEqual<>(new IterableOf<Long>(1L, 2L))
+        ).affirm();
+    }
+
+    @Test
+    public void hasSameHashCodeAsIterableOfBoxedValues() {
+        new Assertion<>(
+            "Must have the same hash code as the iterable of boxed values",
+            new IterableOfLongs(1L, 2L).hashCode(),
+            new IsEqual<>(new IterableOf<Long>(1L, 2L).hashCode())
+        ).affirm();
+    }
 }
@@ -24,6 +24,8 @@
 package org.cactoos.iterable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.cactoos.iterator.IteratorOf;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.scalar.Ternary;
@@ -33,6 +35,7 @@ import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsIterableWithSize;
 import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link IterableOf}.
@@ -132,4 +135,27 @@ public final class IterableOfTest {
             )
         );
     }
+
+    @Test
+    public void splitsArrayInHalves() {
+        final Spliterator<Integer> spliterator =
+            new IterableOf<>(1, 2, 3, 4).spliterator();
+        spliterator.trySplit();
+        new Assertion<>(
+            "Must leave the second half of the array",
+            spliterator.estimateSize(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    public void streamsArrayInParallel() {
+        new Assertion<>(
+            "Must sum the array in a parallel stream",
+            StreamSupport.stream(
+                new IterableOf<>(1, 2, 3, 4, 5).spliterator(), true
+            ).mapToInt(Integer::intValue).sum(),
+            new IsEqual<>(15)
+        ).affirm();
+    }
 }
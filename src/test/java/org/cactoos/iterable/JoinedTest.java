@@ -23,11 +23,16 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.Func;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link Joined}.
@@ -96,4 +101,46 @@ public final class JoinedTest {
         );
     }
 
+    @Test
+    public void sizesJoinedSpliterator() {
+        new Assertion<>(
+            "Must sum up the sizes of the parts",
+            new Joined<Integer>(
+                new IterableOf<>(1, 2),
+                new IterableOf<>(3, 4, 5)
+            ).spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(5L)
+        ).affirm();
+    }
+
+    @Test
+    public void splitsBetweenParts() {
+        final Spliterator<String> spliterator = new Joined<String>(
+            new IterableOf<>("a", "b"),
+            new IterableOf<>("c"),
+            new IterableOf<>("d", "e")
+        ).spliterator();
+        spliterator.trySplit();
+        new Assertion<>(
+            "Must leave the second half of the parts",
+            spliterator.estimateSize(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    public void keepsOrderInParallelStream() {
+        new Assertion<>(
+            "Must keep the order of items in a parallel stream",
+            StreamSupport.stream(
+                new Joined<String>(
+                    new IterableOf<>("a", "b"),
+                    new IterableOf<>("c", "d"),
+                    new IterableOf<>("e")
+                ).spliterator(),
+                true
+            ).collect(Collectors.joining()),
+            new IsEqual<>("abcde")
+        ).affirm();
+    }
 }
@@ -24,13 +24,17 @@
 package org.cactoos.iterable;
 
 import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.Text;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.cactoos.text.Upper;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link Mapped}.
@@ -77,4 +81,29 @@ public final class MappedTest {
             Matchers.equalTo("2, 4, 6")
         );
     }
+
+    @Test
+    public void sizesMappedSpliterator() {
+        new Assertion<>(
+            "Must have the size of the source",
+            new Mapped<>(
+                x -> x * 2, new IterableOf<>(1, 2, 3)
+            ).spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    public void mapsInParallelStream() {
+        new Assertion<>(
+            "Must map the items in a parallel stream",
+            StreamSupport.stream(
+                new Mapped<>(
+                    String::valueOf, new IterableOf<>(1, 2, 3, 4)
+                ).spliterator(),
+                true
+            ).collect(Collectors.joining()),
+            new IsEqual<>("1234")
+        ).affirm();
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Parallel}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ParallelTest {
+
+    @Test
+    public void streamsInParallel() {
+        new Assertion<>(
+            "Must make a parallel stream",
+            new Parallel<>(1, 2, 3).stream().isParallel(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsRange() {
+        new Assertion<>(
+            "Must sum up the range",
+            new Parallel<>(
+                new RangeOf<>(1L, 100_000L, x -> x + 1L)
+            ).stream().mapToLong(Long::longValue).sum(),
+            new IsEqual<>(5_000_050_000L)
+        ).affirm();
+    }
+
+    @Test
+    public void sizesUnsizedSource() {
+        new Assertion<>(
+            "Must know the size of the range",
+            new Parallel<>(
+                new RangeOf<>(1, 10, x -> x + 1)
+            ).spliterator().hasCharacteristics(Spliterator.SUBSIZED),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void iteratesItems() {
+        new Assertion<>(
+            "Must iterate the source",
+            new Parallel<>("a", "b"),
+            new IsEqual<>(new IterableOf<>("a", "b"))
+        ).affirm();
+    }
+}
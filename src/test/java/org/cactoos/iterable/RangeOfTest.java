@@ -25,11 +25,15 @@ package org.cactoos.iterable;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.cactoos.Func;
 import org.cactoos.collection.CollectionOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test of range implementation.
@@ -116,4 +120,24 @@ public class RangeOfTest {
         );
     }
 
+    @Test
+    public void streamsRangeInParallel() {
+        new Assertion<>(
+            "Must sum the range in a parallel stream",
+            StreamSupport.stream(
+                new RangeOf<>(1L, 10_000L, x -> x + 1L).spliterator(), true
+            ).mapToLong(Long::longValue).sum(),
+            new IsEqual<>(50_005_000L)
+        ).affirm();
+    }
+
+    @Test
+    public void reportsSortedItems() {
+        new Assertion<>(
+            "Must report the range as sorted",
+            new RangeOf<>(1, 5, x -> x + 1).spliterator()
+                .hasCharacteristics(Spliterator.SORTED),
+            new IsEqual<>(true)
+        ).affirm();
+    }
 }
@@ -73,4 +73,15 @@ public final class IteratorOfDoublesTest {
         iterator.next();
         return iterator;
     }
+
+    @Test
+    public void returnsPrimitiveValues() {
+        final IteratorOfDoubles iterator = new IteratorOfDoubles(1.0, 2.0);
+        iterator.nextDouble();
+        MatcherAssert.assertThat(
+            "nextDouble doesn't return the second value.",
+            iterator.nextDouble(),
+            new IsEqual<>(2.0)
+        );
+    }
 }
@@ -67,4 +67,15 @@ public final class IteratorOfIntsTest {
         iterator.next();
         iterator.next();
     }
+
+    @Test
+    public void returnsPrimitiveValues() {
+        final IteratorOfInts iterator = new IteratorOfInts(1, 2);
+        iterator.nextInt();
+        MatcherAssert.assertThat(
+            "nextInt doesn't return the second value.",
+            iterator.nextInt(),
+            new IsEqual<>(2)
+        );
+    }
 }
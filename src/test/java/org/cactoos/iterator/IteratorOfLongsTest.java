@@ -67,4 +67,15 @@ public final class IteratorOfLongsTest {
         iterator.next();
         iterator.next();
     }
+
+    @Test
+    public void returnsPrimitiveValues() {
+        final IteratorOfLongs iterator = new IteratorOfLongs(1L, 2L);
+        iterator.nextLong();
+        MatcherAssert.assertThat(
+            "nextLong doesn't return the second value.",
+            iterator.nextLong(),
+            new IsEqual<>(2L)
+        );
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MappedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class MappedIntsTest {
+
+    @Test
+    public void mapsValues() {
+        final MappedInts iterator = new MappedInts(
+            x -> x * 2, new IteratorOfInts(1, 3)
+        );
+        iterator.nextInt();
+        new Assertion<>(
+            "Must map the second value",
+            iterator.nextInt(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    public void hasNoNextWhenSourceIsOver() {
+        new Assertion<>(
+            "Must not have next value for empty source",
+            new MappedInts(x -> x, new IteratorOfInts()).hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void failsWhenSourceIsOver() {
+        new MappedInts(x -> x, new IteratorOfInts()).nextInt();
+    }
+}
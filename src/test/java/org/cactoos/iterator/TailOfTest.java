@@ -23,8 +23,10 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -92,4 +94,44 @@ public final class TailOfTest {
             )
         ).next();
     }
+
+    @Test
+    public void tailsLongIterator() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't get tail portion of a long iterator",
+            () -> new TailOf<>(
+                3,
+                new RangeOf<>(1, 100_000, x -> x + 1).iterator()
+            ),
+            Matchers.contains(99_998, 99_999, 100_000)
+        );
+    }
+
+    @Test
+    public void keepsNullElements() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't keep null elements in the tail",
+            () -> new TailOf<>(
+                3,
+                Arrays.asList("one", null, "two", null).iterator()
+            ),
+            Matchers.contains(null, "two", null)
+        );
+    }
+
+    @Test
+    public void tailsBeyondPresizedRing() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't get a tail longer than the presized ring",
+            new LengthOf(
+                new IterableOf<>(
+                    new TailOf<>(
+                        5000,
+                        new RangeOf<>(1, 10_000, x -> x + 1).iterator()
+                    )
+                )
+            ).intValue(),
+            Matchers.equalTo(5000)
+        );
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Materialized}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class MaterializedTest {
+
+    @Test
+    public void copiesCollection() throws Exception {
+        final List<String> src = new ArrayList<>(Arrays.asList("a", "b"));
+        final List<String> copy = new Materialized<>(src).value();
+        src.add("c");
+        new Assertion<>(
+            "Must copy the collection",
+            copy,
+            new IsEqual<>(Arrays.asList("a", "b"))
+        ).affirm();
+    }
+
+    @Test
+    public void copiesIterable() throws Exception {
+        new Assertion<>(
+            "Must copy the iterable",
+            new Materialized<>(new IterableOf<>(1, 2, 3)).value(),
+            new IsEqual<>(Arrays.asList(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    public void copiesIterator() throws Exception {
+        new Assertion<>(
+            "Must copy the iterator",
+            new Materialized<>(Arrays.asList(4, 5).iterator()).value(),
+            new IsEqual<>(Arrays.asList(4, 5))
+        ).affirm();
+    }
+
+    @Test
+    public void copiesUnsizedIterable() throws Exception {
+        new Assertion<>(
+            "Must copy an iterable of unknown size",
+            new Materialized<>(new RangeOf<>(1, 5, x -> x + 1)).value(),
+            new IsEqual<>(Arrays.asList(1, 2, 3, 4, 5))
+        ).affirm();
+    }
+
+    @Test
+    public void readsSourceOnce() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        new Materialized<>(
+            () -> {
+                reads.incrementAndGet();
+                return Arrays.asList(1, 2).iterator();
+            }
+        ).value();
+        new Assertion<>(
+            "Must read the source only once",
+            reads.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void returnsRandomAccessList() throws Exception {
+        new Assertion<>(
+            "Must return a random access list",
+            new Materialized<>(new IterableOf<>("x", "y")).value()
+                instanceof RandomAccess,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void returnsModifiableList() throws Exception {
+        final List<Integer> list = new Materialized<>(
+            new IterableOf<>(1)
+        ).value();
+        list.add(2);
+        new Assertion<>(
+            "Must return a modifiable list",
+            list,
+            new IsEqual<>(Arrays.asList(1, 2))
+        ).affirm();
+    }
+
+}
@@ -41,8 +41,10 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.MatcherOf;
 import org.llorllale.cactoos.matchers.ScalarHasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -337,4 +339,34 @@ public final class AndInThreadsTest {
         );
     }
 
+    @Test
+    public void worksWithBound() throws Exception {
+        MatcherAssert.assertThat(
+            new AndInThreads(
+                1,
+                new ListOf<Scalar<Boolean>>(
+                    new Constant<Boolean>(true),
+                    new Constant<Boolean>(false)
+                )
+            ).value(),
+            Matchers.equalTo(false)
+        );
+    }
+
+    @Test
+    public void failsOnFirstError() {
+        new Assertion<>(
+            "Must rethrow the failure of a task",
+            () -> new AndInThreads(
+                new ListOf<Scalar<Boolean>>(
+                    new Constant<Boolean>(true),
+                    () -> {
+                        throw new IllegalStateException("No value");
+                    }
+                )
+            ).value(),
+            new Throws<>("No value", IllegalStateException.class)
+        ).affirm();
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link AvgOfInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class AvgOfInThreadsTest {
+
+    @Test
+    public void averagesRangeInParallel() {
+        new Assertion<>(
+            "Must find the average of the range",
+            new AvgOfInThreads(
+                ForkJoinPool.commonPool(),
+                32,
+                new RangeOf<>(1, 10_000, x -> x + 1)
+            ).doubleValue(),
+            new IsEqual<>(5000.5)
+        ).affirm();
+    }
+
+    @Test
+    public void averagesArray() {
+        new Assertion<>(
+            "Must find the average of the array",
+            new AvgOfInThreads(1.0, 2.0, 4.5).doubleValue(),
+            new IsEqual<>(2.5)
+        ).affirm();
+    }
+
+    @Test
+    public void averagesNothing() {
+        new Assertion<>(
+            "Must be zero for no numbers",
+            new AvgOfInThreads(new Integer[0]).intValue(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
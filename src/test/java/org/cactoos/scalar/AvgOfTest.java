@@ -23,12 +23,15 @@
  */
 package org.cactoos.scalar;
 
+import java.math.MathContext;
 import java.util.Collections;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link AvgOf}.
@@ -371,4 +374,37 @@ public final class AvgOfTest {
             Matchers.equalTo(3)
         );
     }
+
+    @Test
+    public void averagesLongsExactly() {
+        new Assertion<>(
+            "Must not lose precision of integral average",
+            new AvgOf(3L, 4L).doubleValue(),
+            new IsEqual<>(3.5)
+        ).affirm();
+    }
+
+    @Test
+    public void averagesInBigDecimal() {
+        new Assertion<>(
+            "Must average in the given context",
+            new AvgOf(
+                MathContext.DECIMAL128,
+                new IterableOf<Scalar<Number>>(() -> 1, () -> 2)
+            ).doubleValue(),
+            new IsEqual<>(1.5)
+        ).affirm();
+    }
+
+    @Test
+    public void averagesNothingInBigDecimal() {
+        new Assertion<>(
+            "Must be zero for no numbers",
+            new AvgOf(
+                MathContext.DECIMAL128,
+                Collections.<Scalar<Number>>emptyList()
+            ).doubleValue(),
+            new IsEqual<>(0.0)
+        ).affirm();
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link FoldedInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class FoldedInThreadsTest {
+
+    @Test
+    public void foldsRangeInParallel() throws Exception {
+        new Assertion<>(
+            "Must fold all the items of the range",
+            new FoldedInThreads<Long, Long>(
+                new ForkJoinPool(4),
+                100,
+                0L,
+                (sum, item) -> sum + item,
+                (left, right) -> left + right,
+                new RangeOf<>(1L, 100_000L, x -> x + 1L)
+            ).value(),
+            new IsEqual<>(5_000_050_000L)
+        ).affirm();
+    }
+
+    @Test
+    public void keepsEncounterOrder() throws Exception {
+        final Integer[] items = new Integer[1000];
+        final StringBuilder expected = new StringBuilder();
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = idx;
+            expected.append(idx);
+        }
+        new Assertion<>(
+            "Must combine the parts in the order of items",
+            new FoldedInThreads<String, Integer>(
+                ForkJoinPool.commonPool(),
+                10,
+                "",
+                (text, item) -> text + item,
+                (left, right) -> left + right,
+                new ListOf<>(items)
+            ).value(),
+            new IsEqual<>(expected.toString())
+        ).affirm();
+    }
+
+    @Test
+    public void foldsArray() throws Exception {
+        new Assertion<>(
+            "Must fold the array",
+            new FoldedInThreads<Integer, Integer>(
+                1, (acc, item) -> acc * item, (left, right) -> left * right,
+                2, 3, 4
+            ).value(),
+            new IsEqual<>(24)
+        ).affirm();
+    }
+
+    @Test(expected = IOException.class)
+    public void rethrowsOriginalException() throws Exception {
+        new FoldedInThreads<Integer, Integer>(
+            ForkJoinPool.commonPool(),
+            1,
+            0,
+            (acc, item) -> {
+                throw new IOException("Can't fold");
+            },
+            (left, right) -> left + right,
+            new RangeOf<>(1, 100, x -> x + 1)
+        ).value();
+    }
+}
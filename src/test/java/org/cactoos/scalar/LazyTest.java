@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.ScalarHasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Lazy}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class LazyTest {
+
+    @Test
+    public void calculatesOnlyOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Lazy<>(calls::incrementAndGet);
+        scalar.value();
+        new Assertion<>(
+            "Must calculate the value only once",
+            scalar,
+            new ScalarHasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void cachesNull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Lazy<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "Must not calculate NULL again",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void retriesAfterFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Lazy<>(
+            () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("First call fails");
+                }
+                return calls.get();
+            }
+        );
+        new Assertion<>(
+            "Must throw the exception of the origin",
+            scalar,
+            new Throws<>("First call fails", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value again",
+            scalar,
+            new ScalarHasValue<>(2)
+        ).affirm();
+    }
+
+    @Test
+    public void cachesFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Lazy<>(
+            () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("Failure is cached");
+                }
+                return calls.get();
+            },
+            true
+        );
+        new Assertion<>(
+            "Must throw the exception of the origin",
+            scalar,
+            new Throws<>("Failure is cached", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must throw the cached exception",
+            scalar,
+            new Throws<>("Failure is cached", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not call the origin again",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    public void worksInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must calculate the value once in multiple threads",
+            scalar -> scalar.value() == 1,
+            new RunsInThreads<>(
+                new Lazy<>(
+                    () -> {
+                        Thread.sleep(10L);
+                        return calls.incrementAndGet();
+                    }
+                )
+            )
+        ).affirm();
+    }
+}
@@ -26,7 +26,9 @@ package org.cactoos.scalar;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link MaxOf}.
@@ -149,4 +151,21 @@ public final class MaxOfTest {
         );
     }
 
+    @Test
+    public void findsNegativeMax() {
+        new Assertion<>(
+            "Must find max among negative numbers",
+            new MaxOf(-3.0, -2.0).doubleValue(),
+            new IsEqual<>(-2.0)
+        ).affirm();
+    }
+
+    @Test
+    public void findsExactLongMax() {
+        new Assertion<>(
+            "Must find max long without precision loss",
+            new MaxOf(Long.MAX_VALUE - 1L, Long.MAX_VALUE).longValue(),
+            new IsEqual<>(Long.MAX_VALUE)
+        ).affirm();
+    }
 }
@@ -26,7 +26,9 @@ package org.cactoos.scalar;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link MinOf}.
@@ -149,4 +151,21 @@ public final class MinOfTest {
         );
     }
 
+    @Test
+    public void findsMinOfMixedNumbers() {
+        new Assertion<>(
+            "Must find min among mixed numbers",
+            new MinOf(new ListOf<Number>(2L, 1.5, 3)).doubleValue(),
+            new IsEqual<>(1.5)
+        ).affirm();
+    }
+
+    @Test
+    public void findsExactLongMin() {
+        new Assertion<>(
+            "Must find min long without precision loss",
+            new MinOf(Long.MIN_VALUE + 1L, Long.MIN_VALUE).longValue(),
+            new IsEqual<>(Long.MIN_VALUE)
+        ).affirm();
+    }
 }
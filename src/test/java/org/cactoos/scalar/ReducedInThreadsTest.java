@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ReducedInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class ReducedInThreadsTest {
+
+    @Test
+    public void reducesRangeInParallel() throws Exception {
+        new Assertion<>(
+            "Must reduce all the items of the range",
+            new ReducedInThreads<Long>(
+                new ForkJoinPool(3),
+                7,
+                Long::sum,
+                new RangeOf<>(1L, 10_000L, x -> x + 1L)
+            ).value(),
+            new IsEqual<>(50_005_000L)
+        ).affirm();
+    }
+
+    @Test
+    public void keepsEncounterOrder() throws Exception {
+        new Assertion<>(
+            "Must reduce the parts in the order of items",
+            new ReducedInThreads<String>(
+                ForkJoinPool.commonPool(),
+                1,
+                (first, second) -> first + second,
+                new IterableOf<>("a", "b", "c", "d", "e")
+            ).value(),
+            new IsEqual<>("abcde")
+        ).affirm();
+    }
+
+    @Test
+    public void reducesSingleItem() throws Exception {
+        new Assertion<>(
+            "Must return the single item",
+            new ReducedInThreads<>(Math::max, 42).value(),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void failsForEmptyIterable() throws Exception {
+        new ReducedInThreads<Integer>(Math::max).value();
+    }
+
+    @Test
+    public void reducesNullItems() throws Exception {
+        new Assertion<>(
+            "Must reduce NULL items like Reduced does",
+            new ReducedInThreads<String>(
+                ForkJoinPool.commonPool(),
+                1,
+                (first, second) -> first + second,
+                Arrays.asList(null, "a", null, "b")
+            ).value(),
+            new IsEqual<>("nullanullb")
+        ).affirm();
+    }
+
+    @Test
+    public void reducesToNull() throws Exception {
+        new Assertion<>(
+            "Must allow the function to return NULL",
+            new ReducedInThreads<String>(
+                ForkJoinPool.commonPool(),
+                1,
+                (first, second) -> null,
+                Arrays.asList("a", "b", "c", "d")
+            ).value(),
+            new IsEqual<>(null)
+        ).affirm();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SumOfInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class SumOfInThreadsTest {
+
+    @Test
+    public void sumsRangeInParallel() {
+        new Assertion<>(
+            "Must sum up all the numbers of the range",
+            new SumOfInThreads(
+                ForkJoinPool.commonPool(),
+                64,
+                new RangeOf<>(1L, 100_000L, x -> x + 1L)
+            ).longValue(),
+            new IsEqual<>(5_000_050_000L)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsAsSequentialSum() {
+        final List<Double> numbers = new ArrayList<>(10_000);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            numbers.add(0.1);
+        }
+        new Assertion<>(
+            "Must sum up the same way as sequential sum",
+            new SumOfInThreads(new ForkJoinPool(4), 10, numbers)
+                .doubleValue(),
+            new IsEqual<>(new SumOf(numbers).doubleValue())
+        ).affirm();
+    }
+
+    @Test
+    public void sumsOverflownLongs() {
+        new Assertion<>(
+            "Must not overflow in parts",
+            new SumOfInThreads(
+                ForkJoinPool.commonPool(),
+                1,
+                Arrays.asList(Long.MAX_VALUE, Long.MAX_VALUE, -2L)
+            ).doubleValue(),
+            new IsEqual<>(2.0 * Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsArray() {
+        new Assertion<>(
+            "Must sum up the array",
+            new SumOfInThreads(1, 2, 3).intValue(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+}
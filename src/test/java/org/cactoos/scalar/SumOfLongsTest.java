@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.IterableOfLongs;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SumOfLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class SumOfLongsTest {
+
+    @Test
+    public void sumsValues() {
+        new Assertion<>(
+            "Must sum all the values",
+            new SumOfLongs(
+                new IterableOfLongs(1L, 2L, 3L)
+            ).doubleValue(),
+            new IsEqual<>(6.0)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsNothing() {
+        new Assertion<>(
+            "Must be zero for no values",
+            new SumOfLongs().intValue(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    public void keepsLongPrecision() {
+        new Assertion<>(
+            "Must not lose precision of big longs",
+            new SumOfLongs(Long.MAX_VALUE - 1L, 1L).longValue(),
+            new IsEqual<>(Long.MAX_VALUE)
+        ).affirm();
+    }
+}
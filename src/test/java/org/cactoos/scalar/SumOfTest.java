@@ -23,12 +23,16 @@
  */
 package org.cactoos.scalar;
 
+import java.math.MathContext;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.collection.CollectionOf;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Test case for {@link SumOf}.
@@ -145,4 +149,72 @@ public final class SumOfTest {
             new IsEqual<>(4294967300f)
         );
     }
+
+    @Test
+    public void sumsLongsExactly() {
+        new Assertion<>(
+            "Must not lose precision of big longs",
+            new SumOf(Long.MAX_VALUE - 2L, 1L).longValue(),
+            new IsEqual<>(Long.MAX_VALUE - 1L)
+        ).affirm();
+    }
+
+    @Test
+    public void compensatesFloatingError() {
+        new Assertion<>(
+            "Must compensate the rounding errors",
+            new SumOf(1.0e100, 1.0, -1.0e100).doubleValue(),
+            new IsEqual<>(1.0)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsOverflownLongs() {
+        new Assertion<>(
+            "Must continue with the sum after an overflow",
+            new SumOf(Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE)
+                .doubleValue(),
+            new IsEqual<>((double) Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectsInfiniteValues() {
+        new SumOf(1.0, Double.POSITIVE_INFINITY).doubleValue();
+    }
+
+    @Test
+    public void sumsOnlyOnce() {
+        final AtomicInteger reads = new AtomicInteger();
+        final SumOf sum = new SumOf(
+            new Mapped<>(
+                number -> {
+                    reads.incrementAndGet();
+                    return number;
+                },
+                new IterableOf<>(1, 2, 3)
+            )
+        );
+        sum.intValue();
+        sum.longValue();
+        sum.floatValue();
+        sum.doubleValue();
+        new Assertion<>(
+            "Must read the numbers once",
+            reads.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    public void sumsInBigDecimal() {
+        new Assertion<>(
+            "Must sum up in the given context",
+            new SumOf(
+                MathContext.DECIMAL32,
+                new IterableOf<>(0.1, 0.2)
+            ).doubleValue(),
+            new IsEqual<>(0.3)
+        ).affirm();
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CompiledPattern}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class CompiledPatternTest {
+
+    @Test
+    public void compilesRegex() throws Exception {
+        new Assertion<>(
+            "Must compile the regex",
+            new CompiledPattern("[a-z]+").value().matcher("abc").matches(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    public void reusesCompiledPattern() throws Exception {
+        final Pattern first = new CompiledPattern("c[a-z]+s").value();
+        new Assertion<>(
+            "Must take the pattern from the shared cache",
+            new CompiledPattern("c[a-z]+s").value() == first,
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must compile another regex separately",
+            new CompiledPattern("d[a-z]+s").value(),
+            new IsNot<>(new IsEqual<>(first))
+        ).affirm();
+    }
+
+}
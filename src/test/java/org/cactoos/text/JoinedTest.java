@@ -56,4 +56,15 @@ public final class JoinedTest {
         ).affirm();
     }
 
+    @Test
+    public void joinsRopes() {
+        new Assertion<>(
+            "Can't join ropes",
+            new Joined(
+                new TextOf(", "),
+                new Rope("a").concat("b"), new TextOf("c"), new Rope()
+            ),
+            new TextHasString("ab, c, ")
+        ).affirm();
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.cactoos.text;
 
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.TextHasString;
@@ -43,4 +44,17 @@ public final class NormalizedTest {
         ).affirm();
     }
 
+    @Test
+    public void normalizesLikeRegex() throws Exception {
+        for (final String text : new String[] {
+            "", "   ", "a", " a ", "a\u000Bb", "\u0001a \u0002 b\u0001",
+            "x\r\n\r\ny", "\f a \t\t b \n",
+        }) {
+            new Assertion<>(
+                "Must normalize like trim and a regex",
+                new Normalized(text).asString(),
+                new IsEqual<>(text.trim().replaceAll("\\s+", " "))
+            ).affirm();
+        }
+    }
 }
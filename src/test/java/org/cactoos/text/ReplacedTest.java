@@ -26,6 +26,9 @@ package org.cactoos.text;
 import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.TextHasString;
@@ -190,4 +193,63 @@ public final class ReplacedTest {
             new TextHasString("3 3 GHI1JKL")
         ).affirm();
     }
+
+    @Test
+    public void expandsGroupsLikeString() throws Exception {
+        final String text = "john.smith@example.com, jane@test.org";
+        final String regex = "(?<user>[a-z.]+)@([a-z]+)\\.([a-z]+)";
+        for (final String replace : new String[] {
+            "$2", "${user} at $2", "\\$1", "$10", "[$0]", "\\\\",
+        }) {
+            new Assertion<>(
+                "Must expand group references like String",
+                new Replaced(new TextOf(text), regex, replace).asString(),
+                new IsEqual<>(text.replaceAll(regex, replace))
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void replacesLiteral() throws Exception {
+        new Assertion<>(
+            "Must replace a literal",
+            new Replaced(new TextOf("a.b.c"), "\\.", "_"),
+            new TextHasString("a_b_c")
+        ).affirm();
+    }
+
+    @Test
+    public void replacesManyLiterals() throws Exception {
+        new Assertion<>(
+            "Must replace many literals in one pass",
+            new Replaced(
+                new TextOf("ushers say she is his hero"),
+                new MapOf<String, String>(
+                    new MapEntry<>("he", "HE"),
+                    new MapEntry<>("she", "SHE"),
+                    new MapEntry<>("his", "HIS"),
+                    new MapEntry<>("hers", "HERS"),
+                    new MapEntry<>("hero", "HERO")
+                )
+            ),
+            new TextHasString("uSHErs say SHE is HIS HERO")
+        ).affirm();
+    }
+
+    @Test
+    public void replacesLongestLiteralFirst() throws Exception {
+        new Assertion<>(
+            "Must prefer the leftmost and then the longest literal",
+            new Replaced(
+                new TextOf("abcd bcd abx"),
+                new MapOf<String, String>(
+                    new MapEntry<>("bcd", "1"),
+                    new MapEntry<>("ab", "2"),
+                    new MapEntry<>("abc", "3"),
+                    new MapEntry<>("x", "4")
+                )
+            ),
+            new TextHasString("3d 1 24")
+        ).affirm();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2019 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.cactoos.io.OutputTo;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.TextHasString;
+
+/**
+ * Test case for {@link Rope}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class RopeTest {
+
+    @Test
+    public void concatenates() {
+        new Assertion<>(
+            "Can't concatenate",
+            new Rope("Hello").concat(", ").concat(new Rope("world!")),
+            new TextHasString("Hello, world!")
+        ).affirm();
+    }
+
+    @Test
+    public void cutsLikeString() {
+        final String text = new Repeated("0123456789", 100).toString();
+        final Rope rope = new Rope(text.substring(0, 500))
+            .concat(text.substring(500));
+        new Assertion<>(
+            "Can't cut across pieces",
+            rope.subSequence(495, 507).toString(),
+            new IsEqual<>(text.substring(495, 507))
+        ).affirm();
+    }
+
+    @Test
+    public void indexesCharacters() {
+        final Rope rope = new Rope(new Repeated("a", 300).toString())
+            .concat(new Repeated("b", 300).toString());
+        new Assertion<>(
+            "Can't find a character",
+            rope.charAt(300),
+            new IsEqual<>('b')
+        ).affirm();
+    }
+
+    @Test(expected = StringIndexOutOfBoundsException.class)
+    public void rejectsBadRange() {
+        new Rope("abc").subSequence(2, 4);
+    }
+
+    @Test
+    public void appendsManyPieces() {
+        final StringBuilder expected = new StringBuilder();
+        Rope rope = new Rope();
+        for (int idx = 0; idx < 100_000; ++idx) {
+            final String piece = Integer.toString(idx);
+            expected.append(piece);
+            rope = rope.concat(piece);
+        }
+        new Assertion<>(
+            "Can't append many pieces",
+            rope.asString(),
+            new IsEqual<>(expected.toString())
+        ).affirm();
+    }
+
+    @Test
+    public void behavesLikeString() {
+        final Random random = new Random(42L);
+        String expected = "";
+        Rope rope = new Rope();
+        for (int idx = 0; idx < 2000; ++idx) {
+            if (random.nextInt(3) == 0 && expected.length() > 1) {
+                final int start = random.nextInt(expected.length());
+                final int end = start
+                    + random.nextInt(expected.length() - start + 1);
+                expected = expected.substring(start, end);
+                rope = rope.subSequence(start, end);
+            } else {
+                final String piece = new Repeated(
+                    Integer.toString(idx), random.nextInt(200)
+                ).toString();
+                if (random.nextBoolean()) {
+                    expected = expected.concat(piece);
+                    rope = rope.concat(piece);
+                } else {
+                    expected = piece.concat(expected);
+                    rope = new Rope(piece).concat(rope);
+                }
+            }
+        }
+        new Assertion<>(
+            "Can't keep the characters",
+            rope.asString(),
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    public void writesWithoutFlattening() throws Exception {
+        final StringWriter writer = new StringWriter();
+        new Rope("abc").concat(new Repeated("d", 300).toString())
+            .subSequence(1, 6).writeTo(writer);
+        new Assertion<>(
+            "Can't write to a writer",
+            writer.toString(),
+            new IsEqual<>("bcddd")
+        ).affirm();
+    }
+
+    @Test
+    public void writesToOutput() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new Rope("привет, ").concat("мир").writeTo(
+            new OutputTo(stream), StandardCharsets.UTF_8
+        );
+        new Assertion<>(
+            "Can't write to an output",
+            new String(stream.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("привет, мир")
+        ).affirm();
+    }
+
+    @Test
+    public void equalsToText() {
+        new Assertion<>(
+            "Can't compare to a text",
+            new Rope("ab").concat("c"),
+            new IsEqual<>(new Rope("abc"))
+        ).affirm();
+    }
+}
@@ -23,8 +23,15 @@
  */
 package org.cactoos.text;
 
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterator.HeadOf;
+import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.TextHasString;
@@ -33,6 +40,7 @@ import org.llorllale.cactoos.matchers.TextHasString;
  * Test case for {@link Split}.
  * @since 0.9
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class SplitTest {
 
@@ -92,4 +100,77 @@ public final class SplitTest {
             new TextHasString("Split")
         ).affirm();
     }
+
+    @Test
+    public void splitsLikeString() throws Exception {
+        final String[] texts = {
+            "", ",", ",,", "a", "a,b", ",a,,b,,", "a,,b", "  a b  ",
+        };
+        final String[] regexes = {",", "\\s", "\\s+", "", "x*", "(?=b)", ","};
+        for (final String text : texts) {
+            for (final String regex : regexes) {
+                for (final int limit : new int[] {-1, 0, 1, 2, 3}) {
+                    new Assertion<>(
+                        String.join(" ", "Must split like String", text, regex),
+                        new ListOf<>(
+                            new Mapped<>(
+                                Text::asString,
+                                new Split(new TextOf(text), regex, limit)
+                            )
+                        ),
+                        new IsEqual<>(new ListOf<>(text.split(regex, limit)))
+                    ).affirm();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void splitsByLiteral() throws Exception {
+        new Assertion<>(
+            "Must split by a literal delimiter",
+            new ListOf<>(
+                new Mapped<>(
+                    Text::asString,
+                    new Split(new TextOf("a.b..c."), "\\.")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "", "c"))
+        ).affirm();
+    }
+
+    @Test
+    public void splitsWithPattern() throws Exception {
+        new Assertion<>(
+            "Must split with a precompiled pattern and a limit",
+            new ListOf<>(
+                new Mapped<>(
+                    Text::asString,
+                    new Split(
+                        new TextOf("one1two22three"),
+                        Pattern.compile("\\d+"),
+                        2
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>("one", "two22three"))
+        ).affirm();
+    }
+
+    @Test
+    public void takesFirstToken() throws Exception {
+        final Iterator<Text> head = new HeadOf<>(
+            1, new Split("first second third", " ").iterator()
+        );
+        new Assertion<>(
+            "Must take the first token of a split",
+            head.next().asString(),
+            new IsEqual<>("first")
+        ).affirm();
+        new Assertion<>(
+            "Must stop after the first token",
+            head.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
 }
@@ -53,4 +53,13 @@ public final class SubTest {
         ).affirm();
     }
 
+    @Test
+    public void cutsRope() {
+        new Assertion<>(
+            "Can't cut a rope",
+            // @checkstyle MagicNumber (1 line)
+            new Sub(new Rope("hello ").concat("rope").concat(" world"), 4, 12),
+            new TextHasString("o rope w")
+        ).affirm();
+    }
 }